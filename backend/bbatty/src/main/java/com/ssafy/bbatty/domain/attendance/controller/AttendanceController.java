@@ -38,7 +38,7 @@ public class AttendanceController {
         Long userId = userPrincipal.getUserId();
         log.info("직관 인증 요청 - userId: {}", userId);
         
-        AttendanceVerifyResponse response = attendanceService.verifyAttendance(userId, request);
+        AttendanceVerifyResponse response = attendanceService.verifyAttendance(userId, userPrincipal.getTeamId(), request);
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -0,0 +1,37 @@
+package com.ssafy.bbatty.domain.attendance.dto.redis;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.ssafy.bbatty.domain.game.entity.Game;
+
+/**
+ * 사용자 직관 기록 (user:attendance:records:{user_id}:{season} Sorted Set 멤버)
+ * - 필드 순서를 고정하여 같은 경기 정보는 항상 같은 멤버 문자열로 직렬화
+ * - dateTime은 기존 기록과 같은 LocalDateTime.toString() 형식 유지 (통계 서버 파서 호환)
+ */
+@JsonPropertyOrder({"gameId", "homeTeam", "awayTeam", "dateTime", "stadium", "status", "homeScore", "awayScore", "result"})
+public record AttendanceGameRecord(
+        Long gameId,
+        String homeTeam,
+        String awayTeam,
+        String dateTime,
+        String stadium,
+        String status,
+        Integer homeScore,
+        Integer awayScore,
+        String result
+) {
+
+    public static AttendanceGameRecord from(Game game) {
+        return new AttendanceGameRecord(
+                game.getId(),
+                game.getHomeTeam().getName(),
+                game.getAwayTeam().getName(),
+                game.getDateTime().toString(),
+                game.getStadium(),
+                game.getStatus().name(),
+                game.getHomeScore(),
+                game.getAwayScore(),
+                game.getResult() != null ? game.getResult().name() : null
+        );
+    }
+}
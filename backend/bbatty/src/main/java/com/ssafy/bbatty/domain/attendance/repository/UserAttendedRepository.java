@@ -20,6 +20,16 @@ public interface UserAttendedRepository extends JpaRepository<UserAttended, User
      */
     boolean existsByUserIdAndGameId(Long userId, Long gameId);
     
+    /**
+     * 직관 기록 저장 (이미 인증한 경기면 무시)
+     * 중복 확인 SELECT와 JPA merge 조회 없이 INSERT 1회로 처리
+     * 
+     * @return 저장된 행 수 (0이면 이미 인증한 경기)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_attended (user_id, game_id) VALUES (:userId, :gameId)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("gameId") Long gameId);
+    
     /**
      * 회원 탈퇴 시 사용자의 모든 직관 기록 하드 삭제 (물리적 삭제)
      */
@@ -0,0 +1,131 @@
+package com.ssafy.bbatty.domain.attendance.repository.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bbatty.domain.attendance.dto.redis.AttendanceGameRecord;
+import com.ssafy.bbatty.domain.game.entity.Game;
+import com.ssafy.bbatty.global.constants.RedisKey;
+import com.ssafy.bbatty.global.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 직관 인증 Redis 기록 Repository
+ * - 시즌/통산 직관 기록, 당일 인증자 목록(전체/팀별), 경기별 인증 여부를 Lua 스크립트 1회로 함께 기록
+ *   (일부만 기록되어 통계가 어긋나는 상황 방지, Redis 왕복 1회)
+ * - 인자는 RedisTemplate 값 직렬화기로 변환되어 기존 조회 코드와 같은 형식으로 저장됨
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AttendanceRecordRedisRepository {
+
+    private static final String ATTENDED_VALUE = "ATTENDED";
+    private static final Duration DAILY_ATTENDEES_TTL = Duration.ofDays(2);
+
+    // KEYS[1] = 시즌 기록, KEYS[2] = 통산 기록, KEYS[3] = 당일 인증자 Hash, KEYS[4] = 경기별 인증 여부,
+    // KEYS[5] = 당일 팀별 인증자 Set
+    // ARGV[1] = 경기 시각(score), ARGV[2] = 직관 기록, ARGV[3] = userId, ARGV[4] = teamId:gameId,
+    // ARGV[5] = 당일 인증자 TTL(초), ARGV[6] = 인증 값, ARGV[7] = 인증 여부 TTL(초)
+    private static final RedisScript<Long> RECORD_ATTENDANCE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[1], ARGV[2]) " +
+            "redis.call('HSET', KEYS[3], ARGV[3], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[5]) " +
+            "redis.call('SET', KEYS[4], ARGV[6], 'EX', ARGV[7]) " +
+            "redis.call('SADD', KEYS[5], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[5], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 직관 인증 결과 기록
+     *
+     * @param userId 사용자 ID
+     * @param teamId 사용자 팀 ID
+     * @param game 인증된 경기
+     * @param today 인증 날짜 (한국 시간)
+     */
+    public void saveAttendance(Long userId, Long teamId, Game game, LocalDate today) {
+        String recordsKey = RedisKey.USER_ATTENDANCE_RECORDS + userId + ":";
+        List<String> keys = List.of(
+                recordsKey + game.getDateTime().getYear(),
+                recordsKey + "total",
+                RedisKey.ATTENDANCE_DAILY_ATTENDEES + today,
+                RedisKey.USER_ATTENDANCE_GAME + userId + ":" + game.getId(),
+                teamAttendeesKey(teamId, today));
+
+        // 당일 자정까지 (최소 1초, EX 0은 오류)
+        long attendedTtlSeconds = Math.max(1, DateUtil.calculateTTLUntilMidnight().getSeconds());
+
+        redisTemplate.execute(RECORD_ATTENDANCE_SCRIPT, keys,
+                toScore(game),
+                toMember(game),
+                userId,
+                teamId + ":" + game.getId(),
+                DAILY_ATTENDEES_TTL.getSeconds(),
+                ATTENDED_VALUE,
+                attendedTtlSeconds);
+
+        log.info("Redis 직관 인증 기록 완료 - userId: {}, gameId: {}, TTL={}초", userId, game.getId(), attendedTtlSeconds);
+    }
+
+    /**
+     * 당일 팀별 직관 인증 사용자 ID 조회 (SMEMBERS 1회)
+     */
+    public Set<Long> findTeamAttendees(Long teamId, LocalDate date) {
+        Set<Object> members = redisTemplate.opsForSet().members(teamAttendeesKey(teamId, date));
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> userIds = new HashSet<>(members.size() * 2);
+        for (Object member : members) {
+            if (member instanceof Number number) {
+                userIds.add(number.longValue());
+            } else if (member != null) {
+                userIds.add(Long.valueOf(member.toString()));
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 직관 기록 Sorted Set 멤버 (고정 필드 순서 JSON)
+     */
+    public String toMember(Game game) {
+        try {
+            return objectMapper.writeValueAsString(AttendanceGameRecord.from(game));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("직관 기록 직렬화 실패: gameId=" + game.getId(), e);
+        }
+    }
+
+    /**
+     * 직관 기록 정렬용 스코어 (경기 시각, 한국 시간 기준 epoch millis)
+     */
+    public long toScore(Game game) {
+        return game.getDateTime()
+                .atZone(ZoneId.of("Asia/Seoul"))
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private String teamAttendeesKey(Long teamId, LocalDate date) {
+        return RedisKey.ATTENDANCE_TEAM_ATTENDEES + date + ":" + teamId;
+    }
+}
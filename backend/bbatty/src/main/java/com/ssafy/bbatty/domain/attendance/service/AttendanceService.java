@@ -12,8 +12,9 @@ public interface AttendanceService {
      * 직관 인증 처리
      * 
      * @param userId 사용자 ID (JWT에서 추출)
+     * @param teamId 사용자 팀 ID (JWT에서 추출, 클레임이 없는 토큰이면 null)
      * @param request 위치 정보 요청
      * @return 인증 결과
      */
-    AttendanceVerifyResponse verifyAttendance(Long userId, AttendanceVerifyRequest request);
+    AttendanceVerifyResponse verifyAttendance(Long userId, Long teamId, AttendanceVerifyRequest request);
 }
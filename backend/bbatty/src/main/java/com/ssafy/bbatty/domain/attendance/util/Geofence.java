@@ -0,0 +1,159 @@
+package com.ssafy.bbatty.domain.attendance.util;
+
+import com.ssafy.bbatty.global.constants.Attendance;
+
+/**
+ * 경기장 지오펜스 (원형 / 다각형)
+ * - 중심 좌표의 라디안, 코사인 값과 경계 상자(bounding box)를 생성 시 한 번만 계산
+ * - 포함 여부는 경계 상자로 먼저 걸러낸 뒤 상자 안의 좌표만 정밀 판정
+ *   (원형: Haversine 거리, 다각형: ray casting)
+ * - 모든 연산은 double 기본형으로 처리하여 요청마다 객체 생성 없음
+ */
+public final class Geofence {
+
+    private final double centerLatitude;
+    private final double centerLongitude;
+    private final double centerLatRad;
+    private final double centerLonRad;
+    private final double centerCosLat;
+
+    // 원형 반경 (다각형이면 사용하지 않음)
+    private final double radiusKm;
+
+    // 다각형 꼭짓점 (원형이면 null)
+    private final double[] polygonLatitudes;
+    private final double[] polygonLongitudes;
+
+    // 경계 상자 (도 단위)
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private Geofence(double centerLatitude, double centerLongitude, double radiusKm,
+                     double[] polygonLatitudes, double[] polygonLongitudes,
+                     double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this.centerLatitude = centerLatitude;
+        this.centerLongitude = centerLongitude;
+        this.centerLatRad = Math.toRadians(centerLatitude);
+        this.centerLonRad = Math.toRadians(centerLongitude);
+        this.centerCosLat = Math.cos(centerLatRad);
+        this.radiusKm = radiusKm;
+        this.polygonLatitudes = polygonLatitudes;
+        this.polygonLongitudes = polygonLongitudes;
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    /**
+     * 원형 지오펜스 생성
+     * 경계 상자는 Haversine 판정보다 항상 넓게 잡아 상자 밖 좌표는 확실히 범위 밖
+     *
+     * @param centerLatitude 중심 위도
+     * @param centerLongitude 중심 경도
+     * @param radiusKm 반경 (킬로미터)
+     */
+    public static Geofence circle(double centerLatitude, double centerLongitude, double radiusKm) {
+        double deltaLat = Math.toDegrees(radiusKm / Attendance.EARTH_RADIUS_KM);
+        // 경도 1도의 거리는 고위도일수록 짧으므로 상자 내 가장 고위도 기준으로 계산
+        double farthestLat = Math.min(90.0, Math.abs(centerLatitude) + deltaLat);
+        double cosFarthest = Math.cos(Math.toRadians(farthestLat));
+        double deltaLon = cosFarthest > 1e-12 ? Math.min(180.0, deltaLat / cosFarthest) : 180.0;
+
+        return new Geofence(centerLatitude, centerLongitude, radiusKm, null, null,
+                centerLatitude - deltaLat, centerLatitude + deltaLat,
+                centerLongitude - deltaLon, centerLongitude + deltaLon);
+    }
+
+    /**
+     * 다각형 지오펜스 생성 (경기장 부지가 원형이 아닌 경우)
+     * 경기장 하나 규모에서는 위경도를 평면 좌표로 보고 판정해도 오차가 무시할 수준
+     *
+     * @param centerLatitude 거리 계산 기준 위도 (응답의 경기장 거리 표시용)
+     * @param centerLongitude 거리 계산 기준 경도
+     * @param latitudes 꼭짓점 위도 (순서대로, 닫는 점 생략)
+     * @param longitudes 꼭짓점 경도
+     */
+    public static Geofence polygon(double centerLatitude, double centerLongitude,
+                                   double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length || latitudes.length < 3) {
+            throw new IllegalArgumentException("다각형은 위경도 쌍이 3개 이상 필요합니다");
+        }
+
+        double minLat = Double.POSITIVE_INFINITY;
+        double maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY;
+        double maxLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < latitudes.length; i++) {
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLon = Math.min(minLon, longitudes[i]);
+            maxLon = Math.max(maxLon, longitudes[i]);
+        }
+
+        return new Geofence(centerLatitude, centerLongitude, 0.0,
+                latitudes.clone(), longitudes.clone(), minLat, maxLat, minLon, maxLon);
+    }
+
+    /**
+     * 좌표가 지오펜스 안에 있는지 확인 (경계 상자 -> 정밀 판정)
+     */
+    public boolean contains(double latitude, double longitude) {
+        if (latitude < minLatitude || latitude > maxLatitude
+                || longitude < minLongitude || longitude > maxLongitude) {
+            return false;
+        }
+        if (polygonLatitudes != null) {
+            return containsInPolygon(latitude, longitude);
+        }
+        return distanceKm(latitude, longitude) <= radiusKm;
+    }
+
+    /**
+     * 중심까지의 거리 (Haversine, 킬로미터)
+     */
+    public double distanceKm(double latitude, double longitude) {
+        double latRad = Math.toRadians(latitude);
+        double sinHalfDeltaLat = Math.sin((latRad - centerLatRad) * 0.5);
+        double sinHalfDeltaLon = Math.sin((Math.toRadians(longitude) - centerLonRad) * 0.5);
+
+        double a = sinHalfDeltaLat * sinHalfDeltaLat
+                + centerCosLat * Math.cos(latRad) * sinHalfDeltaLon * sinHalfDeltaLon;
+
+        return Attendance.EARTH_RADIUS_KM * 2 * Math.asin(Math.sqrt(Math.min(1.0, a)));
+    }
+
+    public boolean isPolygon() {
+        return polygonLatitudes != null;
+    }
+
+    public double getCenterLatitude() {
+        return centerLatitude;
+    }
+
+    public double getCenterLongitude() {
+        return centerLongitude;
+    }
+
+    /**
+     * Ray casting: 좌표에서 경도 증가 방향으로 그은 반직선이 변과 교차하는 횟수가 홀수면 내부
+     */
+    private boolean containsInPolygon(double latitude, double longitude) {
+        boolean inside = false;
+        int n = polygonLatitudes.length;
+        for (int i = 0, j = n - 1; i < n; j = i++) {
+            double latI = polygonLatitudes[i];
+            double latJ = polygonLatitudes[j];
+            if ((latI > latitude) != (latJ > latitude)) {
+                double crossLon = polygonLongitudes[i]
+                        + (latitude - latI) * (polygonLongitudes[j] - polygonLongitudes[i]) / (latJ - latI);
+                if (longitude < crossLon) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+}
@@ -6,14 +6,21 @@ import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.exception.ApiException;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * 위치 관련 유틸리티 클래스
  * - Haversine 공식을 이용한 거리 계산
- * - 경기장 범위 내 위치 검증
+ * - 경기장 범위 내 위치 검증 (경기장별 Geofence를 미리 만들어 두고 double 연산으로 판정)
  */
 public class LocationUtil {
     
+    // 경기장별 지오펜스 (좌표 변환/삼각함수 값은 클래스 로딩 시 한 번만 계산)
+    private static final Map<Stadium, Geofence> STADIUM_GEOFENCES = createStadiumGeofences();
+    
     /**
      * 두 지점 간의 거리를 계산 (Haversine 공식)
      * 
@@ -30,28 +37,31 @@ public class LocationUtil {
             throw new ApiException(ErrorCode.INVALID_COORDINATES);
         }
         
-        try {
-            // BigDecimal을 double로 변환
-            double lat1Rad = Math.toRadians(lat1.doubleValue());
-            double lon1Rad = Math.toRadians(lon1.doubleValue());
-            double lat2Rad = Math.toRadians(lat2.doubleValue());
-            double lon2Rad = Math.toRadians(lon2.doubleValue());
-            
-            // Haversine 공식 적용
-            double deltaLat = lat2Rad - lat1Rad;
-            double deltaLon = lon2Rad - lon1Rad;
-            
-            double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                      Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                      Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
-            
-            double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-            
-            return Attendance.EARTH_RADIUS_KM * c;
-            
-        } catch (Exception e) {
-            throw new ApiException(ErrorCode.GPS_CALCULATION_ERROR);
-        }
+        return calculateDistance(lat1.doubleValue(), lon1.doubleValue(), lat2.doubleValue(), lon2.doubleValue());
+    }
+    
+    /**
+     * 두 지점 간의 거리를 계산 (Haversine 공식, double 좌표)
+     * 
+     * @return 거리 (킬로미터)
+     */
+    public static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double sinHalfDeltaLat = Math.sin((lat2Rad - lat1Rad) * 0.5);
+        double sinHalfDeltaLon = Math.sin(Math.toRadians(lon2 - lon1) * 0.5);
+        
+        double a = sinHalfDeltaLat * sinHalfDeltaLat +
+                  Math.cos(lat1Rad) * Math.cos(lat2Rad) * sinHalfDeltaLon * sinHalfDeltaLon;
+        
+        return Attendance.EARTH_RADIUS_KM * 2 * Math.asin(Math.sqrt(Math.min(1.0, a)));
+    }
+    
+    /**
+     * 경기장 지오펜스 조회
+     */
+    public static Geofence getGeofence(Stadium stadium) {
+        return STADIUM_GEOFENCES.get(stadium);
     }
     
     /**
@@ -60,42 +70,83 @@ public class LocationUtil {
      * @param userLat 사용자 위도
      * @param userLon 사용자 경도
      * @param stadium 경기장 정보
-     * @return 범위 내 여부와 거리 정보
+     * @return 범위 내 여부와 거리 정보 (거리는 조회할 때 계산)
      */
     public static LocationValidationResult validateStadiumLocation(
             BigDecimal userLat, BigDecimal userLon, 
             Stadium stadium) {
         
-        double distance = calculateDistance(
-            userLat, userLon,
-            stadium.getLatitude(), stadium.getLongitude()
-        );
+        if (userLat == null || userLon == null) {
+            throw new ApiException(ErrorCode.INVALID_COORDINATES);
+        }
+        
+        double latitude = userLat.doubleValue();
+        double longitude = userLon.doubleValue();
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude)) {
+            throw new ApiException(ErrorCode.GPS_CALCULATION_ERROR);
+        }
         
-        boolean withinRange = distance <= Attendance.STADIUM_RADIUS_KM;
+        Geofence geofence = STADIUM_GEOFENCES.get(stadium);
+        boolean withinRange = geofence.contains(latitude, longitude);
         
-        return LocationValidationResult.of(withinRange, distance, stadium);
+        return new LocationValidationResult(withinRange, geofence, latitude, longitude, stadium);
+    }
+    
+    /**
+     * 경기장별 지오펜스 생성
+     * 부지 형태가 원형과 크게 다른 경기장은 Geofence.polygon으로 교체하여 등록
+     */
+    private static Map<Stadium, Geofence> createStadiumGeofences() {
+        Map<Stadium, Geofence> geofences = new EnumMap<>(Stadium.class);
+        Arrays.stream(Stadium.values()).forEach(stadium -> geofences.put(stadium, Geofence.circle(
+                stadium.getLatitude().doubleValue(),
+                stadium.getLongitude().doubleValue(),
+                Attendance.STADIUM_RADIUS_KM)));
+        return Collections.unmodifiableMap(geofences);
     }
 
     /**
-     * 위치 검증 결과를 담는 레코드
+     * 위치 검증 결과
+     * 출석 검증은 범위 내 여부만, 응답 생성은 거리만 사용하므로 거리는 조회 시점에 계산
      */
-    public record LocationValidationResult(
-            boolean withinRange,
-            double distanceKm,
-            String stadiumName,
-            BigDecimal stadiumLatitude,
-            BigDecimal stadiumLongitude
-    ) {
-        
-        public static LocationValidationResult of(boolean withinRange, double distance, 
-                                                Stadium stadium) {
-            return new LocationValidationResult(
-                withinRange,
-                distance,
-                stadium.getStadiumName(),
-                stadium.getLatitude(),
-                stadium.getLongitude()
-            );
+    public static final class LocationValidationResult {
+        
+        private final boolean withinRange;
+        private final Geofence geofence;
+        private final double userLatitude;
+        private final double userLongitude;
+        private final Stadium stadium;
+        
+        private LocationValidationResult(boolean withinRange, Geofence geofence,
+                                         double userLatitude, double userLongitude, Stadium stadium) {
+            this.withinRange = withinRange;
+            this.geofence = geofence;
+            this.userLatitude = userLatitude;
+            this.userLongitude = userLongitude;
+            this.stadium = stadium;
+        }
+        
+        public boolean withinRange() {
+            return withinRange;
+        }
+        
+        /**
+         * 경기장 중심까지의 거리 (킬로미터)
+         */
+        public double distanceKm() {
+            return geofence.distanceKm(userLatitude, userLongitude);
+        }
+        
+        public String stadiumName() {
+            return stadium.getStadiumName();
+        }
+        
+        public BigDecimal stadiumLatitude() {
+            return stadium.getLatitude();
+        }
+        
+        public BigDecimal stadiumLongitude() {
+            return stadium.getLongitude();
         }
         
         /**
@@ -111,7 +162,7 @@ public class LocationUtil {
          * 거리를 미터 단위로 반환
          */
         public double getDistanceMeters() {
-            return distanceKm * 1000;
+            return distanceKm() * 1000;
         }
     }
 }
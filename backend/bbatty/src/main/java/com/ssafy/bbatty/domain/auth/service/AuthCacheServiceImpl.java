@@ -1,18 +1,13 @@
 package com.ssafy.bbatty.domain.auth.service;
 
-import com.ssafy.bbatty.global.constants.ErrorCode;
-import com.ssafy.bbatty.global.constants.RedisKey;
 import com.ssafy.bbatty.global.exception.ApiException;
+import com.ssafy.bbatty.global.security.TokenBlacklistStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.time.Duration;
 import java.util.Date;
 
 import static com.ssafy.bbatty.global.constants.ErrorCode.*;
@@ -28,27 +23,14 @@ import static com.ssafy.bbatty.global.constants.ErrorCode.*;
 public class AuthCacheServiceImpl implements AuthCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenBlacklistStore tokenBlacklistStore;
 
     /**
      * JWT 토큰을 블랙리스트에 추가
-     * Redis 연결 실패 시 로그만 남기고 계속 진행 (Graceful Degradation)
+     * 해시 키 저장과 인스턴스 간 전파는 TokenBlacklistStore가 담당 (인증 필터와 동일 저장소)
      */
     public void blacklistToken(String token, Date expiration) {
-        try {
-            String key = RedisKey.AUTH_TOKEN_BLACKLIST + hashToken(token);
-            long ttl = expiration.getTime() - System.currentTimeMillis();
-
-            if (ttl > 0) {
-                redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofMillis(ttl));
-                log.debug("토큰 블랙리스트 추가: key={}", key);
-            }
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis 연결 실패로 토큰 블랙리스트 추가 실패: {}", e.getMessage());
-            // Graceful Degradation: JWT 자체 만료 시간으로 보안 유지
-        } catch (Exception e) {
-            log.error("토큰 블랙리스트 추가 중 예상치 못한 오류: {}", e.getMessage());
-            // 예상치 못한 오류의 경우 계속 진행하되 로그 남김
-        }
+        tokenBlacklistStore.blacklist(token, expiration);
     }
 
     /**
@@ -59,18 +41,7 @@ public class AuthCacheServiceImpl implements AuthCacheService {
      * @return 블랙리스트에 있으면 true, 없거나 Redis 오류 시 false
      */
     public boolean isTokenBlacklisted(String token) {
-        try {
-            String key = RedisKey.AUTH_TOKEN_BLACKLIST + hashToken(token);
-            return redisTemplate.hasKey(key);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis 연결 실패로 토큰 블랙리스트 확인 실패: {}", e.getMessage());
-            // Graceful Degradation: 보수적 접근으로 false 반환
-            return false;
-        } catch (Exception e) {
-            log.error("토큰 블랙리스트 확인 중 예상치 못한 오류: {}", e.getMessage());
-            // 예상치 못한 오류의 경우 보수적 접근으로 false 반환
-            return false;
-        }
+        return tokenBlacklistStore.isBlacklisted(token);
     }
 
     /**
@@ -90,21 +61,4 @@ public class AuthCacheServiceImpl implements AuthCacheService {
             throw new ApiException(REDIS_OPERATION_FAILED);
         }
     }
-
-    /**
-     * 토큰 보안을 위한 SHA-256 해시 처리
-     * - 충돌 가능성 최소화
-     * - 보안 표준 준수
-     */
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            // Base64 인코딩
-            return java.util.Base64.getEncoder().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 알고리즘을 찾을 수 없음: {}", e.getMessage());
-            throw new ApiException(SHA_256_NOT_FOUND);
-        }
-    }
-}
\ No newline at end of file
+}
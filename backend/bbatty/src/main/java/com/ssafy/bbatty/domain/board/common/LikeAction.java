@@ -1,6 +0,0 @@
-package com.ssafy.bbatty.domain.board.common;
-
-public enum LikeAction {
-    LIKE,
-    UNLIKE
-}
\ No newline at end of file
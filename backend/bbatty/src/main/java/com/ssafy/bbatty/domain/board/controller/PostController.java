@@ -16,7 +16,13 @@ import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.constants.SuccessCode;
 import com.ssafy.bbatty.global.exception.ApiException;
 import com.ssafy.bbatty.global.response.ApiResponse;
+import com.ssafy.bbatty.global.s3.S3MultipartUploadService;
 import com.ssafy.bbatty.global.s3.S3Service;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadCompleteRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateResponse;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadPartsRequest;
+import com.ssafy.bbatty.global.s3.dto.PresignedPartResponse;
 import com.ssafy.bbatty.global.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,8 +40,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostController {
 
+    // 게시글 이미지 업로드 경로 (PostImageService 이미지 URL 패턴과 일치)
+    private static final String IMAGE_DIRECTORY = "posts";
+
     private final PostService postService;
     private final S3Service s3Service;
+    private final S3MultipartUploadService s3MultipartUploadService;
     private final PostCountService postCountService;
     private final PostImageService postImageService;
     private final PopularPostService popularPostService;
@@ -174,6 +184,63 @@ public class PostController {
         }
     }
 
+    /**
+     * 이미지 멀티파트 업로드 시작 (클라이언트가 S3로 직접 업로드)
+     */
+    @PostMapping("/images/multipart")
+    public ResponseEntity<ApiResponse<MultipartUploadInitiateResponse>> initiateMultipartUpload(
+            @Valid @RequestBody MultipartUploadInitiateRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        MultipartUploadInitiateResponse response = s3MultipartUploadService.initiate(IMAGE_DIRECTORY, userPrincipal.getUserId(), request);
+
+        return ResponseEntity.status(SuccessCode.SUCCESS_DEFAULT.getStatus())
+                .body(ApiResponse.success(SuccessCode.SUCCESS_DEFAULT, response));
+    }
+
+    /**
+     * 이미지 파트 업로드용 Presigned URL 발급
+     */
+    @PostMapping("/images/multipart/parts")
+    public ResponseEntity<ApiResponse<List<PresignedPartResponse>>> presignMultipartUploadParts(
+            @Valid @RequestBody MultipartUploadPartsRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        List<PresignedPartResponse> response = s3MultipartUploadService.presignParts(IMAGE_DIRECTORY, userPrincipal.getUserId(), request);
+
+        return ResponseEntity.status(SuccessCode.SUCCESS_DEFAULT.getStatus())
+                .body(ApiResponse.success(SuccessCode.SUCCESS_DEFAULT, response));
+    }
+
+    /**
+     * 이미지 멀티파트 업로드 완료 (게시글 본문에 넣을 이미지 URL 반환)
+     */
+    @PostMapping("/images/multipart/complete")
+    public ResponseEntity<ApiResponse<String>> completeMultipartUpload(
+            @Valid @RequestBody MultipartUploadCompleteRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        String response = s3MultipartUploadService.complete(IMAGE_DIRECTORY, userPrincipal.getUserId(), request);
+
+        return ResponseEntity.status(SuccessCode.SUCCESS_DEFAULT.getStatus())
+                .body(ApiResponse.success(SuccessCode.SUCCESS_DEFAULT, response));
+    }
+
+    /**
+     * 이미지 멀티파트 업로드 취소
+     */
+    @DeleteMapping("/images/multipart")
+    public ResponseEntity<ApiResponse<Void>> abortMultipartUpload(
+            @RequestParam String filePath,
+            @RequestParam String uploadId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        s3MultipartUploadService.abort(IMAGE_DIRECTORY, userPrincipal.getUserId(), filePath, uploadId);
+
+        return ResponseEntity.status(SuccessCode.SUCCESS_DELETED.getStatus())
+                .body(ApiResponse.success(SuccessCode.SUCCESS_DELETED));
+    }
+
     /**
      * 게시글의 특정 이미지 삭제 (소프트 삭제)
      */
@@ -208,6 +275,20 @@ public class PostController {
                 .body(ApiResponse.success(SuccessCode.SUCCESS_DEFAULT, response));
     }
 
+    /**
+     * 팀별 검색어 자동완성
+     */
+    @GetMapping("/team/{teamId}/search/suggest")
+    public ResponseEntity<ApiResponse<List<String>>> suggestSearchKeywords(
+            @PathVariable Long teamId,
+            @RequestParam String prefix) {
+
+        List<String> response = postService.suggestSearchKeywords(teamId, prefix);
+
+        return ResponseEntity.status(SuccessCode.SUCCESS_DEFAULT.getStatus())
+                .body(ApiResponse.success(SuccessCode.SUCCESS_DEFAULT, response));
+    }
+
     /**
      * 팀별 뉴스 요약 조회
      */
@@ -0,0 +1,11 @@
+package com.ssafy.bbatty.domain.board.dto.response;
+
+/**
+ * 게시글 카운트 묶음 (조회수, 좋아요 수, 댓글 수)
+ */
+public record PostCountDto(
+        Integer viewCount,
+        Integer likeCount,
+        Integer commentCount
+) {
+}
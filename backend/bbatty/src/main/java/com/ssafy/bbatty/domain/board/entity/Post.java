@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -38,6 +39,19 @@ public class Post {
     
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
+
+    // 비정규화 카운터 (좋아요/댓글은 트랜잭션 내 갱신, 조회수는 조회 로그 적재 시 일괄 반영)
+    @ColumnDefault("0")
+    @Column(name = "view_count", nullable = false)
+    private Integer viewCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
     
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
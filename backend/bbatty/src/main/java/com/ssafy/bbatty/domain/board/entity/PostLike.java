@@ -1,6 +1,5 @@
 package com.ssafy.bbatty.domain.board.entity;
 
-import com.ssafy.bbatty.domain.board.common.LikeAction;
 import com.ssafy.bbatty.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -9,8 +8,12 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
+/**
+ * 게시글 좋아요 현재 상태 (행이 있으면 좋아요, 사용자당 게시글 1개)
+ */
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like",
+       uniqueConstraints = @UniqueConstraint(name = "uk_post_like_post_user", columnNames = {"post_id", "user_id"}))
 @Getter
 @Setter
 public class PostLike {
@@ -26,11 +29,6 @@ public class PostLike {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
-
-    // LIKE 또는 UNLIKE
-    @Enumerated(EnumType.STRING)
-    @Column(name = "like_action", nullable = false)
-    private LikeAction likeAction;
     
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
@@ -38,9 +36,8 @@ public class PostLike {
     
     public PostLike() {}
     
-    public PostLike(User user, Post post, LikeAction likeAction) {
+    public PostLike(User user, Post post) {
         this.user = user;
         this.post = post;
-        this.likeAction = likeAction;
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 게시물 이벤트를 Kafka로 전송하는 Producer
  */
@@ -31,6 +33,15 @@ public class PostEventKafkaProducer {
         sendEvent(eventDto, POST_VIEW_TOPIC, "VIEW");
     }
     
+    /**
+     * 게시물 조회 이벤트 일괄 전송 (프로듀서 linger 동안 같은 파티션 레코드가 한 요청으로 묶임)
+     */
+    public void sendViewEvents(List<PostEventDto> eventDtos) {
+        for (PostEventDto eventDto : eventDtos) {
+            sendEvent(eventDto, POST_VIEW_TOPIC, "VIEW");
+        }
+    }
+
     /**
      * 게시물 좋아요 이벤트를 Kafka로 전송
      */
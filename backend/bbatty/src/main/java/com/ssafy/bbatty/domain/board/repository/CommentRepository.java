@@ -1,27 +1,44 @@
 package com.ssafy.bbatty.domain.board.repository;
 
 import com.ssafy.bbatty.domain.board.entity.Comment;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
-    // 특정 게시글의 댓글 조회 (부모 댓글만, depth=0)
-    List<Comment> findByPostIdAndDepthOrderByCreatedAtAsc(Long postId, int depth);
+    // 특정 게시글의 댓글 조회 (부모 댓글만, depth=0, 작성자 및 작성자 상세(EAGER userInfo) 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u LEFT JOIN FETCH u.userInfo " +
+           "WHERE c.post.id = :postId AND c.depth = 0 ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findParentsByPostId(@Param("postId") Long postId);
     
-    // 특정 부모 댓글의 대댓글 조회 (depth=1)
-    List<Comment> findByParentIdOrderByCreatedAtAsc(Long parentId);
+    // 여러 부모 댓글의 대댓글 일괄 조회 (depth=1, 작성자 및 작성자 상세(EAGER userInfo) 함께 조회)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u LEFT JOIN FETCH u.userInfo " +
+           "WHERE c.parent.id IN :parentIds ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
     
     // 특정 게시글의 총 댓글 수 조회
     Integer countByPostId(Long postId);
     
-    // 페이지네이션을 위한 댓글 조회 메소드들
-    Page<Comment> findByPostIdAndDepthOrderByIdDesc(Long postId, int depth, Pageable pageable);
+    // 페이지네이션을 위한 부모 댓글 조회 - 첫 페이지 (idx_post_created 키셋, COUNT 쿼리 없음)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u LEFT JOIN FETCH u.userInfo " +
+           "WHERE c.post.id = :postId AND c.depth = 0 ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findParentPageByPostId(@Param("postId") Long postId, Pageable pageable);
     
-    Page<Comment> findByPostIdAndDepthAndIdLessThanOrderByIdDesc(Long postId, int depth, Long cursor, Pageable pageable);
+    // 페이지네이션을 위한 부모 댓글 조회 - 커서 이후 (커서 댓글의 (created_at, id) 기준 키셋)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u LEFT JOIN FETCH u.userInfo " +
+           "WHERE c.post.id = :postId AND c.depth = 0 " +
+           "AND (c.createdAt < (SELECT cc.createdAt FROM Comment cc WHERE cc.id = :cursor) " +
+           "  OR (c.createdAt = (SELECT cc.createdAt FROM Comment cc WHERE cc.id = :cursor) AND c.id < :cursor)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findParentPageByPostIdAfterCursor(@Param("postId") Long postId,
+                                                     @Param("cursor") Long cursor,
+                                                     Pageable pageable);
 }
@@ -0,0 +1,39 @@
+package com.ssafy.bbatty.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 이미지 대량 적재용 JDBC 리포지토리
+ * IDENTITY 전략 엔티티는 JPA 배치 insert가 불가하므로 multi-row INSERT로 직접 적재
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostImageBulkRepository {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글 이미지 일괄 저장 (INSERT 1문장당 최대 500행)
+     */
+    public void insertAll(Long postId, List<String> imageUrls) {
+        for (int from = 0; from < imageUrls.size(); from += ROWS_PER_STATEMENT) {
+            List<String> chunk = imageUrls.subList(from, Math.min(from + ROWS_PER_STATEMENT, imageUrls.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO post_image (post_id, image_url, is_deleted) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?, false)" : ", (?, ?, false)");
+                args.add(postId);
+                args.add(chunk.get(i));
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.ssafy.bbatty.domain.board.repository;
 
 import com.ssafy.bbatty.domain.board.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,27 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     List<String> findImageUrlsByPostId(@Param("postId") Long postId);
     
     List<PostImage> findByPostId(Long postId);
+
+    @Query("SELECT pi.imageUrl FROM PostImage pi WHERE pi.post.id = :postId AND pi.isDeleted = false")
+    List<String> findActiveImageUrlsByPostId(@Param("postId") Long postId);
+
+    // 게시글 본문에서 빠진 이미지 일괄 소프트 삭제
+    @Modifying
+    @Query("UPDATE PostImage pi SET pi.isDeleted = true " +
+           "WHERE pi.post.id = :postId AND pi.imageUrl IN :imageUrls AND pi.isDeleted = false")
+    int softDeleteByPostIdAndImageUrlIn(@Param("postId") Long postId, @Param("imageUrls") Collection<String> imageUrls);
+
+    // 게시글의 이미지 전체 일괄 소프트 삭제
+    @Modifying
+    @Query("UPDATE PostImage pi SET pi.isDeleted = true WHERE pi.post.id = :postId AND pi.isDeleted = false")
+    int softDeleteByPostId(@Param("postId") Long postId);
     
     Optional<PostImage> findByPostIdAndImageUrlAndIsDeletedFalse(Long postId, String imageUrl);
+
+    // S3에서 삭제하면 안 되는 이미지 URL: 다른 게시글의 활성 참조가 있거나, 다른 게시글이 먼저 연결한(업로드한) 이미지
+    @Query("SELECT DISTINCT pi.imageUrl FROM PostImage pi WHERE pi.imageUrl IN :imageUrls " +
+           "AND (pi.post IS NULL OR pi.post.id <> :postId) " +
+           "AND (pi.isDeleted = false OR pi.id < " +
+           "(SELECT MIN(own.id) FROM PostImage own WHERE own.post.id = :postId AND own.imageUrl = pi.imageUrl))")
+    List<String> findRetainedImageUrls(@Param("postId") Long postId, @Param("imageUrls") Collection<String> imageUrls);
 }
\ No newline at end of file
@@ -2,18 +2,22 @@ package com.ssafy.bbatty.domain.board.repository;
 
 import com.ssafy.bbatty.domain.board.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
-    
-    @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.post.id = :postId AND pl.likeAction = 'LIKE'")
-    Integer countLikesByPostId(@Param("postId") Long postId);
-    
-    @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.post.id = :postId AND pl.likeAction = 'UNLIKE'")
-    Integer countUnlikesByPostId(@Param("postId") Long postId);
 
+    // 좋아요 추가 - 이미 있으면 무시 (추가된 행 수 반환, uk_post_like_post_user)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, user_id, created_at) VALUES (:postId, :userId, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId);
 
-}
\ No newline at end of file
+    // 좋아요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
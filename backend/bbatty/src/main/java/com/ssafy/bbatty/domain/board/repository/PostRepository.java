@@ -1,56 +1,97 @@
 package com.ssafy.bbatty.domain.board.repository;
 
 import com.ssafy.bbatty.domain.board.entity.Post;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    // 메서드 쿼리를 이용한 커서 기반 페이징 (ID 기준, 생성순 정렬) - 삭제되지 않은 게시글만
-    Page<Post> findByIsDeletedFalseAndIdLessThanOrderByIdDesc(Long cursor, Pageable pageable);
+    // 키셋 페이징 조건: 커서 게시글의 (created_at, id)보다 이전 게시글
+    String JPQL_AFTER_CURSOR =
+            "AND (p.createdAt < (SELECT cp.createdAt FROM Post cp WHERE cp.id = :cursor) " +
+            "  OR (p.createdAt = (SELECT cp.createdAt FROM Post cp WHERE cp.id = :cursor) AND p.id < :cursor)) ";
+
+    // ===== 목록 조회 (created_at, id 역순 키셋 페이징, COUNT 쿼리 없음, 작성자 함께 조회) =====
+
+    // 전체 게시글 조회 - 첫 페이지 (idx_post_latest) - 삭제되지 않은 게시글만
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.isDeleted = false " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findLatest(Pageable pageable);
+
+    // 전체 게시글 조회 - 커서 기반 페이징 (idx_post_latest) - 삭제되지 않은 게시글만
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.isDeleted = false " + JPQL_AFTER_CURSOR +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findLatestAfterCursor(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 팀별 게시글 조회 - 첫 페이지 (idx_team_latest) - 삭제되지 않은 게시글만
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.teamId = :teamId AND p.isDeleted = false " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findLatestByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    // 팀별 게시글 조회 - 커서 기반 페이징 (idx_team_latest) - 삭제되지 않은 게시글만
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.teamId = :teamId AND p.isDeleted = false " + JPQL_AFTER_CURSOR +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findLatestByTeamIdAfterCursor(@Param("teamId") Long teamId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 사용자별 게시글 조회 - 첫 페이지 (idx_user_posts) - 삭제되지 않은 게시글만
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.user.id = :userId AND p.isDeleted = false " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 게시글 조회 - 커서 기반 페이징 (idx_user_posts) - 삭제되지 않은 게시글만
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.user.id = :userId AND p.isDeleted = false " + JPQL_AFTER_CURSOR +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findLatestByUserIdAfterCursor(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
 
-    // 첫 페이지 조회 (전체 조회, 생성순 정렬) - 삭제되지 않은 게시글만
-    Page<Post> findByIsDeletedFalseOrderByIdDesc(Pageable pageable);
+    // ID 목록으로 게시글 일괄 조회 (작성자 함께 조회)
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :postIds")
+    List<Post> findAllWithUserByIdIn(@Param("postIds") Collection<Long> postIds);
 
-    // 팀별 게시글 조회 - 첫 페이지 (생성순 정렬) - 삭제되지 않은 게시글만
-    Page<Post> findByIsDeletedFalseAndTeamIdOrderByIdDesc(Long teamId, Pageable pageable);
+    // ===== 카운터 컬럼 =====
 
-    // 팀별 게시글 조회 - 커서 기반 페이징 (생성순 정렬) - 삭제되지 않은 게시글만
-    Page<Post> findByIsDeletedFalseAndTeamIdAndIdLessThanOrderByIdDesc(Long teamId, Long cursor, Pageable pageable);
+    // 게시글 카운터 일괄 조회 [postId, viewCount, likeCount, commentCount]
+    @Query("SELECT p.id, p.viewCount, p.likeCount, p.commentCount FROM Post p WHERE p.id IN :postIds")
+    List<Object[]> findCountsByIdIn(@Param("postIds") Collection<Long> postIds);
 
-    // 사용자별 게시글 조회 - 첫 페이지 (생성순 정렬) - 삭제되지 않은 게시글만
-    Page<Post> findByIsDeletedFalseAndUserIdOrderByIdDesc(Long userId, Pageable pageable);
+    // 좋아요 수 증감 (updated_at은 수정 시각이므로 유지)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta, p.updatedAt = p.updatedAt WHERE p.id = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
 
-    // 사용자별 게시글 조회 - 커서 기반 페이징 (생성순 정렬) - 삭제되지 않은 게시글만
-    Page<Post> findByIsDeletedFalseAndUserIdAndIdLessThanOrderByIdDesc(Long userId, Long cursor, Pageable pageable);
+    // 댓글 수 증감 (updated_at은 수정 시각이므로 유지)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta, p.updatedAt = p.updatedAt WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
 
-    // ===== 검색 기능 =====
+    // ===== 검색 기능 (기존 정렬 유지, COUNT 쿼리 없음) =====
+    // 키셋 페이징은 목록 조회에만 적용. 검색은 MATCH 결과 집합을 어차피 전부 읽어야 하므로
+    // created_at 정렬로 바꿔도 filesort만 추가되고 관련도 순서를 잃어 기존 정렬을 유지함
     
-    // 팀별 게시글 제목 검색 - 첫 페이지 (FULLTEXT 인덱스 활용)
+    // 팀별 게시글 제목 검색 - 첫 페이지 (FULLTEXT 인덱스 활용, 관련도순)
     @Query(value = "SELECT * FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
            "AND MATCH(p.title) AGAINST(:keyword IN NATURAL LANGUAGE MODE) " +
            "ORDER BY MATCH(p.title) AGAINST(:keyword IN NATURAL LANGUAGE MODE) DESC, p.id DESC",
-           nativeQuery = true,
-           countQuery = "SELECT COUNT(*) FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
-                       "AND MATCH(p.title) AGAINST(:keyword IN NATURAL LANGUAGE MODE)")
-    Page<Post> findByTeamIdAndTitleSearchOrderByIdDesc(
+           nativeQuery = true)
+    Slice<Post> findByTeamIdAndTitleSearch(
         @Param("teamId") Long teamId, 
         @Param("keyword") String keyword, 
         Pageable pageable);
 
-    // 팀별 게시글 제목 검색 - 커서 기반 페이징 (FULLTEXT 인덱스 활용)
+    // 팀별 게시글 제목 검색 - 커서 기반 페이징 (FULLTEXT 인덱스 활용, id 역순)
     @Query(value = "SELECT * FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
            "AND p.id < :cursor AND MATCH(p.title) AGAINST(:keyword IN NATURAL LANGUAGE MODE) " +
            "ORDER BY p.id DESC",
-           nativeQuery = true,
-           countQuery = "SELECT COUNT(*) FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
-                       "AND p.id < :cursor AND MATCH(p.title) AGAINST(:keyword IN NATURAL LANGUAGE MODE)")
-    Page<Post> findByTeamIdAndTitleSearchAndIdLessThanOrderByIdDesc(
+           nativeQuery = true)
+    Slice<Post> findByTeamIdAndTitleSearchAfterCursor(
         @Param("teamId") Long teamId, 
         @Param("keyword") String keyword, 
         @Param("cursor") Long cursor, 
@@ -60,10 +101,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query(value = "SELECT * FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
            "AND p.title LIKE CONCAT('%', :keyword, '%') " +
            "ORDER BY p.id DESC",
-           nativeQuery = true,
-           countQuery = "SELECT COUNT(*) FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
-                       "AND p.title LIKE CONCAT('%', :keyword, '%')")
-    Page<Post> findByTeamIdAndTitleLikeSearchOrderByIdDesc(
+           nativeQuery = true)
+    Slice<Post> findByTeamIdAndTitleLikeSearch(
         @Param("teamId") Long teamId, 
         @Param("keyword") String keyword, 
         Pageable pageable);
@@ -72,10 +111,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query(value = "SELECT * FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
            "AND p.id < :cursor AND p.title LIKE CONCAT('%', :keyword, '%') " +
            "ORDER BY p.id DESC",
-           nativeQuery = true,
-           countQuery = "SELECT COUNT(*) FROM post p WHERE p.team_id = :teamId AND p.is_deleted = false " +
-                       "AND p.id < :cursor AND p.title LIKE CONCAT('%', :keyword, '%')")
-    Page<Post> findByTeamIdAndTitleLikeSearchAndIdLessThanOrderByIdDesc(
+           nativeQuery = true)
+    Slice<Post> findByTeamIdAndTitleLikeSearchAfterCursor(
         @Param("teamId") Long teamId, 
         @Param("keyword") String keyword, 
         @Param("cursor") Long cursor, 
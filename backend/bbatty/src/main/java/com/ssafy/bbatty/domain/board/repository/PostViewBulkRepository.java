@@ -0,0 +1,72 @@
+package com.ssafy.bbatty.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회 로그 대량 적재용 JDBC 리포지토리
+ * IDENTITY 전략 엔티티는 JPA 배치 insert가 불가하므로 multi-row INSERT로 직접 적재하고,
+ * 같은 트랜잭션에서 post.view_count를 게시글별 합계만큼 증가
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewBulkRepository {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 로그 저장 + 게시글 조회수 컬럼 반영
+     */
+    @Transactional
+    public void saveAll(List<PostViewLog> logs) {
+        insertAll(logs);
+
+        Map<Long, Integer> viewsPerPost = new HashMap<>();
+        for (PostViewLog log : logs) {
+            viewsPerPost.merge(log.postId(), 1, Integer::sum);
+        }
+        List<Object[]> args = new ArrayList<>(viewsPerPost.size());
+        viewsPerPost.forEach((postId, views) -> args.add(new Object[]{views, postId}));
+
+        // updated_at은 수정 시각이므로 유지 (ON UPDATE CURRENT_TIMESTAMP 방지)
+        jdbcTemplate.batchUpdate(
+                "UPDATE post SET view_count = view_count + ?, updated_at = updated_at WHERE id = ?", args);
+    }
+
+    /**
+     * 조회 로그 일괄 저장 (INSERT 1문장당 최대 500행)
+     */
+    private void insertAll(List<PostViewLog> logs) {
+        for (int from = 0; from < logs.size(); from += ROWS_PER_STATEMENT) {
+            List<PostViewLog> chunk = logs.subList(from, Math.min(from + ROWS_PER_STATEMENT, logs.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO post_view (user_id, post_id, created_at) VALUES ");
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (int i = 0; i < chunk.size(); i++) {
+                PostViewLog log = chunk.get(i);
+                sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+                args.add(log.userId());
+                args.add(log.postId());
+                args.add(Timestamp.valueOf(log.viewedAt()));
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    /**
+     * 적재 대기 중인 조회 로그
+     */
+    public record PostViewLog(Long postId, Long userId, LocalDateTime viewedAt) {
+    }
+}
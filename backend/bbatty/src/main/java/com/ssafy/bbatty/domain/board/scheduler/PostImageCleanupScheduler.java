@@ -0,0 +1,61 @@
+package com.ssafy.bbatty.domain.board.scheduler;
+
+import com.ssafy.bbatty.global.constants.RedisKey;
+import com.ssafy.bbatty.global.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 이미지 S3 삭제 백그라운드 처리
+ * 게시글 수정/삭제 시 대기열에 쌓인 파일 경로를 주기적으로 꺼내 DeleteObjects 요청으로 일괄 삭제
+ * (LPOP으로 꺼내므로 여러 인스턴스가 동시에 실행해도 중복 삭제 요청 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostImageCleanupScheduler {
+
+    // DeleteObjects 요청 1회 분량
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final S3Service s3Service;
+
+    @Scheduled(fixedDelayString = "${board.image-cleanup.interval-ms:10000}")
+    public void deletePendingImages() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<String> filePaths;
+            try {
+                filePaths = stringRedisTemplate.opsForList().leftPop(RedisKey.BOARD_POST_IMAGE_DELETE_PENDING, BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("게시글 이미지 삭제 대기열 조회 실패: {}", e.getMessage());
+                return;
+            }
+
+            if (filePaths == null || filePaths.isEmpty()) {
+                return;
+            }
+
+            try {
+                List<String> failedPaths = s3Service.deleteFiles(filePaths);
+                if (!failedPaths.isEmpty()) {
+                    // 권한/키 오류 등 개별 실패는 재시도해도 동일하므로 로그만 남김
+                    log.warn("게시글 이미지 S3 일부 삭제 실패: {}건, paths={}", failedPaths.size(), failedPaths);
+                }
+                log.debug("게시글 이미지 S3 삭제 완료: {}건", filePaths.size() - failedPaths.size());
+
+            } catch (Exception e) {
+                // S3 연결 장애 등 요청 단위 실패는 대기열에 되돌려 다음 주기에 재시도
+                log.error("게시글 이미지 S3 삭제 실패, 대기열에 복원: {}건, error={}", filePaths.size(), e.getMessage());
+                stringRedisTemplate.opsForList().rightPushAll(RedisKey.BOARD_POST_IMAGE_DELETE_PENDING, filePaths);
+                return;
+            }
+        }
+    }
+}
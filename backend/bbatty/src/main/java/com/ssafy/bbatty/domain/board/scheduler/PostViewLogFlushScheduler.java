@@ -0,0 +1,91 @@
+package com.ssafy.bbatty.domain.board.scheduler;
+
+import com.ssafy.bbatty.domain.board.repository.PostViewBulkRepository;
+import com.ssafy.bbatty.domain.board.repository.PostViewBulkRepository.PostViewLog;
+import com.ssafy.bbatty.global.constants.RedisKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 조회 로그 write-behind 적재
+ * 조회 시 Redis 대기열에 쌓인 로그를 주기적으로 꺼내 multi-row INSERT로 저장하고 post.view_count에 반영
+ * (LPOP으로 꺼내므로 여러 인스턴스가 동시에 실행해도 중복 적재 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewLogFlushScheduler {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostViewBulkRepository postViewBulkRepository;
+
+    @Scheduled(fixedDelayString = "${board.view-log.flush-interval-ms:5000}")
+    public void flushViewLogs() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<String> entries;
+            try {
+                entries = stringRedisTemplate.opsForList().leftPop(RedisKey.BOARD_POST_VIEW_LOG_PENDING, BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("게시글 조회 로그 대기열 조회 실패: {}", e.getMessage());
+                return;
+            }
+
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+
+            List<PostViewLog> logs = parse(entries);
+            try {
+                postViewBulkRepository.saveAll(logs);
+                log.debug("게시글 조회 로그 적재 완료: {}건", logs.size());
+
+            } catch (DataIntegrityViolationException e) {
+                // 삭제된 사용자/게시글 등 재시도해도 실패하는 로그는 폐기 (조회수 카운터는 Redis에 이미 반영됨)
+                log.warn("게시글 조회 로그 적재 실패로 폐기: {}건, error={}", logs.size(), e.getMessage());
+
+            } catch (Exception e) {
+                // DB 장애 등 일시적 오류는 대기열에 되돌려 다음 주기에 재시도
+                log.error("게시글 조회 로그 적재 실패, 대기열에 복원: {}건, error={}", entries.size(), e.getMessage());
+                stringRedisTemplate.opsForList().rightPushAll(RedisKey.BOARD_POST_VIEW_LOG_PENDING, entries);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기열 항목 파싱: {post_id}:{user_id}:{epoch_millis}
+     */
+    private List<PostViewLog> parse(List<String> entries) {
+        List<PostViewLog> logs = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            String[] parts = entry.split(":");
+            if (parts.length != 3) {
+                log.warn("게시글 조회 로그 형식 오류로 제외: {}", entry);
+                continue;
+            }
+            try {
+                logs.add(new PostViewLog(
+                        Long.valueOf(parts[0]),
+                        Long.valueOf(parts[1]),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault())
+                ));
+            } catch (NumberFormatException e) {
+                log.warn("게시글 조회 로그 형식 오류로 제외: {}", entry);
+            }
+        }
+        return logs;
+    }
+}
@@ -13,15 +13,18 @@ import com.ssafy.bbatty.domain.user.entity.User;
 import com.ssafy.bbatty.domain.user.repository.UserRepository;
 import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.exception.ApiException;
+import com.ssafy.bbatty.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,9 +35,11 @@ public class CommentServiceImpl implements CommentService{
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final PostEventKafkaProducer postEventKafkaProducer;
+    private final PostCountService postCountService;
     private static final int PAGE_SIZE = 10; // 한 번에 가져올 댓글 수
 
     @Override
+    @Transactional
     public Comment createComment(CommentCreateRequest request) {
         Post post = postRepository.findById(request.getPostId())
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
@@ -54,10 +59,12 @@ public class CommentServiceImpl implements CommentService{
         }
 
         Comment savedComment = commentRepository.save(comment);
+        postCountService.incrementCommentCount(post.getId());
         
-        // 3일 이내 작성된 글인지 확인 후 Kafka 이벤트 전송
+        // 3일 이내 작성된 글인지 확인 후 커밋 이후 Kafka 이벤트 전송
         if (post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(3))) {
-            postEventKafkaProducer.sendCommentEvent(post.getId(), request.getUserId(), post.getTeamId(), savedComment.getId());
+            TransactionUtil.runAfterCommit(() -> postEventKafkaProducer.sendCommentEvent(
+                    post.getId(), request.getUserId(), post.getTeamId(), savedComment.getId()));
         }
         
         return savedComment;
@@ -83,55 +90,26 @@ public class CommentServiceImpl implements CommentService{
     @Override
     public CommentListResponse getCommentsWithRepliesByPostId(Long postId) {
         // 1. 부모 댓글들 조회 (depth = 0)
-        List<Comment> parentComments = commentRepository.findByPostIdAndDepthOrderByCreatedAtAsc(postId, 0);
+        List<Comment> parentComments = commentRepository.findParentsByPostId(postId);
         
-        // 2. 각 부모 댓글에 대한 대댓글들 조회하여 CommentResponse 생성
-        List<CommentResponse> commentResponses = parentComments.stream()
-                .map(parentComment -> {
-                    // 해당 부모 댓글의 대댓글들 조회
-                    List<Comment> replies = commentRepository.findByParentIdOrderByCreatedAtAsc(parentComment.getId());
-                    
-                    // 대댓글들을 CommentResponse로 변환
-                    List<CommentResponse> replyResponses = replies.stream()
-                            .map(CommentResponse::new)
-                            .collect(Collectors.toList());
-                    
-                    // 부모 댓글을 CommentResponse로 변환 (대댓글 포함)
-                    return new CommentResponse(parentComment, replyResponses);
-                })
-                .collect(Collectors.toList());
-        
-        return new CommentListResponse(commentResponses);
+        // 2. 대댓글 일괄 조회 후 부모 댓글별로 조립
+        return new CommentListResponse(toCommentResponses(parentComments));
     }
 
     @Override
     public CommentListPageResponse getCommentsWithRepliesByPostIdWithPagination(Long postId, Long cursor) {
         Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Page<Comment> commentPage;
+        Slice<Comment> commentPage;
 
         if (cursor == null) {
             // 첫 페이지 - 부모 댓글들만 조회 (depth = 0)
-            commentPage = commentRepository.findByPostIdAndDepthOrderByIdDesc(postId, 0, pageable);
+            commentPage = commentRepository.findParentPageByPostId(postId, pageable);
         } else {
             // 다음 페이지 - 커서 이후 데이터 조회
-            commentPage = commentRepository.findByPostIdAndDepthAndIdLessThanOrderByIdDesc(postId, 0, cursor, pageable);
+            commentPage = commentRepository.findParentPageByPostIdAfterCursor(postId, cursor, pageable);
         }
 
-        List<CommentResponse> commentResponses = commentPage.getContent()
-                .stream()
-                .map(parentComment -> {
-                    // 해당 부모 댓글의 대댓글들 조회
-                    List<Comment> replies = commentRepository.findByParentIdOrderByCreatedAtAsc(parentComment.getId());
-                    
-                    // 대댓글들을 CommentResponse로 변환
-                    List<CommentResponse> replyResponses = replies.stream()
-                            .map(CommentResponse::new)
-                            .collect(Collectors.toList());
-                    
-                    // 부모 댓글을 CommentResponse로 변환 (대댓글 포함)
-                    return new CommentResponse(parentComment, replyResponses);
-                })
-                .collect(Collectors.toList());
+        List<CommentResponse> commentResponses = toCommentResponses(commentPage.getContent());
 
         boolean hasNext = commentPage.hasNext();
         Long nextCursor = null;
@@ -143,6 +121,33 @@ public class CommentServiceImpl implements CommentService{
         return new CommentListPageResponse(commentResponses, hasNext, nextCursor);
     }
 
+    /**
+     * 부모 댓글 목록에 대댓글을 붙여 응답 생성
+     * 대댓글은 parent_id IN 쿼리 1회로 조회 후 메모리에서 조립 (부모 댓글 수와 무관하게 쿼리 수 일정)
+     */
+    private List<CommentResponse> toCommentResponses(List<Comment> parentComments) {
+        if (parentComments.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> parentIds = parentComments.stream()
+                .map(Comment::getId)
+                .toList();
+        Map<Long, List<CommentResponse>> repliesByParentId = commentRepository.findRepliesByParentIds(parentIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        reply -> reply.getParent().getId(),
+                        Collectors.mapping(CommentResponse::new, Collectors.toList())
+                ));
+
+        return parentComments.stream()
+                .map(parentComment -> new CommentResponse(
+                        parentComment,
+                        repliesByParentId.getOrDefault(parentComment.getId(), new ArrayList<>())
+                ))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteComment(Long id) {
         Comment comment = commentRepository.findById(id)
@@ -1,5 +1,6 @@
 package com.ssafy.bbatty.domain.board.service;
 
+import com.ssafy.bbatty.domain.board.dto.response.PostCountDto;
 import com.ssafy.bbatty.domain.board.dto.response.PostListPageResponse;
 import com.ssafy.bbatty.domain.board.dto.response.PostListResponse;
 import com.ssafy.bbatty.domain.board.entity.Post;
@@ -12,7 +13,10 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,68 +29,111 @@ public class PopularPostServiceImpl implements PopularPostService {
     
     private static final String POPULAR_POST_KEY_PREFIX = "popular_posts:team:";
     private static final int PAGE_SIZE = 5; // 한 번에 가져올 게시글 수
+    private static final int FETCH_SIZE = PAGE_SIZE + 1; // 다음 페이지 존재 여부 확인용 1개 추가
     
+    /**
+     * 팀별 인기글 커서 기반 페이징 조회
+     * - 커서 게시글의 점수부터 ZREVRANGEBYSCORE로 한 페이지 분량만 조회 (ZSET 크기와 무관)
+     * - 동점 게시글은 Redis 정렬 순서대로 커서 멤버를 지날 때까지 건너뜀
+     * - 게시글은 IN 쿼리 1회, 카운트는 MGET 1회로 일괄 조회
+     */
     @Override
     public PostListPageResponse getPopularPostsByTeam(Long teamId, Long cursor) {
         String key = POPULAR_POST_KEY_PREFIX + teamId;
         ZSetOperations<String, Object> zSetOps = redisTemplate.opsForZSet();
-        
-        // Redis에서 높은 점수순으로 모든 인기글 ID 조회
-        Set<Object> allPopularPostIds = zSetOps.reverseRange(key, 0, -1);
-        
-        List<PostListResponse> popularPosts = new ArrayList<>();
+
+        double maxScore = Double.POSITIVE_INFINITY;
+        String cursorMember = null;
+
+        if (cursor != null) {
+            cursorMember = cursor.toString();
+            Double cursorScore = zSetOps.score(key, cursorMember);
+            if (cursorScore == null) {
+                // 커서 게시글이 인기글에서 빠진 경우 이어서 조회할 위치가 없음
+                log.debug("팀 {} 인기글 커서 없음: {}", teamId, cursor);
+                return new PostListPageResponse(new ArrayList<>(), false, null);
+            }
+            maxScore = cursorScore;
+        }
+
+        List<Post> pagePosts = new ArrayList<>();
         boolean hasNext = false;
-        Long nextCursor = null;
-        int count = 0;
-        boolean foundCursor = (cursor == null); // cursor가 null이면 첫 페이지
-        
-        if (allPopularPostIds != null && !allPopularPostIds.isEmpty()) {
-            for (Object postIdObj : allPopularPostIds) {
-                try {
-                    Long postId = Long.valueOf(postIdObj.toString());
-                    
-                    // 커서 기반 페이징 처리
-                    if (!foundCursor) {
-                        if (postId.equals(cursor)) {
-                            foundCursor = true;
-                        }
-                        continue; // 커서를 찾을 때까지 건너뛰기
+        boolean passedCursor = (cursorMember == null);
+        long offset = 0;
+
+        // 삭제된 게시글로 페이지가 덜 찬 경우에만 다음 구간을 추가 조회
+        while (!hasNext) {
+            Set<ZSetOperations.TypedTuple<Object>> tuples =
+                    zSetOps.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, maxScore, offset, FETCH_SIZE);
+            if (tuples == null || tuples.isEmpty()) {
+                break;
+            }
+            offset += tuples.size();
+
+            List<Long> candidateIds = new ArrayList<>();
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                String member = String.valueOf(tuple.getValue());
+
+                // 커서와 동점인 앞선 게시글 및 커서 자신은 건너뜀
+                if (!passedCursor) {
+                    if (member.equals(cursorMember)) {
+                        passedCursor = true;
+                        continue;
                     }
-                    
-                    // 페이지 크기만큼 데이터 수집
-                    if (count < PAGE_SIZE) {
-                        // 게시글 정보 조회
-                        Post post = postRepository.findById(postId).orElse(null);
-                        
-                        // 삭제되지 않은 게시글만 포함
-                        if (post != null && !post.getIsDeleted()) {
-                            PostListResponse response = new PostListResponse(post);
-                            
-                            // 조회수, 좋아요, 댓글 수 설정
-                            response.setViewCount(postCountService.getViewCount(post.getId()));
-                            response.setLikeCount(postCountService.getLikeCount(post.getId()));
-                            response.setCommentCount(postCountService.getCommentCount(post.getId()));
-                            
-                            popularPosts.add(response);
-                            count++;
-                        }
-                    } else {
-                        // 다음 페이지가 있는지 확인
-                        hasNext = true;
-                        break;
+                    if (tuple.getScore() != null && tuple.getScore() >= maxScore) {
+                        continue;
                     }
+                    passedCursor = true;
+                }
+
+                try {
+                    candidateIds.add(Long.valueOf(member));
                 } catch (NumberFormatException e) {
-                    log.warn("인기글 ID 파싱 실패: {}", postIdObj, e);
+                    log.warn("인기글 ID 파싱 실패: {}", member, e);
+                }
+            }
+
+            Map<Long, Post> posts = candidateIds.isEmpty() ? Map.of() : postRepository.findAllWithUserByIdIn(candidateIds)
+                    .stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+            for (Long postId : candidateIds) {
+                Post post = posts.get(postId);
+                // 삭제되지 않은 게시글만 포함
+                if (post == null || post.getIsDeleted()) {
+                    continue;
                 }
+                if (pagePosts.size() == PAGE_SIZE) {
+                    hasNext = true;
+                    break;
+                }
+                pagePosts.add(post);
             }
-            
-            // nextCursor 설정
-            if (hasNext && !popularPosts.isEmpty()) {
-                nextCursor = popularPosts.get(popularPosts.size() - 1).getId();
+
+            if (tuples.size() < FETCH_SIZE) {
+                break;
             }
         }
+
+        Long nextCursor = null;
+        if (hasNext && !pagePosts.isEmpty()) {
+            nextCursor = pagePosts.get(pagePosts.size() - 1).getId();
+        }
+
+        // 조회수, 좋아요, 댓글 수는 페이지 단위로 일괄 조회
+        Map<Long, PostCountDto> counts = postCountService.getCounts(
+                pagePosts.stream().map(Post::getId).toList());
+        List<PostListResponse> popularPosts = new ArrayList<>(pagePosts.size());
+        for (Post post : pagePosts) {
+            PostListResponse response = new PostListResponse(post);
+            PostCountDto postCount = counts.get(post.getId());
+            response.setViewCount(postCount.viewCount());
+            response.setLikeCount(postCount.likeCount());
+            response.setCommentCount(postCount.commentCount());
+            popularPosts.add(response);
+        }
         
         log.debug("팀 {} 인기글 페이징 조회 완료: {}개, hasNext: {}", teamId, popularPosts.size(), hasNext);
         return new PostListPageResponse(popularPosts, hasNext, nextCursor);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,11 @@
 package com.ssafy.bbatty.domain.board.service;
 
+import com.ssafy.bbatty.domain.board.dto.response.PostCountDto;
+import com.ssafy.bbatty.domain.board.repository.PostViewBulkRepository.PostViewLog;
+
+import java.util.List;
+import java.util.Map;
+
 public interface PostCountService {
     
     Integer getViewCount(Long postId);
@@ -8,6 +14,11 @@ public interface PostCountService {
     
     void incrementViewCount(Long postId, Long userId);
 
+    /**
+     * 조회 로그 대기열 적재 + 게시글별 조회수 증가를 Redis 스크립트 1회로 일괄 처리
+     */
+    void incrementViewCounts(List<PostViewLog> views);
+
     void incrementLikeCount(Long postId, Long userId);
 
     void decrementLikeCount(Long postId, Long userId);
@@ -15,4 +26,13 @@ public interface PostCountService {
     void refreshCountsFromDB(Long postId);
     
     Integer getCommentCount(Long postId);
+
+    void incrementCommentCount(Long postId);
+
+    /**
+     * 여러 게시글의 조회수/좋아요/댓글 수 일괄 조회
+     * Redis MGET 1회로 조회하고, 캐시 미스는 post 카운터 컬럼 조회 1회로 채운 뒤 MSET으로 적재
+     * @return postId -> 카운트 (입력 순서 유지)
+     */
+    Map<Long, PostCountDto> getCounts(List<Long> postIds);
 }
\ No newline at end of file
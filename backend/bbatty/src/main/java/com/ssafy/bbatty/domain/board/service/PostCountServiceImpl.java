@@ -1,178 +1,315 @@
 package com.ssafy.bbatty.domain.board.service;
 
-import com.ssafy.bbatty.domain.board.common.LikeAction;
+import com.ssafy.bbatty.domain.board.dto.response.PostCountDto;
 import com.ssafy.bbatty.domain.board.entity.Post;
-import com.ssafy.bbatty.domain.board.entity.PostLike;
-import com.ssafy.bbatty.domain.board.entity.PostView;
 import com.ssafy.bbatty.domain.board.kafka.PostEventKafkaProducer;
-import com.ssafy.bbatty.domain.board.repository.CommentRepository;
 import com.ssafy.bbatty.domain.board.repository.PostLikeRepository;
 import com.ssafy.bbatty.domain.board.repository.PostRepository;
-import com.ssafy.bbatty.domain.board.repository.PostViewRepository;
-import com.ssafy.bbatty.domain.user.entity.User;
-import com.ssafy.bbatty.domain.user.repository.UserRepository;
+import com.ssafy.bbatty.domain.board.repository.PostViewBulkRepository.PostViewLog;
+import com.ssafy.bbatty.global.constants.RedisKey;
 import com.ssafy.bbatty.global.util.RedisUtil;
+import com.ssafy.bbatty.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * 게시글 카운터 서비스
+ * - 원본 값은 post 테이블의 view_count / like_count / comment_count 컬럼
+ * - Redis 카운터는 조회용 캐시이며, 미스 시 컬럼 값으로 채움 (로그 테이블 전체 집계 없음)
+ * - 좋아요/댓글의 Redis 반영과 Kafka 이벤트는 커밋 이후 실행 (롤백된 변경이 캐시/이벤트로 새지 않도록)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostCountServiceImpl implements PostCountService {
     
     private final RedisUtil redisUtil;
-    private final PostViewRepository postViewRepository;
+    private final StringRedisTemplate stringRedisTemplate;
     private final PostLikeRepository postLikeRepository;
-    private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
     private final PostEventKafkaProducer postEventKafkaProducer;
     
     private static final String VIEW_COUNT_KEY = "post:view:";
     private static final String LIKE_COUNT_KEY = "post:like:";
     private static final String COMMENT_COUNT_KEY = "post:comment:";
+
+    // 카운터가 있을 때만 증감 (없으면 nil → DB 기준 초기화), 0 미만 방지
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if count < 0 then redis.call('SET', KEYS[1], 0) return 0 end " +
+            "return count",
+            Long.class);
+
+    // 조회 로그 일괄 적재 + 게시글별 조회수 증가, 카운터가 없는 게시글의 순번(1부터) 목록 반환
+    // KEYS[1] = 대기열, KEYS[2..] = 조회수 키 / ARGV[1] = 로그 수 n, ARGV[2..n+1] = 로그, ARGV[n+2..] = 게시글별 증가량
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_VIEWS_SCRIPT = new DefaultRedisScript<>(
+            "local n = tonumber(ARGV[1]) " +
+            "if n > 0 then redis.call('RPUSH', KEYS[1], unpack(ARGV, 2, n + 1)) end " +
+            "local missing = {} " +
+            "for i = 2, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[n + i]) " +
+            "  else missing[#missing + 1] = i - 1 end " +
+            "end " +
+            "return missing",
+            List.class);
     
     @Override
     public Integer getViewCount(Long postId) {
-        String key = VIEW_COUNT_KEY + postId;
-        Integer count = redisUtil.getValue(key, Integer.class);
-        
-        if (count == null) {
-            count = postViewRepository.countByPostId(postId);
-            redisUtil.setValue(key, count);
-        }
-        
-        return count;
+        return getCounts(List.of(postId)).get(postId).viewCount();
     }
     
     @Override
     public Integer getLikeCount(Long postId) {
-        String key = LIKE_COUNT_KEY + postId;
-        Integer count = redisUtil.getValue(key, Integer.class);
-        
-        if (count == null) {
-            Integer likeCount = postLikeRepository.countLikesByPostId(postId);
-            Integer unlikeCount = postLikeRepository.countUnlikesByPostId(postId);
-            count = likeCount - unlikeCount;
-            redisUtil.setValue(key, count);
-        }
-        return count;
+        return getCounts(List.of(postId)).get(postId).likeCount();
     }
 
     @Override
     public Integer getCommentCount(Long postId) {
-        String key = COMMENT_COUNT_KEY + postId;
-        Integer count = redisUtil.getValue(key, Integer.class);
+        return getCounts(List.of(postId)).get(postId).commentCount();
+    }
+    
+    @Override
+    public Map<Long, PostCountDto> getCounts(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
 
-        if (count == null) {
-            count = commentRepository.countByPostId(postId);
-            redisUtil.setValue(key, count);
+        // 1. 게시글마다 [조회수, 좋아요, 댓글] 키 순서로 MGET 1회
+        List<String> keys = new ArrayList<>(postIds.size() * 3);
+        for (Long postId : postIds) {
+            keys.add(VIEW_COUNT_KEY + postId);
+            keys.add(LIKE_COUNT_KEY + postId);
+            keys.add(COMMENT_COUNT_KEY + postId);
+        }
+        List<Object> values = redisUtil.multiGet(keys);
+
+        Map<Long, Integer> viewCounts = new HashMap<>();
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        Map<Long, Integer> commentCounts = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+
+        for (int i = 0; i < postIds.size(); i++) {
+            Long postId = postIds.get(i);
+            collect(postId, values.get(i * 3), viewCounts, misses);
+            collect(postId, values.get(i * 3 + 1), likeCounts, misses);
+            collect(postId, values.get(i * 3 + 2), commentCounts, misses);
         }
 
-        return count;
+        // 2. 캐시 미스는 post 카운터 컬럼 조회 1회로 채우고 MSET 1회로 적재 (없는 키만)
+        if (!misses.isEmpty()) {
+            Map<Long, PostCountDto> dbCounts = loadCountsFromDB(misses);
+            Map<String, Object> backfill = new HashMap<>();
+            for (Long postId : misses) {
+                PostCountDto dbCount = dbCounts.getOrDefault(postId, new PostCountDto(0, 0, 0));
+                backfillIfMissing(postId, dbCount.viewCount(), VIEW_COUNT_KEY, viewCounts, backfill);
+                backfillIfMissing(postId, dbCount.likeCount(), LIKE_COUNT_KEY, likeCounts, backfill);
+                backfillIfMissing(postId, dbCount.commentCount(), COMMENT_COUNT_KEY, commentCounts, backfill);
+            }
+            redisUtil.multiSet(backfill);
+            log.debug("게시글 카운트 캐시 적재: {}개", backfill.size());
+        }
+
+        Map<Long, PostCountDto> counts = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            counts.put(postId, new PostCountDto(
+                    viewCounts.get(postId),
+                    likeCounts.get(postId),
+                    commentCounts.get(postId)
+            ));
+        }
+        return counts;
     }
-    
+
+    private void collect(Long postId, Object value, Map<Long, Integer> counts, Set<Long> misses) {
+        if (value instanceof Number number) {
+            counts.put(postId, number.intValue());
+        } else {
+            misses.add(postId);
+        }
+    }
+
+    private void backfillIfMissing(Long postId, Integer dbCount, String keyPrefix,
+                                   Map<Long, Integer> counts, Map<String, Object> backfill) {
+        if (!counts.containsKey(postId)) {
+            counts.put(postId, dbCount);
+            backfill.put(keyPrefix + postId, dbCount);
+        }
+    }
+
     @Override
-    @Transactional
     public void incrementViewCount(Long postId, Long userId) {
-        // 1. PostView 로그 테이블에 조회 기록 저장
-        Post post = postRepository.findById(postId).orElse(null);
-        User user = userRepository.findById(userId).orElse(null);
-        
-        if (post != null && user != null) {
-            PostView postView = new PostView(user, post);
-            postViewRepository.save(postView);
+        incrementViewCounts(List.of(new PostViewLog(postId, userId, LocalDateTime.now())));
+    }
+
+    /**
+     * 조회 로그 대기열 적재 + 게시글별 조회수 증가 일괄 처리 (Redis 명령 1회)
+     * 카운터가 없는 게시글은 컬럼 조회 1회로 초기화 (아직 반영되지 않은 로그는 이번 배치만 반영)
+     */
+    @Override
+    public void incrementViewCounts(List<PostViewLog> views) {
+        if (views.isEmpty()) {
+            return;
         }
 
-        String key = VIEW_COUNT_KEY + postId;
-        if (redisUtil.hasKey(key)) {
-            Integer currentCount = redisUtil.getValue(key, Integer.class);
-            redisUtil.setValue(key, currentCount + 1);
-        } else {
-            Integer dbCount = postViewRepository.countByPostId(postId);
-            redisUtil.setValue(key, dbCount);
+        Map<Long, Integer> viewsPerPost = new LinkedHashMap<>();
+        List<String> args = new ArrayList<>(views.size() * 2 + 1);
+        args.add(String.valueOf(views.size()));
+        for (PostViewLog view : views) {
+            viewsPerPost.merge(view.postId(), 1, Integer::sum);
+            long viewedAt = view.viewedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            args.add(view.postId() + ":" + view.userId() + ":" + viewedAt);
+        }
+
+        List<Long> postIds = new ArrayList<>(viewsPerPost.keySet());
+        List<String> keys = new ArrayList<>(postIds.size() + 1);
+        keys.add(RedisKey.BOARD_POST_VIEW_LOG_PENDING);
+        for (Long postId : postIds) {
+            keys.add(VIEW_COUNT_KEY + postId);
+            args.add(String.valueOf(viewsPerPost.get(postId)));
+        }
+
+        List<?> missing = stringRedisTemplate.execute(RECORD_VIEWS_SCRIPT, keys, args.toArray());
+        if (missing == null || missing.isEmpty()) {
+            return;
+        }
+
+        List<Long> missingPostIds = missing.stream()
+                .map(index -> postIds.get(((Number) index).intValue() - 1))
+                .toList();
+        Map<Long, PostCountDto> dbCounts = loadCountsFromDB(missingPostIds);
+        for (Long postId : missingPostIds) {
+            int dbCount = dbCounts.getOrDefault(postId, new PostCountDto(0, 0, 0)).viewCount();
+            initializeAndIncrement(VIEW_COUNT_KEY + postId, dbCount, viewsPerPost.get(postId));
         }
     }
 
+    /**
+     * 좋아요 (사용자당 1회, 이미 좋아요한 경우 무시)
+     */
     @Override
     @Transactional
     public void incrementLikeCount(Long postId, Long userId) {
-        // 1. PostLike 테이블에 좋아요 기록 저장
         Post post = postRepository.findById(postId).orElse(null);
-        User user = userRepository.findById(userId).orElse(null);
+        if (post == null) {
+            return;
+        }
 
-        if (post != null && user != null) {
-            PostLike postLike = new PostLike(user, post, LikeAction.LIKE);
-            postLikeRepository.save(postLike);
+        // 1. (post_id, user_id) 유니크 현재 상태 테이블에 기록, 실제로 추가된 경우에만 카운터 반영
+        if (postLikeRepository.insertIfAbsent(postId, userId) == 0) {
+            return;
+        }
+        postRepository.addLikeCount(postId, 1);
 
-            log.info("카프카 메세지 디버깅1");
+        // 2. 커밋 이후 Redis 카운터 증가 및 Kafka 이벤트 전송 (롤백 시 캐시/이벤트에 반영되지 않음)
+        boolean recentPost = post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(3));
+        Long teamId = post.getTeamId();
+        TransactionUtil.runAfterCommit(() -> {
+            applyLikeDelta(postId, 1);
 
-            // 3일 이내 작성된 글인지 확인 후 Kafka 이벤트 전송
-            if (post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(3))) {
-                log.info("카프카 메세지 디버깅2");
-                postEventKafkaProducer.sendLikeEvent(postId, userId, post.getTeamId());
+            // 3일 이내 작성된 글만 Kafka 이벤트 전송
+            if (recentPost) {
+                postEventKafkaProducer.sendLikeEvent(postId, userId, teamId);
             }
-        }
+        });
+    }
 
-        // 2. Redis 좋아요 카운트 증가
-        String key = LIKE_COUNT_KEY + postId;
-        if (redisUtil.hasKey(key)) {
-            Integer currentCount = redisUtil.getValue(key, Integer.class);
-            redisUtil.setValue(key, currentCount + 1);
-        } else {
-            Integer likeCount = postLikeRepository.countLikesByPostId(postId);
-            Integer unlikeCount = postLikeRepository.countUnlikesByPostId(postId);
-            Integer dbCount = likeCount - unlikeCount;
-            redisUtil.setValue(key, dbCount);
+    /**
+     * 좋아요 취소 (좋아요 상태가 아니면 무시)
+     */
+    @Override
+    @Transactional
+    public void decrementLikeCount(Long postId, Long userId) {
+        // 1. 현재 상태 테이블에서 삭제, 실제로 삭제된 경우에만 카운터 반영
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            return;
         }
+        postRepository.addLikeCount(postId, -1);
+
+        // 2. 커밋 이후 Redis 좋아요 카운트 원자적 감소 (0 미만 방지)
+        TransactionUtil.runAfterCommit(() -> applyLikeDelta(postId, -1));
     }
-    
+
     @Override
     @Transactional
-    public void decrementLikeCount(Long postId, Long userId) {
-        // 1. PostLike 테이블에 좋아요 취소 기록 저장 (UNLIKE)
-        Post post = postRepository.findById(postId).orElse(null);
-        User user = userRepository.findById(userId).orElse(null);
+    public void incrementCommentCount(Long postId) {
+        postRepository.addCommentCount(postId, 1);
 
-        if (post != null && user != null) {
-            PostLike postLike = new PostLike(user, post, LikeAction.UNLIKE);
-            postLikeRepository.save(postLike);
-        }
+        TransactionUtil.runAfterCommit(() -> {
+            String key = COMMENT_COUNT_KEY + postId;
+            Long count = stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(key), "1");
+            if (count == null) {
+                // 커밋된 컬럼 값이므로 이번 댓글 포함
+                initializeAndIncrement(key, loadCountFromDB(postId).commentCount(), 0);
+            }
+        });
+    }
 
-        // 2. Redis 좋아요 카운트 감소
+    /**
+     * Redis 좋아요 카운트 원자적 증감, 카운터가 없으면 커밋된 컬럼 값(이번 변경 포함)으로 초기화
+     */
+    private void applyLikeDelta(Long postId, int delta) {
         String key = LIKE_COUNT_KEY + postId;
-        if (redisUtil.hasKey(key)) {
-            Integer currentCount = redisUtil.getValue(key, Integer.class);
-            if (currentCount > 0) {
-                redisUtil.setValue(key, currentCount - 1);
-            }
-        } else {
-            Integer likeCount = postLikeRepository.countLikesByPostId(postId);
-            Integer unlikeCount = postLikeRepository.countUnlikesByPostId(postId);
-            Integer dbCount = likeCount - unlikeCount;
-            redisUtil.setValue(key, dbCount > 0 ? dbCount - 1 : 0);
+        Long count = stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(key), String.valueOf(delta));
+        if (count == null) {
+            initializeAndIncrement(key, loadCountFromDB(postId).likeCount(), 0);
         }
     }
-    
+
+    /**
+     * 카운터가 없을 때 DB 값으로 초기화 후 증가
+     * 동시에 다른 요청이 먼저 초기화했다면 그 값에 증가분만 더함
+     */
+    private void initializeAndIncrement(String key, int dbCount, int delta) {
+        Boolean initialized = stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(dbCount + delta));
+        if (!Boolean.TRUE.equals(initialized) && delta != 0) {
+            stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(key), String.valueOf(delta));
+        }
+    }
+
     @Override
     public void refreshCountsFromDB(Long postId) {
-        String viewKey = VIEW_COUNT_KEY + postId;
-        String likeKey = LIKE_COUNT_KEY + postId;
-        String commentKey = COMMENT_COUNT_KEY + postId;
-        
-        Integer viewCount = postViewRepository.countByPostId(postId);
-        Integer likes = postLikeRepository.countLikesByPostId(postId);
-        Integer unlikes = postLikeRepository.countUnlikesByPostId(postId);
-        Integer likeCount = likes - unlikes;
-        Integer commentCount = commentRepository.countByPostId(postId);
-        
-        redisUtil.setValue(viewKey, viewCount);
-        redisUtil.setValue(likeKey, likeCount);
-        redisUtil.setValue(commentKey, commentCount);
-    }
-
-}
\ No newline at end of file
+        PostCountDto dbCount = loadCountFromDB(postId);
+
+        redisUtil.setValue(VIEW_COUNT_KEY + postId, dbCount.viewCount());
+        redisUtil.setValue(LIKE_COUNT_KEY + postId, dbCount.likeCount());
+        redisUtil.setValue(COMMENT_COUNT_KEY + postId, dbCount.commentCount());
+    }
+
+    private PostCountDto loadCountFromDB(Long postId) {
+        return loadCountsFromDB(List.of(postId)).getOrDefault(postId, new PostCountDto(0, 0, 0));
+    }
+
+    /**
+     * post 카운터 컬럼 일괄 조회
+     */
+    private Map<Long, PostCountDto> loadCountsFromDB(Collection<Long> postIds) {
+        Map<Long, PostCountDto> counts = new HashMap<>();
+        for (Object[] row : postRepository.findCountsByIdIn(postIds)) {
+            counts.put((Long) row[0], new PostCountDto(
+                    ((Number) row[1]).intValue(),
+                    ((Number) row[2]).intValue(),
+                    ((Number) row[3]).intValue()
+            ));
+        }
+        return counts;
+    }
+
+}
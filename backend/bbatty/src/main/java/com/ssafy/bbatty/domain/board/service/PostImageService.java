@@ -2,14 +2,22 @@ package com.ssafy.bbatty.domain.board.service;
 
 import com.ssafy.bbatty.domain.board.entity.Post;
 import com.ssafy.bbatty.domain.board.entity.PostImage;
+import com.ssafy.bbatty.domain.board.repository.PostImageBulkRepository;
 import com.ssafy.bbatty.domain.board.repository.PostImageRepository;
+import com.ssafy.bbatty.global.constants.RedisKey;
 import com.ssafy.bbatty.global.s3.S3Service;
+import com.ssafy.bbatty.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -20,6 +28,8 @@ import java.util.stream.Collectors;
 public class PostImageService {
     
     private final PostImageRepository postImageRepository;
+    private final PostImageBulkRepository postImageBulkRepository;
+    private final StringRedisTemplate stringRedisTemplate;
     private final S3Service s3Service;
 
     // S3 URL 패턴 (도메인 부분을 유연하게 처리)
@@ -45,19 +55,30 @@ public class PostImageService {
 
     /*
     게시글 내용에 포함된 이미지를 DB에 연결한다.
+    현재 연결된 이미지와 비교해 추가분은 multi-row INSERT, 빠진 이미지는 UPDATE 1회로 소프트 삭제하고
+    빠진 이미지의 S3 파일은 커밋 후 삭제 대기열에 적재 (이미지 수와 무관하게 쿼리 3회)
      */
     @Transactional
     public void processImagesInContent(String content, Post post) {
-        // 이미지 url을 content에서 추출한다.
-        List<String> imageUrls = extractImageUrls(content);
-        // url과 post를 postImage 테이블에 저장
-        for (String url : imageUrls) {
-            PostImage postImage = PostImage.builder()
-                    .post(post)
-                    .imageUrl(url)
-                    .build();
-            postImageRepository.save(postImage);
+        // 이미지 url을 content에서 추출한다. (본문 내 중복 제거, 순서 유지)
+        Set<String> contentUrls = new LinkedHashSet<>(extractImageUrls(content));
+        Set<String> linkedUrls = new HashSet<>(postImageRepository.findActiveImageUrlsByPostId(post.getId()));
+
+        List<String> addedUrls = contentUrls.stream()
+                .filter(url -> !linkedUrls.contains(url))
+                .toList();
+        List<String> removedUrls = linkedUrls.stream()
+                .filter(url -> !contentUrls.contains(url))
+                .toList();
+
+        if (!addedUrls.isEmpty()) {
+            postImageBulkRepository.insertAll(post.getId(), addedUrls);
+        }
+        if (!removedUrls.isEmpty()) {
+            postImageRepository.softDeleteByPostIdAndImageUrlIn(post.getId(), removedUrls);
+            enqueueS3Deletion(post.getId(), removedUrls);
         }
+        log.debug("게시글 이미지 동기화: postId={}, added={}, removed={}", post.getId(), addedUrls.size(), removedUrls.size());
     }
     
     /*
@@ -75,13 +96,9 @@ public class PostImageService {
     */
     @Transactional
     public void softDeleteImagesForPost(Long postId) {
-        List<PostImage> postImages = postImageRepository.findByPostId(postId);
-        if (!postImages.isEmpty()) {
-            postImages.forEach(postImage -> {
-                postImage.setIsDeleted(true);
-                postImageRepository.save(postImage);
-            });
-            log.info("Soft deleted {} images for post {}", postImages.size(), postId);
+        int deleted = postImageRepository.softDeleteByPostId(postId);
+        if (deleted > 0) {
+            log.info("Soft deleted {} images for post {}", deleted, postId);
         }
     }
     
@@ -99,34 +116,49 @@ public class PostImageService {
     }
     
     /*
-    게시글 삭제 시 연관된 이미지들을 S3에서 먼저 삭제하는 메서드
+    게시글 삭제 시 연관된 이미지들을 S3에서 삭제하는 메서드
+    실제 삭제는 PostImageCleanupScheduler가 DeleteObjects로 일괄 처리
     */
     @Transactional
     public void deleteImagesForPost(Long postId) {
         List<String> imageUrls = postImageRepository.findImageUrlsByPostId(postId);
-        // 게시물을 삭세하기 전에 content에 있는 S3 파일을 삭제
         if (!imageUrls.isEmpty()) {
-            // S3에서 실제 파일 삭제
-            imageUrls.forEach(imageUrl -> {
-                try {
-                    String filePath = extractFilePathFromUrl(imageUrl);
-                    s3Service.deleteFile(filePath);
-                    log.info("Deleted image from S3: {}", filePath);
-                } catch (Exception e) {
-                    log.error("Failed to delete image from S3: {}", imageUrl, e);
-                }
-            });
-            log.info("Deleted {} images from S3 for post {}", imageUrls.size(), postId);
+            enqueueS3Deletion(postId, imageUrls);
+            log.info("Enqueued {} images for S3 deletion for post {}", imageUrls.size(), postId);
         }
     }
 
-    // URL에서 파일 경로 추출 (예: https://bucket.s3.region.amazonaws.com/posts/filename.jpg -> posts/filename.jpg)
-    // 이걸 해야 aws에서 삭제를 시킬 수 있다.
-    private String extractFilePathFromUrl(String imageUrl) {
-        String[] parts = imageUrl.split("/");
-        if (parts.length >= 2) {
-            return parts[parts.length - 2] + "/" + parts[parts.length - 1];
+    /*
+    S3 삭제 대기열 적재 (트랜잭션 중이면 커밋 이후에만 적재하여 롤백 시 파일 유실 방지)
+    이 버킷의 URL이면서, 이 게시글이 처음 연결한(업로드한) 이미지이고, 다른 활성 참조가 없는 경우만 삭제
+    그 외에는 소프트 삭제만 유지 (다른 게시글에 붙여넣은 이미지나 외부 URL의 객체를 지우지 않도록)
+    */
+    private void enqueueS3Deletion(Long postId, Collection<String> imageUrls) {
+        List<String> bucketUrls = imageUrls.stream()
+                .filter(url -> s3Service.extractKey(url) != null)
+                .toList();
+        if (bucketUrls.isEmpty()) {
+            return;
+        }
+
+        Set<String> retainedUrls = new HashSet<>(postImageRepository.findRetainedImageUrls(postId, bucketUrls));
+        List<String> filePaths = bucketUrls.stream()
+                .filter(url -> !retainedUrls.contains(url))
+                .map(s3Service::extractKey)
+                .toList();
+        if (filePaths.isEmpty()) {
+            return;
+        }
+
+        TransactionUtil.runAfterCommit(() -> pushS3Deletion(filePaths));
+    }
+
+    private void pushS3Deletion(List<String> filePaths) {
+        try {
+            stringRedisTemplate.opsForList().rightPushAll(RedisKey.BOARD_POST_IMAGE_DELETE_PENDING, filePaths);
+        } catch (Exception e) {
+            // 대기열 적재 실패 시 S3 파일만 남음 (DB 정합성에는 영향 없음)
+            log.error("S3 삭제 대기열 적재 실패: {}건, error={}", filePaths.size(), e.getMessage());
         }
-        throw new IllegalArgumentException("Invalid image URL format: " + imageUrl);
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.ssafy.bbatty.domain.board.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostSearchCacheService {
+
+    /**
+     * 캐시된 검색 결과 페이지 조회 (미스 또는 Redis 오류 시 null)
+     */
+    CachedPage get(Long teamId, String keyword, Long cursor);
+
+    /**
+     * 검색 결과 페이지의 게시글 ID 목록 저장
+     */
+    void put(Long teamId, String keyword, Long cursor, List<Long> postIds, boolean hasNext);
+
+    /**
+     * 해당 팀의 검색 결과 캐시 전체 삭제
+     */
+    void evictTeam(Long teamId);
+
+    /**
+     * 게시글 제목 추가/변경 시 해당 제목과 일치할 수 있는(ngram 토큰을 공유하는) 검색어의 캐시만 삭제
+     * @param titles 결과 집합이 바뀔 수 있는 제목 (변경 전/후)
+     */
+    void evictMatching(Long teamId, Collection<String> titles);
+
+    /**
+     * 입력 중인 접두어로 시작하는 검색어 추천
+     */
+    List<String> suggest(Long teamId, String prefix);
+
+    /**
+     * 검색 결과 페이지 (엔티티가 아닌 ID 목록만 저장)
+     */
+    record CachedPage(List<Long> postIds, boolean hasNext) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.ssafy.bbatty.domain.board.service;
+
+import com.ssafy.bbatty.global.constants.RedisKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 결과 캐시
+ * - 팀별 Hash 하나에 {정규화 검색어}:{커서} 필드로 결과 ID 목록 저장
+ * - 게시글 제목 추가/변경 시 검색어와 제목이 ngram 토큰을 하나라도 공유하는 필드만 삭제 (다른 검색어 캐시는 유지)
+ * - Hash TTL은 첫 저장 시에만 설정하여 모든 결과가 TTL 이내로 유지
+ * - 추천 검색어는 결과가 있었던 검색어를 사전순 Sorted Set에 적재 후 ZRANGEBYLEX로 접두어 조회
+ *   최근 사용 시각 Sorted Set으로 일정 기간 사용되지 않은 검색어를 정리하고 팀별 최대 개수 유지
+ * - Redis 오류는 캐시 미스로 처리 (검색 자체는 DB로 계속 동작)
+ */
+@Slf4j
+@Service
+public class PostSearchCacheServiceImpl implements PostSearchCacheService {
+
+    private static final String FIRST_PAGE = "first";
+    private static final int SUGGEST_LIMIT = 10;
+    private static final int SUGGEST_MAX_KEYWORD_LENGTH = 30;
+    private static final Duration SUGGEST_TTL = Duration.ofDays(1);
+    // ft_posts_title FULLTEXT 인덱스의 ngram 파서 토큰 크기 (MySQL ngram_token_size 기본값)
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    // 결과 저장 + (TTL이 없을 때만) 만료 설정
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+            "return 1",
+            Long.class);
+
+    // 추천 검색어 적재 + 보관 기간이 지난 검색어 정리 + 최대 개수 초과분(가장 오래 사용되지 않은 순) 정리
+    // KEYS[1] = 사전순 인덱스, KEYS[2] = 최근 사용 시각 / ARGV[1] = 검색어, ARGV[2] = 현재 시각, ARGV[3] = 보관 기간(ms), ARGV[4] = 최대 개수
+    private static final RedisScript<Long> ADD_SUGGEST_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[2]) " +
+            "redis.call('ZADD', KEYS[1], 0, ARGV[1]) " +
+            "redis.call('ZADD', KEYS[2], now, ARGV[1]) " +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now - tonumber(ARGV[3])) " +
+            "for i = 1, #expired do redis.call('ZREM', KEYS[1], expired[i]) end " +
+            "if #expired > 0 then redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now - tonumber(ARGV[3])) end " +
+            "local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[4]) " +
+            "if excess > 0 then " +
+            "  local oldest = redis.call('ZRANGE', KEYS[2], 0, excess - 1) " +
+            "  for i = 1, #oldest do redis.call('ZREM', KEYS[1], oldest[i]) end " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[2], 0, excess - 1) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "return redis.call('ZCARD', KEYS[2])",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long cacheTtlSeconds;
+    private final boolean suggestEnabled;
+    private final int suggestMaxSize;
+
+    public PostSearchCacheServiceImpl(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${board.search.cache-ttl-seconds:30}") long cacheTtlSeconds,
+            @Value("${board.search.suggest.enabled:false}") boolean suggestEnabled,
+            @Value("${board.search.suggest.max-size:5000}") int suggestMaxSize
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheTtlSeconds = cacheTtlSeconds;
+        this.suggestEnabled = suggestEnabled;
+        this.suggestMaxSize = suggestMaxSize;
+    }
+
+    @Override
+    public CachedPage get(Long teamId, String keyword, Long cursor) {
+        try {
+            Object value = stringRedisTemplate.opsForHash()
+                    .get(RedisKey.BOARD_SEARCH_RESULT + teamId, field(keyword, cursor));
+            return value != null ? decode(value.toString()) : null;
+
+        } catch (Exception e) {
+            log.warn("게시글 검색 캐시 조회 실패: teamId={}, error={}", teamId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(Long teamId, String keyword, Long cursor, List<Long> postIds, boolean hasNext) {
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT,
+                    List.of(RedisKey.BOARD_SEARCH_RESULT + teamId),
+                    field(keyword, cursor), encode(postIds, hasNext), String.valueOf(cacheTtlSeconds));
+
+            // 첫 페이지에 결과가 있었던 검색어만 추천 대상으로 적재
+            if (suggestEnabled && cursor == null && !postIds.isEmpty()) {
+                addSuggestion(teamId, normalize(keyword));
+            }
+        } catch (Exception e) {
+            log.warn("게시글 검색 캐시 저장 실패: teamId={}, error={}", teamId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictTeam(Long teamId) {
+        try {
+            stringRedisTemplate.delete(RedisKey.BOARD_SEARCH_RESULT + teamId);
+        } catch (Exception e) {
+            log.warn("게시글 검색 캐시 삭제 실패: teamId={}, error={}", teamId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictMatching(Long teamId, Collection<String> titles) {
+        List<String> normalizedTitles = titles.stream()
+                .filter(Objects::nonNull)
+                .map(this::normalize)
+                .filter(title -> !title.isEmpty())
+                .toList();
+        if (normalizedTitles.isEmpty()) {
+            return;
+        }
+
+        try {
+            String key = RedisKey.BOARD_SEARCH_RESULT + teamId;
+            Set<Object> fields = stringRedisTemplate.opsForHash().keys(key);
+            if (fields.isEmpty()) {
+                return;
+            }
+
+            Object[] affected = fields.stream()
+                    .filter(field -> matchesAny(keywordOf(field.toString()), normalizedTitles))
+                    .toArray();
+            if (affected.length > 0) {
+                stringRedisTemplate.opsForHash().delete(key, affected);
+            }
+            log.debug("게시글 검색 캐시 부분 삭제: teamId={}, evicted={}/{}", teamId, affected.length, fields.size());
+
+        } catch (Exception e) {
+            log.warn("게시글 검색 캐시 삭제 실패: teamId={}, error={}", teamId, e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> suggest(Long teamId, String prefix) {
+        String normalizedPrefix = normalize(prefix);
+        if (!suggestEnabled || normalizedPrefix.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            // 모든 멤버가 동일 점수이므로 사전순 범위 = 접두어 일치
+            Set<String> suggestions = stringRedisTemplate.opsForZSet().rangeByLex(
+                    RedisKey.BOARD_SEARCH_SUGGEST + teamId,
+                    Range.closed(normalizedPrefix, normalizedPrefix + Character.MAX_VALUE),
+                    Limit.limit().count(SUGGEST_LIMIT));
+            return suggestions != null ? new ArrayList<>(suggestions) : new ArrayList<>();
+
+        } catch (Exception e) {
+            log.warn("검색어 추천 조회 실패: teamId={}, error={}", teamId, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * 추천 검색어 적재 (너무 긴 입력은 제외)
+     */
+    private void addSuggestion(Long teamId, String keyword) {
+        if (keyword.isEmpty() || keyword.length() > SUGGEST_MAX_KEYWORD_LENGTH) {
+            return;
+        }
+        stringRedisTemplate.execute(ADD_SUGGEST_SCRIPT,
+                List.of(RedisKey.BOARD_SEARCH_SUGGEST + teamId, RedisKey.BOARD_SEARCH_SUGGEST_RECENT + teamId),
+                keyword, String.valueOf(System.currentTimeMillis()),
+                String.valueOf(SUGGEST_TTL.toMillis()), String.valueOf(suggestMaxSize));
+    }
+
+    /**
+     * 검색어와 제목이 ngram 토큰을 하나라도 공유하면 결과가 바뀔 수 있는 것으로 판단
+     * ft_posts_title은 ngram 파서를 쓰므로 자연어 검색은 검색어의 bigram 중 하나라도 제목에 있으면 일치 (bigram 단위 OR 일치)
+     * 토큰 크기보다 짧은 단어는 보수적으로 제목 포함 여부로 판단
+     */
+    private boolean matchesAny(String keyword, List<String> normalizedTitles) {
+        for (String term : keyword.split(" ")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            for (String token : ngramTokens(term)) {
+                for (String title : normalizedTitles) {
+                    if (title.contains(token)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 공백 없는 단어를 ngram 파서와 같은 방식으로 분해 (토큰 크기보다 짧으면 단어 그대로)
+     */
+    private List<String> ngramTokens(String term) {
+        if (term.length() <= NGRAM_TOKEN_SIZE) {
+            return List.of(term);
+        }
+        List<String> tokens = new ArrayList<>(term.length() - NGRAM_TOKEN_SIZE + 1);
+        for (int i = 0; i + NGRAM_TOKEN_SIZE <= term.length(); i++) {
+            tokens.add(term.substring(i, i + NGRAM_TOKEN_SIZE));
+        }
+        return tokens;
+    }
+
+    private String keywordOf(String field) {
+        int separator = field.lastIndexOf(':');
+        return separator >= 0 ? field.substring(0, separator) : field;
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 연속 공백 축소, 소문자화)
+     */
+    private String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private String field(String keyword, Long cursor) {
+        return normalize(keyword) + ":" + (cursor != null ? cursor : FIRST_PAGE);
+    }
+
+    /**
+     * 저장 형식: {has_next 0|1}:{post_id,post_id,...}
+     */
+    private String encode(List<Long> postIds, boolean hasNext) {
+        return (hasNext ? "1" : "0") + ":" + postIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private CachedPage decode(String value) {
+        int separator = value.indexOf(':');
+        boolean hasNext = value.charAt(0) == '1';
+        String ids = value.substring(separator + 1);
+
+        List<Long> postIds = new ArrayList<>();
+        if (!ids.isEmpty()) {
+            for (String id : ids.split(",")) {
+                postIds.add(Long.valueOf(id));
+            }
+        }
+        return new CachedPage(postIds, hasNext);
+    }
+}
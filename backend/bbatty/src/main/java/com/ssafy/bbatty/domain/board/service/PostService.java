@@ -6,6 +6,8 @@ import com.ssafy.bbatty.domain.board.dto.response.PostCreateResponse;
 import com.ssafy.bbatty.domain.board.dto.response.PostDetailResponse;
 import com.ssafy.bbatty.domain.board.dto.response.PostListPageResponse;
 
+import java.util.List;
+
 public interface PostService {
     
     PostCreateResponse createPost(PostCreateRequest request, Long userId);
@@ -25,4 +27,6 @@ public interface PostService {
     // 검색 기능
     PostListPageResponse searchPostsByTeam(Long teamId, String keyword, Long cursor);
 
+    List<String> suggestSearchKeywords(Long teamId, String prefix);
+
 }
\ No newline at end of file
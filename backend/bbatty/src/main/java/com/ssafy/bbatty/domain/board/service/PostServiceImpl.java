@@ -2,28 +2,32 @@ package com.ssafy.bbatty.domain.board.service;
 
 import com.ssafy.bbatty.domain.board.dto.request.PostCreateRequest;
 import com.ssafy.bbatty.domain.board.dto.request.PostUpdateRequest;
+import com.ssafy.bbatty.domain.board.dto.response.PostCountDto;
 import com.ssafy.bbatty.domain.board.dto.response.PostCreateResponse;
 import com.ssafy.bbatty.domain.board.dto.response.PostDetailResponse;
 import com.ssafy.bbatty.domain.board.dto.response.PostListPageResponse;
 import com.ssafy.bbatty.domain.board.dto.response.PostListResponse;
 import com.ssafy.bbatty.domain.board.entity.Post;
 import com.ssafy.bbatty.domain.board.entity.PostImage;
-import com.ssafy.bbatty.domain.board.kafka.PostEventKafkaProducer;
 import com.ssafy.bbatty.domain.board.repository.PostRepository;
 import com.ssafy.bbatty.domain.user.entity.User;
 import com.ssafy.bbatty.domain.user.repository.UserRepository;
 import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.exception.ApiException;
+import com.ssafy.bbatty.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,7 +40,8 @@ public class PostServiceImpl implements PostService {
     private final UserRepository userRepository;
     private final PostImageService postImageService;
     private final PostCountService postCountService;
-    private final PostEventKafkaProducer postEventKafkaProducer;
+    private final PostViewTrackingService postViewTrackingService;
+    private final PostSearchCacheService postSearchCacheService;
     private static final int PAGE_SIZE = 5; // 한 번에 가져올 게시글 수
 
     /*
@@ -62,6 +67,11 @@ public class PostServiceImpl implements PostService {
         );
         Post savedPost = postRepository.save(post);
         postImageService.processImagesInContent(request.getContent(), savedPost);
+
+        // 커밋 이후 새 제목과 일치할 수 있는 검색어 캐시만 삭제
+        Long teamId = savedPost.getTeamId();
+        String title = savedPost.getTitle();
+        TransactionUtil.runAfterCommit(() -> postSearchCacheService.evictMatching(teamId, List.of(title)));
         return new PostCreateResponse(savedPost.getId(), "게시글이 성공적으로 작성되었습니다.");
     }
 
@@ -83,6 +93,7 @@ public class PostServiceImpl implements PostService {
         // 연관된 이미지들을 소프트 삭제 처리
         postImageService.softDeleteImagesForPost(postId);
 
+        // 캐시된 검색 결과는 조회 시 삭제된 게시글을 제외하므로 검색 캐시는 유지
         post.setIsDeleted(true);
         postRepository.save(post);
     }
@@ -108,6 +119,7 @@ public class PostServiceImpl implements PostService {
         }
 
         // 게시글 내용 업데이트
+        String previousTitle = post.getTitle();
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
         post.setIsSameTeam(request.getIsSameTeam());
@@ -116,6 +128,13 @@ public class PostServiceImpl implements PostService {
         postImageService.processImagesInContent(request.getContent(), post);
 
         postRepository.save(post);
+
+        // 제목이 바뀐 경우에만 커밋 이후 변경 전/후 제목과 일치할 수 있는 검색어 캐시 삭제
+        if (!Objects.equals(previousTitle, request.getTitle())) {
+            Long teamId = post.getTeamId();
+            List<String> titles = Arrays.asList(previousTitle, request.getTitle());
+            TransactionUtil.runAfterCommit(() -> postSearchCacheService.evictMatching(teamId, titles));
+        }
     }
 
     /*
@@ -123,26 +142,17 @@ public class PostServiceImpl implements PostService {
     */
     public PostListPageResponse getPostList(Long cursor) {
         Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Page<Post> postPage;
+        Slice<Post> postPage;
 
         if (cursor == null) {
             // 첫 페이지 - 전체 조회 (삭제되지 않은 게시글만)
-            postPage = postRepository.findByIsDeletedFalseOrderByIdDesc(pageable);
+            postPage = postRepository.findLatest(pageable);
         } else {
             // 다음 페이지 - 커서 이후 데이터 조회 (삭제되지 않은 게시글만)
-            postPage = postRepository.findByIsDeletedFalseAndIdLessThanOrderByIdDesc(cursor, pageable);
+            postPage = postRepository.findLatestAfterCursor(cursor, pageable);
         }
 
-        List<PostListResponse> posts = postPage.getContent()
-                .stream()
-                .map(post -> {
-                    PostListResponse response = new PostListResponse(post);
-                    response.setViewCount(postCountService.getViewCount(post.getId()));
-                    response.setLikeCount(postCountService.getLikeCount(post.getId()));
-                    response.setCommentCount(postCountService.getCommentCount(post.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        List<PostListResponse> posts = toPostListResponses(postPage.getContent());
 
         boolean hasNext = postPage.hasNext();
         Long nextCursor = null;
@@ -160,26 +170,17 @@ public class PostServiceImpl implements PostService {
     @Override
     public PostListPageResponse getPostListByTeam(Long teamId, Long cursor) {
         Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Page<Post> postPage;
+        Slice<Post> postPage;
 
         if (cursor == null) {
             // 첫 페이지 - 팀별 조회 (삭제되지 않은 게시글만)
-            postPage = postRepository.findByIsDeletedFalseAndTeamIdOrderByIdDesc(teamId, pageable);
+            postPage = postRepository.findLatestByTeamId(teamId, pageable);
         } else {
             // 다음 페이지 - 팀별 커서 이후 데이터 조회 (삭제되지 않은 게시글만)
-            postPage = postRepository.findByIsDeletedFalseAndTeamIdAndIdLessThanOrderByIdDesc(teamId, cursor, pageable);
+            postPage = postRepository.findLatestByTeamIdAfterCursor(teamId, cursor, pageable);
         }
 
-        List<PostListResponse> posts = postPage.getContent()
-                .stream()
-                .map(post -> {
-                    PostListResponse response = new PostListResponse(post);
-                    response.setViewCount(postCountService.getViewCount(post.getId()));
-                    response.setLikeCount(postCountService.getLikeCount(post.getId()));
-                    response.setCommentCount(postCountService.getCommentCount(post.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        List<PostListResponse> posts = toPostListResponses(postPage.getContent());
 
         boolean hasNext = postPage.hasNext();
         Long nextCursor = null;
@@ -204,21 +205,22 @@ public class PostServiceImpl implements PostService {
             throw new ApiException(ErrorCode.NOT_FOUND);
         }
 
-        postCountService.incrementViewCount(postId, userId);
-        
-        // 3일 이내 작성된 글인지 확인 후 Kafka 이벤트 전송
-        if (post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(3))) {
-            postEventKafkaProducer.sendViewEvent(postId, userId, post.getTeamId());
-        }
+        // 조회 기록은 비동기 일괄 처리 (3일 이내 작성된 글만 Kafka 이벤트 전송)
+        boolean counted = postViewTrackingService.track(postId, userId, post.getTeamId(),
+                post.getCreatedAt().isAfter(LocalDateTime.now().minusDays(3)));
+
+        // 이번 조회는 아직 카운터에 반영 전이므로 응답에만 더함
+        PostCountDto counts = postCountService.getCounts(List.of(postId)).get(postId);
+        int viewCount = counted ? counts.viewCount() + 1 : counts.viewCount();
 
         return PostDetailResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
                 .authorNickname(post.getUser().getNickname())
                 .content(post.getContent())
-                .viewCount(postCountService.getViewCount(postId))
-                .likeCount(postCountService.getLikeCount(postId))
-                .commentCount(postCountService.getCommentCount(post.getId()))
+                .viewCount(viewCount)
+                .likeCount(counts.likeCount())
+                .commentCount(counts.commentCount())
                 .createdAt(post.getCreatedAt().toString())
                 .updatedAt(post.getUpdatedAt().toString())
                 .build();
@@ -230,29 +232,20 @@ public class PostServiceImpl implements PostService {
     @Override
     public PostListPageResponse getPostListByUser(Long userId, Long cursor) {
         Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Page<Post> postPage;
+        Slice<Post> postPage;
 
         // 해당 유저가 존재하는지는 유저 구현되면 작성
 
 
         if (cursor == null) {
             // 첫 페이지 - 사용자별 조회 (삭제되지 않은 게시글만)
-            postPage = postRepository.findByIsDeletedFalseAndUserIdOrderByIdDesc(userId, pageable);
+            postPage = postRepository.findLatestByUserId(userId, pageable);
         } else {
             // 다음 페이지 - 사용자별 커서 이후 데이터 조회 (삭제되지 않은 게시글만)
-            postPage = postRepository.findByIsDeletedFalseAndUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable);
+            postPage = postRepository.findLatestByUserIdAfterCursor(userId, cursor, pageable);
         }
 
-        List<PostListResponse> posts = postPage.getContent()
-                .stream()
-                .map(post -> {
-                    PostListResponse response = new PostListResponse(post);
-                    response.setViewCount(postCountService.getViewCount(post.getId()));
-                    response.setLikeCount(postCountService.getLikeCount(post.getId()));
-                    response.setCommentCount(postCountService.getCommentCount(post.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        List<PostListResponse> posts = toPostListResponses(postPage.getContent());
 
         boolean hasNext = postPage.hasNext();
         Long nextCursor = null;
@@ -276,38 +269,89 @@ public class PostServiceImpl implements PostService {
         
         // MySQL FULLTEXT 검색을 위한 키워드 포맷팅
         String formattedKeyword = keyword.trim();
-        
-        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Page<Post> postPage;
-        log.info("[검색 디버깅] teamId : {}, keyword : {}, formattedKeyword : {}, pageable : {}", teamId, keyword, formattedKeyword, pageable);
 
-        if (cursor == null) {
-            // 첫 페이지 - 팀별 제목 검색
-            postPage = postRepository.findByTeamIdAndTitleSearchOrderByIdDesc(teamId, formattedKeyword, pageable);
+        // 동일 검색어/커서의 결과 ID 목록이 캐시되어 있으면 FULLTEXT 검색 생략
+        PostSearchCacheService.CachedPage cachedPage = postSearchCacheService.get(teamId, formattedKeyword, cursor);
+        List<Long> postIds;
+        List<Post> postList;
+        boolean hasNext;
+
+        if (cachedPage != null) {
+            postIds = cachedPage.postIds();
+            postList = findPostsInOrder(postIds);
+            hasNext = cachedPage.hasNext();
         } else {
-            // 다음 페이지 - 팀별 제목 검색 + 커서 기반 페이징
-            postPage = postRepository.findByTeamIdAndTitleSearchAndIdLessThanOrderByIdDesc(teamId, formattedKeyword, cursor, pageable);
+            Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+            Slice<Post> postPage;
+
+            if (cursor == null) {
+                // 첫 페이지 - 팀별 제목 검색
+                postPage = postRepository.findByTeamIdAndTitleSearch(teamId, formattedKeyword, pageable);
+            } else {
+                // 다음 페이지 - 팀별 제목 검색 + 커서 기반 페이징
+                postPage = postRepository.findByTeamIdAndTitleSearchAfterCursor(teamId, formattedKeyword, cursor, pageable);
+            }
+
+            postList = postPage.getContent();
+            postIds = postList.stream().map(Post::getId).toList();
+            hasNext = postPage.hasNext();
+            postSearchCacheService.put(teamId, formattedKeyword, cursor, postIds, hasNext);
         }
 
-        List<PostListResponse> posts = postPage.getContent()
-                .stream()
-                .map(post -> {
-                    PostListResponse response = new PostListResponse(post);
-                    response.setViewCount(postCountService.getViewCount(post.getId()));
-                    response.setLikeCount(postCountService.getLikeCount(post.getId()));
-                    response.setCommentCount(postCountService.getCommentCount(post.getId()));
-                    return response;
-                })
-                .collect(Collectors.toList());
+        List<PostListResponse> posts = toPostListResponses(postList);
 
-        boolean hasNext = postPage.hasNext();
+        // 캐시 저장 이후 삭제된 게시글이 있어도 커서는 원래 페이지 기준으로 유지
         Long nextCursor = null;
 
-        if (hasNext && !posts.isEmpty()) {
-            nextCursor = posts.getLast().getId();
+        if (hasNext && !postIds.isEmpty()) {
+            nextCursor = postIds.getLast();
         }
 
         return new PostListPageResponse(posts, hasNext, nextCursor);
     }
 
-}
\ No newline at end of file
+    /*
+    팀별 검색어 자동완성
+    */
+    @Override
+    public List<String> suggestSearchKeywords(Long teamId, String prefix) {
+        return postSearchCacheService.suggest(teamId, prefix);
+    }
+
+    /*
+    캐시된 ID 순서대로 게시글 조회 (캐시 저장 이후 삭제된 게시글 제외)
+    */
+    private List<Post> findPostsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> postMap = postRepository.findAllWithUserByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(post -> post != null && !post.getIsDeleted())
+                .toList();
+    }
+
+    /*
+    게시글 목록 응답 변환 (카운트는 페이지 단위로 일괄 조회)
+    */
+    private List<PostListResponse> toPostListResponses(List<Post> postList) {
+        Map<Long, PostCountDto> counts = postCountService.getCounts(
+                postList.stream().map(Post::getId).toList());
+
+        return postList.stream()
+                .map(post -> {
+                    PostListResponse response = new PostListResponse(post);
+                    PostCountDto count = counts.get(post.getId());
+                    response.setViewCount(count.viewCount());
+                    response.setLikeCount(count.likeCount());
+                    response.setCommentCount(count.commentCount());
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+}
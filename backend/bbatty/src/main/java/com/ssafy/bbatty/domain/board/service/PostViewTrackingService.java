@@ -0,0 +1,11 @@
+package com.ssafy.bbatty.domain.board.service;
+
+public interface PostViewTrackingService {
+
+    /**
+     * 게시글 조회 기록 (요청 스레드에서는 메모리 대기열 적재만 수행)
+     * @param publishEvent 인기글 집계용 조회 이벤트 발행 여부
+     * @return 조회수에 반영될 조회이면 true (중복 조회 또는 과부하로 버려진 경우 false)
+     */
+    boolean track(Long postId, Long userId, Long teamId, boolean publishEvent);
+}
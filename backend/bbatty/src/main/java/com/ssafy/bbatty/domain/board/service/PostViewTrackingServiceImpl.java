@@ -0,0 +1,206 @@
+package com.ssafy.bbatty.domain.board.service;
+
+import com.ssafy.bbatty.domain.board.dto.event.PostEventDto;
+import com.ssafy.bbatty.domain.board.kafka.PostEventKafkaProducer;
+import com.ssafy.bbatty.domain.board.repository.PostViewBulkRepository.PostViewLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 조회 추적 파이프라인
+ * - 요청 스레드: 사용자/게시글 중복 조회 확인 후 bounded 대기열에 적재만 하고 즉시 반환
+ * - 적재 스레드: 배치 크기 도달 또는 flush 주기 경과 시 한 번에 처리
+ *   · Redis 스크립트 1회로 조회 로그 대기열 적재 + 게시글별 조회수 증가 (DB INSERT는 PostViewLogFlushScheduler가 일괄 처리)
+ *   · 인기글 집계용 Kafka 이벤트 일괄 전송
+ * - 대기열이 가득 차면 조회 기록을 버리고 요청은 정상 처리 (조회수는 근사치 허용)
+ * - 종료 시 대기열에 남은 조회는 모두 처리 후 종료
+ */
+@Slf4j
+@Service
+public class PostViewTrackingServiceImpl implements PostViewTrackingService {
+
+    private final PostCountService postCountService;
+    private final PostEventKafkaProducer postEventKafkaProducer;
+    private final BlockingQueue<PostViewEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long dedupeWindowMs;
+    private final int dedupeMaxEntries;
+
+    // {post_id}:{user_id} -> 마지막으로 반영한 조회 시각 (epoch millis)
+    private final Map<String, Long> recentViews = new ConcurrentHashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long lastEvictedAt;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public PostViewTrackingServiceImpl(
+            PostCountService postCountService,
+            PostEventKafkaProducer postEventKafkaProducer,
+            @Value("${board.view-tracking.queue-capacity:10000}") int queueCapacity,
+            @Value("${board.view-tracking.batch-size:500}") int batchSize,
+            @Value("${board.view-tracking.flush-interval-ms:1000}") long flushIntervalMs,
+            @Value("${board.view-tracking.dedupe-window-ms:600000}") long dedupeWindowMs,
+            @Value("${board.view-tracking.dedupe-max-entries:100000}") int dedupeMaxEntries
+    ) {
+        this.postCountService = postCountService;
+        this.postEventKafkaProducer = postEventKafkaProducer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.dedupeWindowMs = dedupeWindowMs;
+        this.dedupeMaxEntries = dedupeMaxEntries;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("post-view-flusher").daemon().start(this::runFlushLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(flushIntervalMs * 5);
+    }
+
+    @Override
+    public boolean track(Long postId, Long userId, Long teamId, boolean publishEvent) {
+        long now = System.currentTimeMillis();
+        if (isDuplicate(postId + ":" + userId, now)) {
+            return false;
+        }
+
+        if (!queue.offer(new PostViewEvent(postId, userId, teamId, LocalDateTime.now(), publishEvent))) {
+            long dropped = droppedCount.incrementAndGet();
+            if (dropped % 1000 == 1) {
+                log.warn("게시글 조회 대기열 가득 참 - 조회 기록 폐기: 누적 {}건", dropped);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 중복 조회 판정 후 조회 시각 갱신
+     * 추적 항목이 상한에 도달하면 새 항목은 기록하지 않고 조회로 인정 (메모리 상한 우선)
+     */
+    private boolean isDuplicate(String viewKey, long now) {
+        if (recentViews.size() >= dedupeMaxEntries && !recentViews.containsKey(viewKey)) {
+            return false;
+        }
+
+        boolean[] duplicate = {false};
+        recentViews.compute(viewKey, (key, lastViewedAt) -> {
+            if (lastViewedAt != null && now - lastViewedAt < dedupeWindowMs) {
+                duplicate[0] = true;
+                return lastViewedAt;
+            }
+            return now;
+        });
+        return duplicate[0];
+    }
+
+    private void runFlushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PostViewEvent> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                evictExpiredViews();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("게시글 조회 적재 스레드 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 첫 조회가 들어온 시점부터 배치 크기가 차거나 flush 주기가 지날 때까지 수집
+     */
+    private List<PostViewEvent> nextBatch() throws InterruptedException {
+        List<PostViewEvent> batch = new ArrayList<>(batchSize);
+        PostViewEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            PostViewEvent next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PostViewEvent> batch) {
+        List<PostViewLog> logs = new ArrayList<>(batch.size());
+        List<PostEventDto> events = new ArrayList<>();
+        for (PostViewEvent view : batch) {
+            logs.add(new PostViewLog(view.postId(), view.userId(), view.viewedAt()));
+            if (view.publishEvent()) {
+                events.add(PostEventDto.builder()
+                        .postId(view.postId())
+                        .userId(view.userId())
+                        .teamId(view.teamId())
+                        .eventType("VIEW")
+                        .eventTime(view.viewedAt())
+                        .build());
+            }
+        }
+
+        try {
+            postCountService.incrementViewCounts(logs);
+        } catch (Exception e) {
+            // Redis 장애 시 이번 배치의 조회수는 유실 (요청 처리에는 영향 없음)
+            log.error("게시글 조회수 일괄 반영 실패로 폐기: {}건, error={}", logs.size(), e.getMessage());
+        }
+
+        if (!events.isEmpty()) {
+            postEventKafkaProducer.sendViewEvents(events);
+        }
+        log.debug("게시글 조회 일괄 처리: {}건, 이벤트 {}건", logs.size(), events.size());
+    }
+
+    /**
+     * 중복 판정 기간이 지난 항목 제거 (flush 주기마다 최대 1회)
+     */
+    private void evictExpiredViews() {
+        long now = System.currentTimeMillis();
+        if (now - lastEvictedAt < flushIntervalMs) {
+            return;
+        }
+        lastEvictedAt = now;
+        recentViews.values().removeIf(lastViewedAt -> now - lastViewedAt >= dedupeWindowMs);
+    }
+
+    private record PostViewEvent(Long postId, Long userId, Long teamId, LocalDateTime viewedAt, boolean publishEvent) {
+    }
+}
@@ -9,16 +9,23 @@ import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.exception.ApiException;
 import com.ssafy.bbatty.global.response.ApiResponse;
 import com.ssafy.bbatty.global.security.JwtProvider;
+import com.ssafy.bbatty.global.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 채팅 요청 처리 공통 기능을 제공하는 추상 Consumer 클래스
  * JWT 추출, 예외 처리, 응답 전송 등의 중복 로직을 집중 관리
+ * 요청은 poll 단위 배치로 처리
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -29,10 +36,25 @@ public abstract class AbstractChatRequestConsumer {
     protected final ChatAuthService chatAuthService;
     protected final ChatAuthKafkaProducer chatAuthKafkaProducer;
 
+    /**
+     * 배치 메시지 처리 템플릿 메서드
+     * 한 번의 poll로 받은 요청을 순서대로 처리하며, 같은 배치 내 동일 토큰은 한 번만 검증
+     * (경기 시작 직전 입장 요청 폭주 시 서명 검증/경기 조회 부하 감소)
+     */
+    protected void handleChatRequests(List<ConsumerRecord<String, String>> records, String chatType) {
+        log.debug("{} 채팅 요청 배치 수신: size={}", chatType, records.size());
+
+        Map<String, UserPrincipal> verifiedUsers = new HashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            handleChatRequest(record.value(), extractAuthHeader(record), chatType, verifiedUsers);
+        }
+    }
+
     /**
      * 공통 메시지 처리 템플릿 메서드
      */
-    protected void handleChatRequest(String message, String authHeader, String chatType) {
+    private void handleChatRequest(String message, String authHeader, String chatType,
+                                   Map<String, UserPrincipal> verifiedUsers) {
         String requestId = null;
 
         try {
@@ -40,12 +62,9 @@ public abstract class AbstractChatRequestConsumer {
             JsonNode requestNode = objectMapper.readTree(message);
             requestId = extractRequestId(requestNode);
 
-            // 2. JWT 토큰 추출 및 사용자 정보 추출
+            // 2. JWT 토큰 추출 및 사용자 정보 추출 (서명 검증 1회)
             String jwtToken = extractJwtToken(authHeader);
-            Long userId = getUserIdFromToken(jwtToken);
-            Long userTeamId = getTeamIdFromToken(jwtToken);
-            String userGender = getGenderFromToken(jwtToken);
-            int userAge = getAgeFromToken(jwtToken);
+            UserPrincipal user = verifiedUsers.computeIfAbsent(jwtToken, this::verifyToken);
             String userNickname = null; // 매칭/관전 채팅에 따라 다르게 처리
 
             // 3. 채팅 요청 객체 생성
@@ -53,16 +72,16 @@ public abstract class AbstractChatRequestConsumer {
 
             // 4. 채팅 인증 처리 (템플릿 메서드 패턴)
             ApiResponse<ChatAuthResponse> response = chatAuthService.authorizeChatAccess(
-                    userId,
-                    userTeamId,
-                    userGender,
-                    userAge,
+                    user.getUserId(),
+                    user.getTeamId(),
+                    user.getGender(),
+                    user.getAge(),
                     userNickname,
                     chatAuthRequest
             );
 
             log.info("{} 채팅 인증 처리 완료: requestId={}, userId={}",
-                    chatType, requestId, userId);
+                    chatType, requestId, user.getUserId());
 
         } catch (ApiException e) {
             log.warn("{} 채팅 인증 실패: requestId={}, error={}", chatType, requestId, e.getMessage());
@@ -74,6 +93,14 @@ public abstract class AbstractChatRequestConsumer {
         }
     }
 
+    /**
+     * Kafka 레코드 헤더에서 Authorization 값 추출
+     */
+    private String extractAuthHeader(ConsumerRecord<String, String> record) {
+        Header header = record.headers().lastHeader("Authorization");
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
     /**
      * 요청 ID 추출
      */
@@ -96,34 +123,14 @@ public abstract class AbstractChatRequestConsumer {
     }
 
     /**
-     * JWT 토큰에서 사용자 ID 추출
+     * JWT 토큰 검증 후 사용자 정보 추출 (클레임 1회 파싱)
      */
-    private Long getUserIdFromToken(String jwtToken) {
-        if (!jwtProvider.validateAccessToken(jwtToken)) {
+    private UserPrincipal verifyToken(String jwtToken) {
+        Claims claims = jwtProvider.getAccessTokenClaims(jwtToken);
+        if (claims == null) {
             throw new ApiException(ErrorCode.INVALID_TOKEN);
         }
-        return jwtProvider.getUserId(jwtToken);
-    }
-    
-    /**
-     * JWT 토큰에서 팀 ID 추출
-     */
-    private Long getTeamIdFromToken(String jwtToken) {
-        return jwtProvider.getTeamId(jwtToken);
-    }
-    
-    /**
-     * JWT 토큰에서 성별 추출
-     */
-    private String getGenderFromToken(String jwtToken) {
-        return jwtProvider.getGender(jwtToken);
-    }
-    
-    /**
-     * JWT 토큰에서 나이 추출
-     */
-    private int getAgeFromToken(String jwtToken) {
-        return jwtProvider.getAge(jwtToken);
+        return UserPrincipal.from(claims);
     }
 
     /**
@@ -9,11 +9,11 @@ import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.exception.ApiException;
 import com.ssafy.bbatty.global.security.JwtProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,10 +36,10 @@ public class MatchChatRequestConsumer extends AbstractChatRequestConsumer {
     }
 
     @KafkaListener(topics = "#{chatKafkaProperties.topics.matchChatRequest}", 
-                   groupId = "#{chatKafkaProperties.groups.matchChatGroup}")
-    public void handleMatchChatRequest(@Payload String message,
-                                       @Header("Authorization") String authHeader) {
-        super.handleChatRequest(message, authHeader, "MATCH");
+                   groupId = "#{chatKafkaProperties.groups.matchChatGroup}",
+                   batch = "true")
+    public void handleMatchChatRequests(List<ConsumerRecord<String, String>> records) {
+        super.handleChatRequests(records, "MATCH");
     }
 
     @Override
@@ -1,7 +1,7 @@
 package com.ssafy.bbatty.domain.chat.service;
 
 import com.ssafy.bbatty.domain.game.entity.Game;
-import com.ssafy.bbatty.domain.game.repository.GameRepository;
+import com.ssafy.bbatty.domain.game.service.TodayGameCacheService;
 import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
@@ -20,14 +20,14 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class GameInfoService {
     
-    private final GameRepository gameRepository;
+    private final TodayGameCacheService todayGameCacheService;
     
     /**
      * 게임 정보 생성 (매칭 채팅용)
      */
     public Map<String, Object> createGameInfo(Long gameId) {
         try {
-            Game game = gameRepository.findById(gameId)
+            Game game = todayGameCacheService.findGame(gameId)
                     .orElseThrow(() -> new ApiException(ErrorCode.GAME_NOT_FOUND));
             
             return Map.of(
@@ -50,7 +50,7 @@ public class GameInfoService {
      * 게임 존재 여부 확인
      */
     public Game findGameById(Long gameId) {
-        return gameRepository.findById(gameId)
+        return todayGameCacheService.findGame(gameId)
                 .orElseThrow(() -> new ApiException(ErrorCode.GAME_NOT_FOUND));
     }
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.ssafy.bbatty.domain.chat.strategy;
 
 import com.ssafy.bbatty.domain.chat.dto.request.ChatAuthRequest;
 import com.ssafy.bbatty.domain.game.entity.Game;
-import com.ssafy.bbatty.domain.game.repository.GameRepository;
+import com.ssafy.bbatty.domain.game.service.TodayGameCacheService;
 import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.constants.GameStatus;
 import com.ssafy.bbatty.global.exception.ApiException;
@@ -20,7 +20,7 @@ import java.util.Map;
 @Slf4j
 public class MatchChatValidationStrategy implements ChatValidationStrategy {
     
-    private final GameRepository gameRepository;
+    private final TodayGameCacheService todayGameCacheService;
     
     @Override
     public void validateChatPermission(Long userId, Long userTeamId, String userGender, int userAge, ChatAuthRequest request) {
@@ -45,7 +45,7 @@ public class MatchChatValidationStrategy implements ChatValidationStrategy {
         }
 
         // 경기 존재 여부 확인
-        Game game = gameRepository.findById(request.getGameId())
+        Game game = todayGameCacheService.findGame(request.getGameId())
                 .orElseThrow(() -> new ApiException(ErrorCode.GAME_NOT_FOUND));
 
         // 기본적인 경기 상태 확인
@@ -2,7 +2,7 @@ package com.ssafy.bbatty.domain.chat.strategy;
 
 import com.ssafy.bbatty.domain.chat.dto.request.ChatAuthRequest;
 import com.ssafy.bbatty.domain.game.entity.Game;
-import com.ssafy.bbatty.domain.game.repository.GameRepository;
+import com.ssafy.bbatty.domain.game.service.TodayGameCacheService;
 import com.ssafy.bbatty.global.constants.ErrorCode;
 import com.ssafy.bbatty.global.constants.GameStatus;
 import com.ssafy.bbatty.global.exception.ApiException;
@@ -22,7 +22,7 @@ import java.util.Map;
 @Slf4j
 public class WatchChatValidationStrategy implements ChatValidationStrategy {
     
-    private final GameRepository gameRepository;
+    private final TodayGameCacheService todayGameCacheService;
     
     @Override
     public void validateChatPermission(Long userId, Long userTeamId, String userGender, int userAge, ChatAuthRequest request) {
@@ -55,7 +55,7 @@ public class WatchChatValidationStrategy implements ChatValidationStrategy {
             Long supportTeamId = ((Number) teamIdObj).longValue();
 
             // 경기 정보 확인
-            Game game = gameRepository.findById(request.getGameId())
+            Game game = todayGameCacheService.findGame(request.getGameId())
                     .orElseThrow(() -> new ApiException(ErrorCode.GAME_NOT_FOUND));
 
             // 경기 상태 확인 (종료된 경기는 직관 채팅 불가)
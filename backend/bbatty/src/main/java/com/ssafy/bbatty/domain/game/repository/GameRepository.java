@@ -19,12 +19,22 @@ public interface GameRepository extends JpaRepository<Game, Long> {
     
     /**
      * 특정 팀의 당일 경기 조회 (직관 인증용)
+     * 당일 00:00 이상 ~ 다음날 00:00 미만 범위 조건으로 조회하여 date_time 인덱스 사용
      */
-    @Query("SELECT g FROM Game g WHERE (g.homeTeam.id = :teamId OR g.awayTeam.id = :teamId) " +
-           "AND DATE(g.dateTime) = :date AND g.status = :status")
-    List<Game> findTeamGamesToday(@Param("teamId") Long teamId, 
-                                  @Param("date") LocalDate date, 
-                                  @Param("status") GameStatus status);
+    default List<Game> findTeamGamesToday(Long teamId, LocalDate date, GameStatus status) {
+        return findTeamGamesBetween(teamId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), status);
+    }
+
+    /**
+     * 특정 팀의 기간 내 경기 조회 (start 이상, end 미만)
+     * 컬럼에 함수를 씌우지 않은 범위 조건이므로 idx_date_time 또는 팀별 (team_id, date_time) 인덱스 사용 가능
+     */
+    @Query("SELECT g FROM Game g WHERE g.dateTime >= :start AND g.dateTime < :end " +
+           "AND (g.homeTeam.id = :teamId OR g.awayTeam.id = :teamId) AND g.status = :status")
+    List<Game> findTeamGamesBetween(@Param("teamId") Long teamId,
+                                    @Param("start") LocalDateTime start,
+                                    @Param("end") LocalDateTime end,
+                                    @Param("status") GameStatus status);
 
     /**
      * 특정 기간 동안의 경기 조회 (3주간 일정 조회용)
@@ -32,4 +42,12 @@ public interface GameRepository extends JpaRepository<Game, Long> {
     @Query("SELECT g FROM Game g WHERE g.dateTime BETWEEN :startDate AND :endDate ORDER BY g.dateTime ASC")
     List<Game> findByDateTimeBetween(@Param("startDate") LocalDateTime startDate, 
                                      @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 특정 기간 동안의 경기를 팀 정보와 함께 조회 (당일 경기 캐시 적재용)
+     */
+    @Query("SELECT g FROM Game g JOIN FETCH g.homeTeam JOIN FETCH g.awayTeam " +
+           "WHERE g.dateTime BETWEEN :startDate AND :endDate")
+    List<Game> findWithTeamsByDateTimeBetween(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate);
 }
@@ -0,0 +1,34 @@
+package com.ssafy.bbatty.domain.game.service;
+
+import com.ssafy.bbatty.domain.game.entity.Game;
+import com.ssafy.bbatty.global.constants.Stadium;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 당일 경기 인메모리 캐시 서비스
+ * 경기 시작 직전 채팅 입장/직관 인증 요청이 몰려도 당일 경기와 경기장 위치는 DB 조회 없이 제공
+ */
+public interface TodayGameCacheService {
+
+    /**
+     * 경기 조회 (당일 경기는 캐시, 그 외는 DB 조회)
+     */
+    Optional<Game> findGame(Long gameId);
+
+    /**
+     * 팀의 당일 예정(SCHEDULED) 경기 조회 (경기 시각순)
+     */
+    List<Game> findTeamGames(Long teamId);
+
+    /**
+     * 당일 경기의 경기장 조회 (구장 정보가 없거나 당일 경기가 아니면 empty)
+     */
+    Optional<Stadium> findStadium(Long gameId);
+
+    /**
+     * 캐시 무효화 (다음 조회 시 재적재)
+     */
+    void invalidate();
+}
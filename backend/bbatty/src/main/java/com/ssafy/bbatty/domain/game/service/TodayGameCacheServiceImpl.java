@@ -0,0 +1,175 @@
+package com.ssafy.bbatty.domain.game.service;
+
+import com.ssafy.bbatty.domain.game.entity.Game;
+import com.ssafy.bbatty.domain.game.repository.GameRepository;
+import com.ssafy.bbatty.global.constants.GameStatus;
+import com.ssafy.bbatty.global.constants.RedisKey;
+import com.ssafy.bbatty.global.constants.Stadium;
+import com.ssafy.bbatty.global.exception.ApiException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 당일 경기 인메모리 캐시 서비스 구현체
+ * - 당일(한국 시간) 경기를 팀 정보와 함께 한 번에 적재한 불변 스냅샷으로 보관
+ *   (팀별 예정 경기 목록과 경기별 경기장도 적재 시 한 번만 계산)
+ * - 날짜가 바뀌거나 최대 보관 시간이 지나면 재적재
+ * - schedule 서버 크롤러가 경기 일정/결과를 저장하면 Pub/Sub 이벤트로 즉시 무효화
+ */
+@Service
+@Slf4j
+public class TodayGameCacheServiceImpl implements TodayGameCacheService, MessageListener {
+
+    private static final ZoneId SEOUL_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final GameRepository gameRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long maxAgeMillis;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // 무효화 시 증가 (적재 중 무효화된 스냅샷이 저장되지 않도록)
+    private final AtomicLong invalidationVersion = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public TodayGameCacheServiceImpl(
+            GameRepository gameRepository,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${game.today-cache.max-age-ms:600000}") long maxAgeMillis
+    ) {
+        this.gameRepository = gameRepository;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKey.GAME_SCHEDULE_UPDATED_CHANNEL));
+    }
+
+    @Override
+    public Optional<Game> findGame(Long gameId) {
+        Game game = currentSnapshot().games().get(gameId);
+        if (game != null) {
+            return Optional.of(game);
+        }
+        // 당일 경기가 아니면 DB 조회
+        return gameRepository.findById(gameId);
+    }
+
+    @Override
+    public List<Game> findTeamGames(Long teamId) {
+        return currentSnapshot().gamesByTeam().getOrDefault(teamId, List.of());
+    }
+
+    @Override
+    public Optional<Stadium> findStadium(Long gameId) {
+        return Optional.ofNullable(currentSnapshot().stadiums().get(gameId));
+    }
+
+    @Override
+    public void invalidate() {
+        invalidationVersion.incrementAndGet();
+        snapshot = null;
+        log.info("당일 경기 캐시 무효화");
+    }
+
+    /**
+     * 경기 정보 변경 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidate();
+    }
+
+    /**
+     * 유효한 스냅샷 반환 (없거나 만료되었으면 한 스레드만 재적재)
+     */
+    private Snapshot currentSnapshot() {
+        LocalDate today = LocalDate.now(SEOUL_ZONE);
+        Snapshot current = snapshot;
+        if (current != null && current.isValid(today, maxAgeMillis)) {
+            return current;
+        }
+
+        loadLock.lock();
+        try {
+            current = snapshot;
+            if (current != null && current.isValid(today, maxAgeMillis)) {
+                return current;
+            }
+
+            long version = invalidationVersion.get();
+            List<Game> games = gameRepository.findWithTeamsByDateTimeBetween(today.atStartOfDay(), today.atTime(LocalTime.MAX));
+            Map<Long, Game> gameMap = games.stream().collect(Collectors.toUnmodifiableMap(Game::getId, Function.identity()));
+
+            current = new Snapshot(today, gameMap, groupScheduledByTeam(games), resolveStadiums(games), System.currentTimeMillis());
+            if (version == invalidationVersion.get()) {
+                snapshot = current;
+            }
+            log.info("당일 경기 캐시 적재: date={}, count={}", today, gameMap.size());
+            return current;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 팀 ID -> 당일 예정 경기 (홈/원정 모두 포함, 경기 시각순)
+     */
+    private Map<Long, List<Game>> groupScheduledByTeam(List<Game> games) {
+        Map<Long, List<Game>> gamesByTeam = new HashMap<>();
+        games.stream()
+                .filter(game -> game.getStatus() == GameStatus.SCHEDULED)
+                .sorted(Comparator.comparing(Game::getDateTime))
+                .forEach(game -> {
+                    gamesByTeam.computeIfAbsent(game.getHomeTeam().getId(), teamId -> new ArrayList<>()).add(game);
+                    gamesByTeam.computeIfAbsent(game.getAwayTeam().getId(), teamId -> new ArrayList<>()).add(game);
+                });
+
+        Map<Long, List<Game>> immutable = new HashMap<>();
+        gamesByTeam.forEach((teamId, teamGames) -> immutable.put(teamId, List.copyOf(teamGames)));
+        return Map.copyOf(immutable);
+    }
+
+    /**
+     * 경기 ID -> 경기장 (구장명이 등록되지 않은 경기는 제외)
+     */
+    private Map<Long, Stadium> resolveStadiums(List<Game> games) {
+        Map<Long, Stadium> stadiums = new HashMap<>();
+        for (Game game : games) {
+            try {
+                stadiums.put(game.getId(), Stadium.findByName(game.getStadium()));
+            } catch (ApiException e) {
+                log.warn("경기장 정보 없음: gameId={}, stadium={}", game.getId(), game.getStadium());
+            }
+        }
+        return Map.copyOf(stadiums);
+    }
+
+    private record Snapshot(LocalDate date, Map<Long, Game> games, Map<Long, List<Game>> gamesByTeam,
+                            Map<Long, Stadium> stadiums, long loadedAtMillis) {
+        boolean isValid(LocalDate today, long maxAgeMillis) {
+            return date.equals(today) && System.currentTimeMillis() - loadedAtMillis < maxAgeMillis;
+        }
+    }
+}
@@ -1,33 +1,33 @@
 package com.ssafy.bbatty.domain.notification.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.ssafy.bbatty.domain.notification.entity.NotificationSetting;
-import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import com.ssafy.bbatty.domain.attendance.repository.redis.AttendanceRecordRedisRepository;
 import com.ssafy.bbatty.domain.notification.service.PushNotificationService;
 import com.ssafy.bbatty.domain.team.repository.TeamRepository;
-import com.ssafy.bbatty.global.constants.RedisKey;
-import com.ssafy.bbatty.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.ZoneId;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * 트래픽 급증 알림 Consumer
+ * - 팀 토픽 조건 발송 1회로 알림을 켠 팀 사용자 중 당일 직관 인증자를 제외하고 전달
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TrafficSpikeAlertConsumer {
 
-    private final NotificationSettingRepository notificationSettingRepository;
     private final TeamRepository teamRepository;
     private final PushNotificationService pushNotificationService;
-    private final RedisUtil redisUtil;
+    private final AttendanceRecordRedisRepository attendanceRecordRedisRepository;
     private final ObjectMapper objectMapper;
 
-
     @KafkaListener(topics = "traffic-spike-alert", groupId = "bbatty-notification-group")
     public void handleTrafficSpikeAlert(String message) {
         try {
@@ -44,25 +44,14 @@ public class TrafficSpikeAlertConsumer {
             
             log.info("트래픽 급증 알림 처리 시작 - teamId: {}, teamName: {}", teamId, teamName);
 
-            List<NotificationSetting> candidateUsers = notificationSettingRepository
-                    .findTrafficSpikeAlertEnabledUsers(teamId);
-
-            if (candidateUsers.isEmpty()) {
-                log.info("트래픽 급증 알림 대상 사용자 없음 - teamId: {}", teamId);
-                return;
-            }
-
-            List<NotificationSetting> unAuthenticatedUsers = filterUnAuthenticatedUsers(candidateUsers);
-
-            if (unAuthenticatedUsers.isEmpty()) {
-                log.info("미인증 사용자 없음 (모두 직관 인증 완료) - teamId: {}", teamId);
-                return;
-            }
+            // 당일 팀 직관 인증자 (Redis 조회 1회)
+            LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+            Set<Long> attendees = attendanceRecordRedisRepository.findTeamAttendees(teamId, today);
 
-            log.info("트래픽 급증 알림 발송 대상 - teamId: {}, total: {}, unAuthenticated: {}", 
-                    teamId, candidateUsers.size(), unAuthenticatedUsers.size());
+            // 알림 대상 = 팀 토픽 구독자(알림 활성 사용자) - 당일 인증자 토픽 구독자
+            pushNotificationService.sendTrafficSpikeAlert(teamId, teamName, today, attendees);
 
-            pushNotificationService.sendBatchNotifications(unAuthenticatedUsers, teamName);
+            log.info("트래픽 급증 알림 발송 요청 완료 - teamId: {}, attended: {}", teamId, attendees.size());
 
         } catch (Exception e) {
             log.error("트래픽 급증 알림 처리 중 오류 발생", e);
@@ -74,28 +63,4 @@ public class TrafficSpikeAlertConsumer {
                 .map(team -> team.getName())
                 .orElse("Unknown Team");
     }
-
-    private List<NotificationSetting> filterUnAuthenticatedUsers(List<NotificationSetting> candidateUsers) {
-        LocalDate today = LocalDate.now();
-        
-        return candidateUsers.stream()
-                .filter(setting -> !isUserAuthenticated(setting.getUser().getId(), today))
-                .toList();
-    }
-
-    private boolean isUserAuthenticated(Long userId, LocalDate date) {
-        try {
-            String attendancePattern = RedisKey.USER_ATTENDANCE_GAME + userId + ":*";
-            
-            return redisUtil.getKeys(attendancePattern).stream()
-                    .anyMatch(key -> {
-                        String value = redisUtil.getValue(key);
-                        return "ATTENDED".equals(value);
-                    });
-                    
-        } catch (Exception e) {
-            log.warn("사용자 직관 인증 상태 확인 실패 - userId: {}", userId, e);
-            return false;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package com.ssafy.bbatty.domain.notification.repository;
 
 import com.ssafy.bbatty.domain.notification.entity.NotificationSetting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +40,20 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
            "AND u.isDeleted = false")
     List<NotificationSetting> findTrafficSpikeAlertEnabledUsers(@Param("teamId") Long teamId);
 
+    /**
+     * 특정 팀의 트래픽 급증 알림 활성화된 사용자들 조회 (ID 커서 기반 청크 조회)
+     */
+    @Query("SELECT ns FROM NotificationSetting ns " +
+           "JOIN FETCH ns.user u " +
+           "WHERE u.team.id = :teamId " +
+           "AND u.trafficSpikeAlertEnabled = true " +
+           "AND u.isDeleted = false " +
+           "AND ns.id > :lastId " +
+           "ORDER BY ns.id")
+    List<NotificationSetting> findTrafficSpikeAlertEnabledUsersAfter(@Param("teamId") Long teamId,
+                                                                   @Param("lastId") Long lastId,
+                                                                   Pageable pageable);
+
     /**
      * 특정 팀의 모든 알림 설정 조회
      */
@@ -54,6 +71,45 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
            "AND ns.isDeleted = false")
     List<NotificationSetting> findExpiredTokens(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
 
+    /**
+     * 만료된 토큰 일괄 삭제 - 특정 날짜 이전에 업데이트되지 않은 설정들 (엔티티 로딩 없이 DELETE 1회)
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationSetting ns " +
+           "WHERE ns.updatedAt < :cutoffDate " +
+           "AND ns.isDeleted = false")
+    int deleteExpiredTokens(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+
+    /**
+     * 만료 정리 대상 토큰과 소속 팀 조회 [fcmToken, teamId] (삭제 전 팀 토픽 구독 해지용)
+     */
+    @Query("SELECT ns.fcmToken, ns.user.team.id FROM NotificationSetting ns " +
+           "WHERE ns.updatedAt < :cutoffDate " +
+           "AND ns.isDeleted = false")
+    List<Object[]> findExpiredTeamTokens(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+
+    /**
+     * FCM 토큰과 소속 팀 조회 [fcmToken, teamId] (무효 토큰 삭제 전 팀 토픽 구독 해지용)
+     */
+    @Query("SELECT ns.fcmToken, ns.user.team.id FROM NotificationSetting ns WHERE ns.fcmToken IN :fcmTokens")
+    List<Object[]> findTeamTokensByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
+
+    /**
+     * 사용자들의 FCM 토큰 조회 (당일 직관 인증자 제외 토픽 구독용)
+     */
+    @Query("SELECT ns.fcmToken FROM NotificationSetting ns " +
+           "WHERE ns.user.id IN :userIds " +
+           "AND ns.isDeleted = false")
+    List<String> findFcmTokensByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 무효 FCM 토큰 일괄 삭제 (발송 스레드에서 호출되므로 자체 트랜잭션)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationSetting ns WHERE ns.fcmToken IN :fcmTokens")
+    int deleteByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
+
     /**
      * 사용자가 존재하는지 확인
      */
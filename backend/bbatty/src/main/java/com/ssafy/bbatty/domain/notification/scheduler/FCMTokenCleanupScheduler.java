@@ -1,7 +1,7 @@
 package com.ssafy.bbatty.domain.notification.scheduler;
 
-import com.ssafy.bbatty.domain.notification.entity.NotificationSetting;
 import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import com.ssafy.bbatty.domain.notification.service.FCMTopicManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,7 +9,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -17,27 +16,26 @@ import java.util.List;
 public class FCMTokenCleanupScheduler {
 
     private final NotificationSettingRepository notificationSettingRepository;
+    private final FCMTopicManager fcmTopicManager;
 
     /**
      * 만료된 FCM 토큰 정리 (매일 새벽 3시)
-     * 30일 이상 업데이트되지 않은 토큰들을 삭제
+     * 30일 이상 업데이트되지 않은 토큰들을 삭제 (삭제 커밋 후 팀 토픽 구독 해지)
      */
     @Scheduled(cron = "0 0 3 * * ?")
     @Transactional
     public void cleanupExpiredTokens() {
         try {
             LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-            List<NotificationSetting> expiredSettings = notificationSettingRepository
-                    .findExpiredTokens(cutoffDate);
+            fcmTopicManager.unsubscribeExpiredTokens(cutoffDate);
+            int deletedCount = notificationSettingRepository.deleteExpiredTokens(cutoffDate);
 
-            if (expiredSettings.isEmpty()) {
+            if (deletedCount == 0) {
                 log.info("정리할 만료된 FCM 토큰 없음");
                 return;
             }
-
-            notificationSettingRepository.deleteAll(expiredSettings);
             
-            log.info("만료된 FCM 토큰 정리 완료 - 삭제된 토큰 수: {}", expiredSettings.size());
+            log.info("만료된 FCM 토큰 정리 완료 - 삭제된 토큰 수: {}", deletedCount);
 
         } catch (Exception e) {
             log.error("FCM 토큰 정리 중 오류 발생", e);
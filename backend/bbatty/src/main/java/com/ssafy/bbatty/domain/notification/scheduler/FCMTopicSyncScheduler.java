@@ -0,0 +1,33 @@
+package com.ssafy.bbatty.domain.notification.scheduler;
+
+import com.ssafy.bbatty.domain.notification.service.FCMTopicManager;
+import com.ssafy.bbatty.domain.team.entity.Team;
+import com.ssafy.bbatty.domain.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FCMTopicSyncScheduler {
+
+    private final TeamRepository teamRepository;
+    private final FCMTopicManager fcmTopicManager;
+
+    /**
+     * 팀 토픽 구독 재동기화 (매일 새벽 3시 30분, 만료 토큰 정리 이후)
+     * 알림을 켠 사용자 토큰을 팀 토픽에 1000개 단위로 일괄 구독하여 누락된 구독 복구
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void syncTeamTopics() {
+        for (Team team : teamRepository.findAllByOrderById()) {
+            try {
+                fcmTopicManager.syncTeamTopic(team.getId());
+            } catch (Exception e) {
+                log.error("팀 토픽 재동기화 중 오류 발생 - teamId: {}", team.getId(), e);
+            }
+        }
+    }
+}
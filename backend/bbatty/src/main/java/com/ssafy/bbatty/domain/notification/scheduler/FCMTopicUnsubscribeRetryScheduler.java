@@ -0,0 +1,32 @@
+package com.ssafy.bbatty.domain.notification.scheduler;
+
+import com.ssafy.bbatty.domain.notification.service.FCMTopicManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FCMTopicUnsubscribeRetryScheduler {
+
+    private final FCMTopicManager fcmTopicManager;
+
+    /**
+     * 팀 토픽 구독 해지 재시도 (기본 1분 간격)
+     * 알림 해제/토큰 교체/탈퇴 시 해지에 실패한 토큰을 대기열에서 꺼내 다시 해지
+     * (LPOP으로 꺼내므로 여러 인스턴스가 동시에 실행해도 같은 토큰을 중복 처리하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${notification.fcm.topic-unsubscribe-retry-interval-ms:60000}")
+    public void retryPendingUnsubscribes() {
+        try {
+            int retried = fcmTopicManager.retryPendingUnsubscribes();
+            if (retried > 0) {
+                log.info("팀 토픽 해지 재시도 - 토큰 수: {}", retried);
+            }
+        } catch (Exception e) {
+            log.error("팀 토픽 해지 재시도 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.ssafy.bbatty.domain.notification.service;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * FCM 대량 발송 엔진
+ * - 토큰을 멀티캐스트 한도(500개) 단위 배치로 나눠 고정 크기 스레드 풀에서 발송
+ *   (작업 대기열이 가득 차면 호출 스레드가 직접 발송하여 발송 속도 조절)
+ * - 일시적 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED, 연결 오류)로 실패한 토큰만 지수 백오프로 재시도
+ * - 토큰이 더 이상 유효하지 않다고 확정된 UNREGISTERED / SENDER_ID_MISMATCH 토큰만 배치 완료 즉시
+ *   팀 토픽 구독 해지 후 한 번의 쿼리로 삭제
+ *   (INVALID_ARGUMENT는 메시지 문제일 수도 있어 토큰 단위로 구분할 수 없으므로 삭제하지 않음)
+ * - 발송/성공/실패/재시도/삭제 건수를 누적하고 발송마다 처리량(건/초) 기록
+ */
+@Slf4j
+@Component
+public class FCMFanoutSender {
+
+    public static final int MAX_MULTICAST_TOKENS = 500;
+
+    // EnumSet은 null 조회 시 예외 없이 false (오류 코드가 없는 응답 대비)
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_CODES =
+            EnumSet.of(MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH);
+    private static final Set<MessagingErrorCode> TRANSIENT_MESSAGING_CODES =
+            EnumSet.of(MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+    private static final Set<ErrorCode> TRANSIENT_ERROR_CODES =
+            EnumSet.of(ErrorCode.UNAVAILABLE, ErrorCode.INTERNAL, ErrorCode.RESOURCE_EXHAUSTED, ErrorCode.DEADLINE_EXCEEDED);
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final FCMTopicManager fcmTopicManager;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+    private final ThreadPoolExecutor executor;
+
+    // 누적 지표
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong invalidTokenCount = new AtomicLong();
+
+    public FCMFanoutSender(
+            FirebaseMessaging firebaseMessaging,
+            NotificationSettingRepository notificationSettingRepository,
+            FCMTopicManager fcmTopicManager,
+            @Value("${notification.fcm.batch-size:500}") int batchSize,
+            @Value("${notification.fcm.sender-threads:4}") int senderThreads,
+            @Value("${notification.fcm.queue-capacity:100}") int queueCapacity,
+            @Value("${notification.fcm.max-retries:3}") int maxRetries,
+            @Value("${notification.fcm.retry-backoff-ms:500}") long retryBackoffMs
+    ) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.fcmTopicManager = fcmTopicManager;
+        this.batchSize = Math.min(Math.max(1, batchSize), MAX_MULTICAST_TOKENS);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = retryBackoffMs;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fcm-fanout-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 토큰 목록에 같은 메시지 발송 (모든 배치 완료까지 대기)
+     *
+     * @param tokens FCM 토큰 목록
+     * @param messageFactory 배치 토큰 목록으로 멀티캐스트 메시지 생성
+     * @return 발송 결과 집계
+     */
+    public FanoutResult send(List<String> tokens, Function<List<String>, MulticastMessage> messageFactory) {
+        if (tokens.isEmpty()) {
+            return FanoutResult.EMPTY;
+        }
+        if (firebaseMessaging == null) {
+            log.warn("FCM 비활성화 상태 - 알림 발송 생략: tokenCount={}", tokens.size());
+            return FanoutResult.EMPTY;
+        }
+
+        long startTime = System.nanoTime();
+        List<CompletableFuture<FanoutResult>> futures = new ArrayList<>();
+        for (int start = 0; start < tokens.size(); start += batchSize) {
+            List<String> batch = List.copyOf(tokens.subList(start, Math.min(start + batchSize, tokens.size())));
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(batch, messageFactory), executor));
+        }
+
+        FanoutResult result = futures.stream()
+                .map(CompletableFuture::join)
+                .reduce(FanoutResult.EMPTY, FanoutResult::plus);
+
+        double elapsedSeconds = Math.max(1e-3, (System.nanoTime() - startTime) / 1_000_000_000.0);
+        log.info("FCM 발송 완료 - tokens: {}, success: {}, failure: {}, invalid: {}, retries: {}, {}건/초",
+                tokens.size(), result.successCount(), result.failureCount(), result.invalidTokenCount(),
+                result.retryCount(), String.format("%.1f", tokens.size() / elapsedSeconds));
+        return result;
+    }
+
+    /**
+     * 누적 발송 지표
+     */
+    public FanoutResult getStats() {
+        return new FanoutResult(successCount.get(), failureCount.get(), invalidTokenCount.get(), retryCount.get());
+    }
+
+    /**
+     * 누적 발송 토큰 수 (재시도 포함)
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 배치 발송 - 일시적 오류 토큰만 남겨 재시도, 무효 토큰은 완료 즉시 삭제
+     */
+    private FanoutResult sendBatch(List<String> batch, Function<List<String>, MulticastMessage> messageFactory) {
+        List<String> pending = batch;
+        List<String> invalidTokens = new ArrayList<>();
+        long success = 0;
+        long retries = 0;
+
+        for (int attempt = 0; ; attempt++) {
+            List<String> retryable = new ArrayList<>();
+            sentCount.addAndGet(pending.size());
+
+            try {
+                BatchResponse response = firebaseMessaging.sendEachForMulticast(messageFactory.apply(pending));
+                List<SendResponse> responses = response.getResponses();
+
+                for (int i = 0; i < responses.size(); i++) {
+                    SendResponse sendResponse = responses.get(i);
+                    if (sendResponse.isSuccessful()) {
+                        success++;
+                        continue;
+                    }
+                    FirebaseMessagingException exception = sendResponse.getException();
+                    if (INVALID_TOKEN_CODES.contains(exception.getMessagingErrorCode())) {
+                        invalidTokens.add(pending.get(i));
+                    } else if (isTransient(exception)) {
+                        retryable.add(pending.get(i));
+                    }
+                }
+
+            } catch (FirebaseMessagingException e) {
+                if (!isTransient(e)) {
+                    log.error("FCM 배치 발송 실패 - size: {}, error: {}", pending.size(), e.getMessage());
+                    break;
+                }
+                retryable.addAll(pending);
+            }
+
+            if (retryable.isEmpty() || attempt >= maxRetries) {
+                break;
+            }
+
+            retries += retryable.size();
+            pending = retryable;
+            if (!sleepBackoff(attempt)) {
+                break;
+            }
+        }
+
+        long invalid = deleteInvalidTokens(invalidTokens);
+        long failure = batch.size() - success;
+
+        successCount.addAndGet(success);
+        failureCount.addAndGet(failure);
+        retryCount.addAndGet(retries);
+        invalidTokenCount.addAndGet(invalid);
+
+        return new FanoutResult(success, failure, invalid, retries);
+    }
+
+    /**
+     * 재시도 대상 오류 (일시적 FCM 오류 코드 또는 응답을 받지 못한 연결 오류)
+     */
+    private boolean isTransient(FirebaseMessagingException e) {
+        return TRANSIENT_MESSAGING_CODES.contains(e.getMessagingErrorCode())
+                || TRANSIENT_ERROR_CODES.contains(e.getErrorCode())
+                || (e.getCause() instanceof IOException && e.getHttpResponse() == null);
+    }
+
+    private long deleteInvalidTokens(List<String> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return 0;
+        }
+        try {
+            // 삭제 후에는 소속 팀을 알 수 없으므로 먼저 토픽 해지 (실패 토큰은 재시도 대기열로)
+            fcmTopicManager.unsubscribeTokens(invalidTokens);
+        } catch (Exception e) {
+            log.error("무효 FCM 토큰 토픽 해지 실패 - count: {}, error: {}", invalidTokens.size(), e.getMessage());
+        }
+        try {
+            notificationSettingRepository.deleteByFcmTokenIn(invalidTokens);
+            log.info("무효 FCM 토큰 삭제 - count: {}", invalidTokens.size());
+            return invalidTokens.size();
+        } catch (Exception e) {
+            log.error("무효 FCM 토큰 삭제 실패 - count: {}", invalidTokens.size(), e);
+            return 0;
+        }
+    }
+
+    private boolean sleepBackoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs << attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 발송 결과 집계 (실패 건수는 무효 토큰 포함, 재시도는 토큰 단위)
+     */
+    public record FanoutResult(long successCount, long failureCount, long invalidTokenCount, long retryCount) {
+
+        public static final FanoutResult EMPTY = new FanoutResult(0, 0, 0, 0);
+
+        FanoutResult plus(FanoutResult other) {
+            return new FanoutResult(
+                    successCount + other.successCount,
+                    failureCount + other.failureCount,
+                    invalidTokenCount + other.invalidTokenCount,
+                    retryCount + other.retryCount);
+        }
+    }
+}
@@ -51,4 +51,45 @@ public class FCMMessageBuilder {
                 .setToken(fcmToken)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 토픽 조건 발송 메시지 (예: "'team-1' in topics && !('team-1-attended-20250101' in topics)")
+     */
+    public Message buildConditionMessage(String condition, NotificationTemplate template) {
+        Notification notification = Notification.builder()
+                .setTitle(template.getTitle())
+                .setBody(template.getBody())
+                .build();
+
+        Map<String, String> data = Map.of(
+                "type", "TRAFFIC_SPIKE_ALERT",
+                "teamName", template.getTeamName(),
+                "timestamp", String.valueOf(System.currentTimeMillis())
+        );
+
+        return Message.builder()
+                .setNotification(notification)
+                .putAllData(data)
+                .setCondition(condition)
+                .build();
+    }
+
+    public Message buildTopicMessage(String topic, NotificationTemplate template) {
+        Notification notification = Notification.builder()
+                .setTitle(template.getTitle())
+                .setBody(template.getBody())
+                .build();
+
+        Map<String, String> data = Map.of(
+                "type", "TRAFFIC_SPIKE_ALERT",
+                "teamName", template.getTeamName(),
+                "timestamp", String.valueOf(System.currentTimeMillis())
+        );
+
+        return Message.builder()
+                .setNotification(notification)
+                .putAllData(data)
+                .setTopic(topic)
+                .build();
+    }
+}
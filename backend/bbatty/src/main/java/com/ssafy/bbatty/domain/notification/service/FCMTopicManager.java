@@ -0,0 +1,307 @@
+package com.ssafy.bbatty.domain.notification.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.TopicManagementResponse;
+import com.ssafy.bbatty.domain.notification.entity.NotificationSetting;
+import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import lombok.extern.slf4j.Slf4j;
+import com.ssafy.bbatty.global.constants.RedisKey;
+import com.ssafy.bbatty.global.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 팀별 FCM 토픽 관리
+ * - 트래픽 급증 알림을 켠 사용자의 토큰을 소속 팀 토픽({prefix}{teamId})에 구독
+ * - 팀 전체 공지는 토큰 목록 대신 토픽으로 1회 발송 (토큰별 발송은 대상 필터링이 필요한 경우에만 사용)
+ * - 당일 직관 인증자 제외는 날짜별 인증자 토픽({prefix}{teamId}-attended-{yyyyMMdd})에 인증자 토큰을 구독시킨 뒤
+ *   "팀 토픽 && !인증자 토픽" 조건으로 발송 (날짜가 바뀌면 새 토픽을 쓰므로 해지 불필요, 토큰당 직관한 날 수만큼 구독)
+ * - 구독/해지는 요청당 최대 1000개 토큰 단위로 묶어 호출
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 처리 (롤백된 변경이 토픽에 반영되지 않도록)
+ * - 해지 실패 토큰은 재시도 대기열({teamId}|{token})에 적재하여 스케줄러가 다시 해지
+ *   (구독 누락은 일일 재동기화로 복구되지만, 해지 누락은 알림을 끈 사용자에게 팀 공지가 계속 전달되므로)
+ * - 토큰 삭제 경로(만료 토큰 정리, 무효 토큰 삭제)에서도 삭제 전에 팀 토픽 구독 해지
+ */
+@Slf4j
+@Component
+public class FCMTopicManager {
+
+    public static final int MAX_TOPIC_TOKENS = 1000;
+
+    // 한 번의 재시도 실행에서 처리할 최대 대기열 배치 수
+    private static final int MAX_RETRY_BATCHES_PER_RUN = 10;
+    private static final String ENTRY_SEPARATOR = "|";
+    private static final DateTimeFormatter ATTENDED_TOPIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 재시도해도 결과가 같은 토큰 오류 (삭제되었거나 형식이 잘못된 토큰은 이미 토픽 메시지를 받을 수 없음)
+    private static final Set<String> PERMANENT_TOPIC_ERRORS = Set.of("invalid-argument", "registration-token-not-registered");
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String topicPrefix;
+
+    public FCMTopicManager(
+            FirebaseMessaging firebaseMessaging,
+            NotificationSettingRepository notificationSettingRepository,
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${notification.fcm.topic-prefix:team-}") String topicPrefix
+    ) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.topicPrefix = topicPrefix;
+    }
+
+    /**
+     * 팀 토픽 이름
+     */
+    public String teamTopic(Long teamId) {
+        return topicPrefix + teamId;
+    }
+
+    /**
+     * 당일 팀 직관 인증자 토픽 이름
+     */
+    public String attendedTopic(Long teamId, LocalDate date) {
+        return teamTopic(teamId) + "-attended-" + date.format(ATTENDED_TOPIC_DATE);
+    }
+
+    /**
+     * 팀 토픽 구독자 중 제외 토픽 구독자를 뺀 발송 조건
+     */
+    public String teamConditionExcluding(Long teamId, String excludedTopic) {
+        return "'" + teamTopic(teamId) + "' in topics && !('" + excludedTopic + "' in topics)";
+    }
+
+    /**
+     * 당일 직관 인증자 토큰을 인증자 토픽에 즉시 구독 (제외 조건 발송 직전에 호출)
+     *
+     * @return 구독 요청한 토큰 수
+     */
+    public int subscribeAttendees(Long teamId, LocalDate date, Collection<Long> userIds) {
+        if (firebaseMessaging == null || userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = List.copyOf(userIds);
+        String topic = attendedTopic(teamId, date);
+        int total = 0;
+        for (int start = 0; start < ids.size(); start += MAX_TOPIC_TOKENS) {
+            List<String> tokens = notificationSettingRepository
+                    .findFcmTokensByUserIdIn(ids.subList(start, Math.min(start + MAX_TOPIC_TOKENS, ids.size())));
+            manage(tokens, topic, teamId, true);
+            total += tokens.size();
+        }
+        return total;
+    }
+
+    /**
+     * 팀 토픽 구독
+     */
+    public void subscribe(List<String> tokens, Long teamId) {
+        TransactionUtil.runAfterCommit(() -> manage(tokens, teamId, true));
+    }
+
+    /**
+     * 팀 토픽 구독 해지 (실패 토큰은 재시도 대기열에 적재)
+     */
+    public void unsubscribe(List<String> tokens, Long teamId) {
+        TransactionUtil.runAfterCommit(() -> manage(tokens, teamId, false));
+    }
+
+    /**
+     * 삭제될 토큰들의 팀 토픽 구독 해지 (토큰 삭제 전에 호출 - 삭제 후에는 소속 팀을 알 수 없음)
+     */
+    public void unsubscribeTokens(Collection<String> fcmTokens) {
+        if (fcmTokens.isEmpty()) {
+            return;
+        }
+        unsubscribeByTeam(notificationSettingRepository.findTeamTokensByFcmTokenIn(fcmTokens));
+    }
+
+    /**
+     * 만료 정리 대상 토큰들의 팀 토픽 구독 해지 (만료 토큰 삭제 전에 호출)
+     */
+    public void unsubscribeExpiredTokens(LocalDateTime cutoffDate) {
+        unsubscribeByTeam(notificationSettingRepository.findExpiredTeamTokens(cutoffDate));
+    }
+
+    /**
+     * 해지 재시도 대기열 처리 - 대기열에서 꺼낸 토큰을 팀별로 다시 해지
+     * 이번 실행에서 다시 실패한 토큰이 생기면 다음 주기로 미룸 (같은 토큰을 연속으로 재시도하지 않도록)
+     *
+     * @return 해지 요청한 토큰 수
+     */
+    public int retryPendingUnsubscribes() {
+        int total = 0;
+        for (int batch = 0; batch < MAX_RETRY_BATCHES_PER_RUN; batch++) {
+            List<String> entries = stringRedisTemplate.opsForList()
+                    .leftPop(RedisKey.NOTIFICATION_TOPIC_UNSUBSCRIBE_PENDING, MAX_TOPIC_TOKENS);
+            if (entries == null || entries.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<String>> tokensByTeam = new HashMap<>();
+            for (String entry : entries) {
+                int separator = entry.indexOf(ENTRY_SEPARATOR);
+                tokensByTeam.computeIfAbsent(Long.valueOf(entry.substring(0, separator)), teamId -> new ArrayList<>())
+                        .add(entry.substring(separator + 1));
+            }
+
+            int requeued = 0;
+            for (Map.Entry<Long, List<String>> teamTokens : tokensByTeam.entrySet()) {
+                requeued += manage(teamTokens.getValue(), teamTokens.getKey(), false);
+            }
+            total += entries.size();
+
+            if (requeued > 0) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 팀 토픽 구독 재동기화 - 알림을 켠 팀 사용자 토큰을 ID 커서로 1000개씩 조회하여 일괄 구독
+     * (구독은 멱등이므로 누락된 구독 복구 및 기존 사용자 최초 구독에 사용)
+     *
+     * @return 구독 요청한 토큰 수
+     */
+    public int syncTeamTopic(Long teamId) {
+        if (firebaseMessaging == null) {
+            return 0;
+        }
+
+        int total = 0;
+        long lastId = 0L;
+        while (true) {
+            List<NotificationSetting> chunk = notificationSettingRepository
+                    .findTrafficSpikeAlertEnabledUsersAfter(teamId, lastId, PageRequest.of(0, MAX_TOPIC_TOKENS));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            manage(chunk.stream().map(NotificationSetting::getFcmToken).toList(), teamId, true);
+            total += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+
+            if (chunk.size() < MAX_TOPIC_TOKENS) {
+                break;
+            }
+        }
+
+        log.info("팀 토픽 재동기화 완료 - topic: {}, tokenCount: {}", teamTopic(teamId), total);
+        return total;
+    }
+
+    /**
+     * 토픽 메시지 1회 발송 (구독자 전달은 FCM이 처리)
+     */
+    public void send(Message message) {
+        if (firebaseMessaging == null) {
+            log.warn("FCM 비활성화 상태 - 토픽 알림 발송 생략");
+            return;
+        }
+        try {
+            String messageId = firebaseMessaging.send(message);
+            log.info("토픽 알림 발송 완료 - messageId: {}", messageId);
+        } catch (FirebaseMessagingException e) {
+            log.error("토픽 알림 발송 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * [fcmToken, teamId] 행을 팀별로 묶어 해지 (트랜잭션 안이면 커밋 이후)
+     */
+    private void unsubscribeByTeam(List<Object[]> teamTokens) {
+        Map<Long, List<String>> tokensByTeam = new HashMap<>();
+        for (Object[] row : teamTokens) {
+            tokensByTeam.computeIfAbsent((Long) row[1], teamId -> new ArrayList<>()).add((String) row[0]);
+        }
+        tokensByTeam.forEach((teamId, tokens) -> unsubscribe(tokens, teamId));
+    }
+
+    /**
+     * 토픽 구독/해지 호출
+     *
+     * @return 재시도 대기열에 적재한 토큰 수 (해지 실패 시에만)
+     */
+    private int manage(List<String> tokens, Long teamId, boolean subscribe) {
+        if (teamId == null) {
+            return 0;
+        }
+        return manage(tokens, teamTopic(teamId), teamId, subscribe);
+    }
+
+    private int manage(List<String> tokens, String topic, Long teamId, boolean subscribe) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        if (firebaseMessaging == null) {
+            log.warn("FCM 비활성화 상태 - 토픽 {} 생략: tokenCount={}", subscribe ? "구독" : "해지", tokens.size());
+            return 0;
+        }
+
+        List<String> failedTokens = new ArrayList<>();
+
+        for (int start = 0; start < tokens.size(); start += MAX_TOPIC_TOKENS) {
+            List<String> batch = tokens.subList(start, Math.min(start + MAX_TOPIC_TOKENS, tokens.size()));
+            try {
+                TopicManagementResponse response = subscribe
+                        ? firebaseMessaging.subscribeToTopic(batch, topic)
+                        : firebaseMessaging.unsubscribeFromTopic(batch, topic);
+
+                // 무효 토큰은 발송 시 FCMFanoutSender / 만료 토큰 정리 스케줄러에서 삭제
+                if (response.getFailureCount() > 0) {
+                    log.warn("토픽 {} 일부 실패 - topic: {}, success: {}, failure: {}, reason: {}",
+                            subscribe ? "구독" : "해지", topic, response.getSuccessCount(), response.getFailureCount(),
+                            response.getErrors().get(0).getReason());
+                    for (TopicManagementResponse.Error error : response.getErrors()) {
+                        if (!PERMANENT_TOPIC_ERRORS.contains(error.getReason())) {
+                            failedTokens.add(batch.get(error.getIndex()));
+                        }
+                    }
+                }
+            } catch (FirebaseMessagingException e) {
+                log.error("토픽 {} 실패 - topic: {}, size: {}, error: {}",
+                        subscribe ? "구독" : "해지", topic, batch.size(), e.getMessage());
+                failedTokens.addAll(batch);
+            }
+        }
+
+        // 구독 실패는 일일 재동기화로 복구되므로 해지 실패만 재시도
+        if (subscribe || failedTokens.isEmpty()) {
+            return 0;
+        }
+        return enqueueUnsubscribeRetry(failedTokens, teamId);
+    }
+
+    private int enqueueUnsubscribeRetry(List<String> tokens, Long teamId) {
+        List<String> entries = tokens.stream()
+                .map(token -> teamId + ENTRY_SEPARATOR + token)
+                .toList();
+        try {
+            stringRedisTemplate.opsForList().rightPushAll(RedisKey.NOTIFICATION_TOPIC_UNSUBSCRIBE_PENDING, entries);
+            return entries.size();
+        } catch (Exception e) {
+            log.error("토픽 해지 재시도 대기열 적재 실패 - topic: {}, size: {}, error: {}",
+                    teamTopic(teamId), entries.size(), e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -13,6 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -21,13 +24,16 @@ public class NotificationSettingServiceImpl implements NotificationSettingServic
 
     private final NotificationSettingRepository notificationSettingRepository;
     private final UserRepository userRepository;
+    private final FCMTopicManager fcmTopicManager;
 
     @Override
     public NotificationSettingResponse registerFCMToken(Long userId, FCMTokenRequest request) {
         try {
             User user = findUserById(userId);
+            Optional<NotificationSetting> existingSetting = notificationSettingRepository.findByUserId(userId);
+            String previousToken = existingSetting.map(NotificationSetting::getFcmToken).orElse(null);
 
-            NotificationSetting setting = notificationSettingRepository.findByUserId(userId)
+            NotificationSetting setting = existingSetting
                     .map(existing -> {
                         existing.updateFcmToken(request.getFcmToken(), request.getDeviceId(), request.getDeviceType());
                         return existing;
@@ -39,6 +45,14 @@ public class NotificationSettingServiceImpl implements NotificationSettingServic
                         return notificationSettingRepository.save(newSetting);
                     });
 
+            // 팀 토픽 구독 이전 (커밋 이후 처리)
+            if (previousToken != null && !previousToken.equals(request.getFcmToken())) {
+                fcmTopicManager.unsubscribe(List.of(previousToken), user.getTeamId());
+            }
+            if (Boolean.TRUE.equals(user.getTrafficSpikeAlertEnabled())) {
+                fcmTopicManager.subscribe(List.of(request.getFcmToken()), user.getTeamId());
+            }
+
             log.info("FCM 토큰 등록/업데이트 완료 - userId: {}, deviceType: {}", userId, request.getDeviceType());
             return NotificationSettingResponse.from(setting);
         } catch (Exception e) {
@@ -1,12 +1,17 @@
 package com.ssafy.bbatty.domain.notification.service;
 
+import com.ssafy.bbatty.domain.notification.dto.internal.NotificationTemplate;
 import com.ssafy.bbatty.domain.notification.entity.NotificationSetting;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface PushNotificationService {
 
-    void sendTrafficSpikeAlert(Long teamId, String teamName);
+    void sendTrafficSpikeAlert(Long teamId, String teamName, LocalDate date, Set<Long> attendees);
+
+    void sendTeamBroadcast(Long teamId, NotificationTemplate template, String excludedTopic);
     
     void sendBatchNotifications(List<NotificationSetting> targetUsers, String teamName);
 }
\ No newline at end of file
@@ -1,89 +1,71 @@
 package com.ssafy.bbatty.domain.notification.service;
 
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.MulticastMessage;
 import com.ssafy.bbatty.domain.notification.dto.internal.NotificationTemplate;
 import com.ssafy.bbatty.domain.notification.entity.NotificationSetting;
-import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
-import com.ssafy.bbatty.global.constants.ErrorCode;
-import com.ssafy.bbatty.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PushNotificationServiceImpl implements PushNotificationService {
 
-    private final NotificationSettingRepository notificationSettingRepository;
     private final FCMMessageBuilder fcmMessageBuilder;
-    private final FirebaseMessaging firebaseMessaging;
-
-    @Value("${notification.fcm.batch-size:200}")
-    private Integer batchSize;
+    private final FCMFanoutSender fcmFanoutSender;
+    private final FCMTopicManager fcmTopicManager;
 
+    /**
+     * 팀 전체 트래픽 급증 알림 - 당일 직관 인증자만 인증자 토픽에 구독시킨 뒤 팀 토픽 조건 발송 1회
+     * (팀 전체 토큰 목록 조회 없음, 조회/구독 비용은 당일 인증자 수에 비례)
+     */
     @Override
-    @Transactional
-    public void sendTrafficSpikeAlert(Long teamId, String teamName) {
-        try {
-            List<NotificationSetting> targetUsers = notificationSettingRepository
-                    .findTrafficSpikeAlertEnabledUsers(teamId);
+    public void sendTrafficSpikeAlert(Long teamId, String teamName, LocalDate date, Set<Long> attendees) {
+        NotificationTemplate template = NotificationTemplate.createTrafficSpikeAlert(teamName);
+        if (attendees.isEmpty()) {
+            sendTeamBroadcast(teamId, template, null);
+            return;
+        }
 
-            if (targetUsers.isEmpty()) {
-                log.info("트래픽 급증 알림 대상 사용자 없음 - teamId: {}", teamId);
-                return;
-            }
+        int subscribed = fcmTopicManager.subscribeAttendees(teamId, date, attendees);
+        log.info("당일 직관 인증자 제외 토픽 구독 - teamId: {}, attendees: {}, tokens: {}", teamId, attendees.size(), subscribed);
+        sendTeamBroadcast(teamId, template, fcmTopicManager.attendedTopic(teamId, date));
+    }
 
-            log.info("트래픽 급증 알림 발송 시작 - teamId: {}, targetCount: {}", teamId, targetUsers.size());
-            sendBatchNotifications(targetUsers, teamName);
-        } catch (Exception e) {
-            log.error("트래픽 급증 알림 발송 중 시스템 오류 - teamId: {}, error: {}", teamId, e.getMessage(), e);
-            throw new ApiException(ErrorCode.PUSH_NOTIFICATION_SEND_FAILED);
+    /**
+     * 팀 토픽 발송 1회 (excludedTopic이 있으면 해당 토픽 구독자를 제외하는 조건 발송)
+     */
+    @Override
+    public void sendTeamBroadcast(Long teamId, NotificationTemplate template, String excludedTopic) {
+        if (excludedTopic == null) {
+            String topic = fcmTopicManager.teamTopic(teamId);
+            log.info("팀 토픽 알림 발송 시작 - teamId: {}, topic: {}", teamId, topic);
+            fcmTopicManager.send(fcmMessageBuilder.buildTopicMessage(topic, template));
+            return;
         }
+
+        String condition = fcmTopicManager.teamConditionExcluding(teamId, excludedTopic);
+        log.info("팀 토픽 알림 발송 시작 - teamId: {}, condition: {}", teamId, condition);
+        fcmTopicManager.send(fcmMessageBuilder.buildConditionMessage(condition, template));
     }
 
     @Override
     public void sendBatchNotifications(List<NotificationSetting> targetUsers, String teamName) {
         NotificationTemplate template = NotificationTemplate.createTrafficSpikeAlert(teamName);
 
-        IntStream.range(0, (targetUsers.size() + batchSize - 1) / batchSize)
-                .parallel()
-                .forEach(batchIndex -> {
-                    int start = batchIndex * batchSize;
-                    int end = Math.min(start + batchSize, targetUsers.size());
-                    List<NotificationSetting> batch = targetUsers.subList(start, end);
+        List<String> fcmTokens = targetUsers.stream()
+                .map(NotificationSetting::getFcmToken)
+                .toList();
 
-                    sendBatch(batch, template, batchIndex + 1);
-                });
+        FCMFanoutSender.FanoutResult result = fcmFanoutSender.send(fcmTokens,
+                batch -> fcmMessageBuilder.buildTrafficSpikeAlert(batch, template));
 
-        log.info("트래픽 급증 알림 발송 완료 - teamName: {}, totalCount: {}", teamName, targetUsers.size());
-    }
-
-    private void sendBatch(List<NotificationSetting> batch, NotificationTemplate template, int batchNumber) {
-        try {
-            List<String> fcmTokens = batch.stream()
-                    .map(NotificationSetting::getFcmToken)
-                    .toList();
-
-            MulticastMessage message = fcmMessageBuilder.buildTrafficSpikeAlert(fcmTokens, template);
-            BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
-
-            log.info("배치 알림 발송 완료 - batch: {}, success: {}, failure: {}", 
-                    batchNumber, response.getSuccessCount(), response.getFailureCount());
-
-        } catch (FirebaseMessagingException e) {
-            log.error("배치 알림 발송 실패 - batch: {}, error: {}", batchNumber, e.getMessage());
-        } catch (Exception e) {
-            log.error("배치 처리 중 예외 발생 - batch: {}", batchNumber, e);
-        }
+        log.info("트래픽 급증 알림 발송 완료 - teamName: {}, totalCount: {}, success: {}, invalidTokens: {}",
+                teamName, targetUsers.size(), result.successCount(), result.invalidTokenCount());
     }
 
-}
\ No newline at end of file
+}
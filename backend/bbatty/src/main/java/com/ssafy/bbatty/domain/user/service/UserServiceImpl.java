@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.bbatty.domain.attendance.repository.UserAttendedRepository;
 import com.ssafy.bbatty.domain.board.service.PostService;
 import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import com.ssafy.bbatty.domain.notification.service.FCMTopicManager;
 import com.ssafy.bbatty.domain.user.dto.request.UserUpdateRequestDto;
 import com.ssafy.bbatty.domain.user.dto.response.BadgeCategoryResponse;
 import com.ssafy.bbatty.domain.user.dto.response.BadgeResponse;
@@ -39,6 +40,7 @@ public class UserServiceImpl implements UserService {
     private final UserInfoRepository userInfoRepository;
     private final UserAttendedRepository userAttendedRepository;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final FCMTopicManager fcmTopicManager;
 
     @Override
     public UserResponseDto getUserProfile(Long targetUserId, Long currentUserId) {
@@ -137,6 +139,16 @@ public class UserServiceImpl implements UserService {
         User user = findUserById(currentUserId);
         user.updateNotificationSettings(trafficSpikeAlertEnabled);
 
+        // 팀 토픽 구독 상태를 알림 설정에 맞춤 (커밋 이후 처리)
+        notificationSettingRepository.findByUserId(currentUserId).ifPresent(setting -> {
+            List<String> tokens = List.of(setting.getFcmToken());
+            if (Boolean.TRUE.equals(trafficSpikeAlertEnabled)) {
+                fcmTopicManager.subscribe(tokens, user.getTeamId());
+            } else {
+                fcmTopicManager.unsubscribe(tokens, user.getTeamId());
+            }
+        });
+
         log.info("알림 설정 업데이트 완료 - userId: {}, trafficSpikeAlertEnabled: {}",
                 currentUserId, trafficSpikeAlertEnabled);
     }
@@ -175,7 +187,9 @@ public class UserServiceImpl implements UserService {
             userAttendedRepository.deleteByUserId(userId);
             log.info("UserAttended 삭제 완료: userId={}", userId);
             
-            // NotificationSetting 하드 삭제 (FCM 토큰, 알림 설정)
+            // NotificationSetting 하드 삭제 (FCM 토큰, 알림 설정) - 팀 토픽 구독도 커밋 이후 해지
+            notificationSettingRepository.findByUserId(userId).ifPresent(setting ->
+                    fcmTopicManager.unsubscribe(List.of(setting.getFcmToken()), setting.getUser().getTeamId()));
             notificationSettingRepository.deleteByUserId(userId);
             log.info("NotificationSetting 삭제 완료: userId={}", userId);
             
@@ -28,6 +28,8 @@ public enum ErrorCode {
     FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "파일의 크기가 제한 크기를 초과해요."),
     FILE_EMPTY(HttpStatus.BAD_REQUEST, "파일이 비어있어요."),
     FILE_FAILED(HttpStatus.BAD_REQUEST, "파일 업로드에 실패했어요."),
+    FILE_CONTENT_TYPE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "허용되지 않는 파일 형식이에요."),
+    FILE_UPLOAD_INCOMPLETE(HttpStatus.BAD_REQUEST, "업로드가 완료되지 않은 파일이에요."),
 
     // AUTH
     KAKAO_AUTH_FAILED(HttpStatus.UNAUTHORIZED, "카카오 인증에 실패했어요."),
@@ -15,6 +15,9 @@ public class RedisKey {
     /** 토큰 블랙리스트: auth:token:blacklist:{token_hash} */
     public static final String AUTH_TOKEN_BLACKLIST = "auth:token:blacklist:";
 
+    /** 토큰 블랙리스트 추가 이벤트 채널 (Pub/Sub, 메시지는 token_hash): auth:token:blacklist-events */
+    public static final String AUTH_TOKEN_BLACKLIST_CHANNEL = "auth:token:blacklist-events";
+
     // ===========================================
     // ATTENDANCE 도메인 - 직관 인증 관련
     // ===========================================
@@ -22,8 +25,8 @@ public class RedisKey {
     /** 당일 직관 인증한 전체 사용자 목록: attendance:daily:attendees:{date} (Hash - userId: teamId:gameId) */
     public static final String ATTENDANCE_DAILY_ATTENDEES = "attendance:daily:attendees:";
 
-    /** 활성 경기 목록: attendance:active:games:{date} */
-    public static final String ATTENDANCE_ACTIVE_GAMES = "attendance:active:games:";
+    /** 당일 팀별 직관 인증 사용자: attendance:team:attendees:{date}:{team_id} (Set - userId) */
+    public static final String ATTENDANCE_TEAM_ATTENDEES = "attendance:team:attendees:";
 
     /** 동시성 제어 락: attendance:lock:{user_id}:{game_id} */
     public static final String ATTENDANCE_LOCK = "attendance:lock:";
@@ -87,4 +90,40 @@ public class RedisKey {
     public static final String BADGE_GAMES = "badge:games:";
 
     public static final String NEWS_SUMMARY = "news:summary:";
-}
\ No newline at end of file
+
+    // ===========================================
+    // BOARD 도메인 - 게시글 카운터
+    // ===========================================
+
+    /** DB 적재 대기 중인 게시글 조회 로그: board:post:view-log:pending (List - {post_id}:{user_id}:{epoch_millis}) */
+    public static final String BOARD_POST_VIEW_LOG_PENDING = "board:post:view-log:pending";
+
+    /** S3 삭제 대기 중인 게시글 이미지 경로: board:post:image-delete:pending (List - posts/{file_name}) */
+    public static final String BOARD_POST_IMAGE_DELETE_PENDING = "board:post:image-delete:pending";
+
+    /** 진행 중인 S3 멀티파트 업로드 세션: s3:multipart:upload:{upload_id} ({user_id}|{part_count}|{file_path}, 업로드 제한 시간 TTL) */
+    public static final String S3_MULTIPART_UPLOAD = "s3:multipart:upload:";
+
+    /** 팀별 게시글 검색 결과 ID 캐시: board:search:result:{team_id} (Hash - {keyword}:{cursor}: {has_next}:{post_ids}, 제목과 일치할 수 있는 검색어 필드만 삭제) */
+    public static final String BOARD_SEARCH_RESULT = "board:search:result:";
+
+    /** 팀별 검색어 자동완성 인덱스: board:search:suggest:{team_id} (Sorted Set - 동일 점수, 사전순 조회) */
+    public static final String BOARD_SEARCH_SUGGEST = "board:search:suggest:";
+
+    /** 팀별 자동완성 검색어 최근 사용 시각: board:search:suggest:recent:{team_id} (Sorted Set - score: epoch_millis, 오래된 검색어 정리용) */
+    public static final String BOARD_SEARCH_SUGGEST_RECENT = "board:search:suggest:recent:";
+
+    // ===========================================
+    // GAME 도메인 - 경기 정보 변경 알림
+    // ===========================================
+
+    /** 경기 일정/결과 변경 이벤트 채널 (Pub/Sub, schedule 서버 크롤러 발행): game:schedule:updated */
+    public static final String GAME_SCHEDULE_UPDATED_CHANNEL = "game:schedule:updated";
+
+    // ===========================================
+    // NOTIFICATION 도메인 - 팀 토픽 구독
+    // ===========================================
+
+    /** 팀 토픽 구독 해지 재시도 대기열: notification:topic:unsubscribe:pending (List - {team_id}|{fcm_token}) */
+    public static final String NOTIFICATION_TOPIC_UNSUBSCRIBE_PENDING = "notification:topic:unsubscribe:pending";
+}
@@ -0,0 +1,27 @@
+package com.ssafy.bbatty.global.s3;
+
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadSession;
+
+import java.time.Duration;
+
+/**
+ * 진행 중인 멀티파트 업로드의 소유자/경로 기록
+ * 업로드 시작 시 저장하고 파트 발급/완료/취소 시 요청자와 경로가 일치하는지 확인하는 데 사용
+ */
+public interface MultipartUploadRegistry {
+
+    /**
+     * 업로드 세션 저장 (만료 시간 이후 자동 삭제)
+     */
+    void register(String uploadId, MultipartUploadSession session, Duration ttl);
+
+    /**
+     * 업로드 세션 조회 (없거나 만료되면 null)
+     */
+    MultipartUploadSession find(String uploadId);
+
+    /**
+     * 업로드 세션 삭제 (완료/취소 시)
+     */
+    void remove(String uploadId);
+}
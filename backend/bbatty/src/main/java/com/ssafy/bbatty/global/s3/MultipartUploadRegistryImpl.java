@@ -0,0 +1,44 @@
+package com.ssafy.bbatty.global.s3;
+
+import com.ssafy.bbatty.global.constants.RedisKey;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 기반 멀티파트 업로드 세션 저장소
+ * 저장 형식: {user_id}|{part_count}|{file_path}
+ */
+@Component
+@RequiredArgsConstructor
+public class MultipartUploadRegistryImpl implements MultipartUploadRegistry {
+
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void register(String uploadId, MultipartUploadSession session, Duration ttl) {
+        String value = session.userId() + SEPARATOR + session.partCount() + SEPARATOR + session.filePath();
+        stringRedisTemplate.opsForValue().set(RedisKey.S3_MULTIPART_UPLOAD + uploadId, value, ttl);
+    }
+
+    @Override
+    public MultipartUploadSession find(String uploadId) {
+        String value = stringRedisTemplate.opsForValue().get(RedisKey.S3_MULTIPART_UPLOAD + uploadId);
+        if (value == null) {
+            return null;
+        }
+
+        String[] parts = value.split("\\|", 3);
+        return new MultipartUploadSession(Long.valueOf(parts[0]), parts[2], Integer.parseInt(parts[1]));
+    }
+
+    @Override
+    public void remove(String uploadId) {
+        stringRedisTemplate.delete(RedisKey.S3_MULTIPART_UPLOAD + uploadId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.bbatty.global.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미완료 멀티파트 업로드 정리
+ * 클라이언트가 완료/취소 없이 이탈한 업로드는 파트가 S3에 남아 저장 비용이 계속 발생하므로
+ * 제한 시간(upload-ttl-minutes)이 지난 업로드를 주기적으로 취소
+ * (버킷 수명 주기 규칙 AbortIncompleteMultipartUpload를 함께 설정하면 서버 중단 시에도 정리됨)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class S3MultipartUploadCleanupScheduler {
+
+    // 멀티파트 업로드를 발급하는 디렉토리 (게시글 이미지)
+    private static final String UPLOAD_DIRECTORY = "posts";
+
+    private final S3MultipartUploadService s3MultipartUploadService;
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.multipart.cleanup-interval-ms:600000}")
+    public void abortStaleUploads() {
+        try {
+            int aborted = s3MultipartUploadService.abortStaleUploads(UPLOAD_DIRECTORY);
+            if (aborted > 0) {
+                log.info("미완료 멀티파트 업로드 정리 완료: {}건", aborted);
+            }
+        } catch (Exception e) {
+            log.error("미완료 멀티파트 업로드 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.ssafy.bbatty.global.s3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
+import com.ssafy.bbatty.global.constants.ErrorCode;
+import com.ssafy.bbatty.global.exception.ApiException;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadCompleteRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateResponse;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadPartsRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadSession;
+import com.ssafy.bbatty.global.s3.dto.PresignedPartResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 클라이언트 직접 멀티파트 업로드 (파일 바이트가 서버를 거치지 않음)
+ * 1. initiate: 크기/형식 정책 검증 후 업로드 시작, 업로드 ID별 사용자/경로/파트 수 기록
+ * 2. presignParts: 시작한 사용자에게만, 시작 시 안내한 파트 수 이내로 파트별 PUT Presigned URL 발급
+ * 3. complete: S3에 실제 업로드된 파트 크기 합계를 다시 검증한 뒤 병합 (정책 위반 시 업로드 취소)
+ * 4. abort: 업로드 취소 (업로드된 파트 정리)
+ * 5. abortStaleUploads: 제한 시간 안에 완료/취소되지 않은 업로드 정리 (남은 파트의 저장 비용 방지)
+ */
+@Slf4j
+@Service
+public class S3MultipartUploadService {
+
+    // S3 멀티파트 업로드 최대 파트 수
+    private static final int MAX_PART_COUNT = 10000;
+
+    // 허용 형식 -> 허용 확장자
+    private static final Map<String, List<String>> ALLOWED_TYPES = Map.of(
+            "image/jpeg", List.of(".jpg", ".jpeg"),
+            "image/png", List.of(".png"),
+            "image/gif", List.of(".gif"),
+            "image/webp", List.of(".webp")
+    );
+
+    private final AmazonS3 amazonS3;
+    private final MultipartUploadRegistry multipartUploadRegistry;
+    private final String bucket;
+    private final long maxFileSize;
+    private final long partSize;
+    private final long presignExpirationMillis;
+    private final Duration uploadTtl;
+
+    public S3MultipartUploadService(
+            AmazonS3 amazonS3,
+            MultipartUploadRegistry multipartUploadRegistry,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${cloud.aws.s3.multipart.max-file-size:52428800}") long maxFileSize,
+            @Value("${cloud.aws.s3.multipart.part-size:5242880}") long partSize,
+            @Value("${cloud.aws.s3.multipart.presign-expiration-minutes:15}") long presignExpirationMinutes,
+            @Value("${cloud.aws.s3.multipart.upload-ttl-minutes:60}") long uploadTtlMinutes
+    ) {
+        this.amazonS3 = amazonS3;
+        this.multipartUploadRegistry = multipartUploadRegistry;
+        this.bucket = bucket;
+        this.maxFileSize = maxFileSize;
+        this.partSize = partSize;
+        this.presignExpirationMillis = presignExpirationMinutes * 60 * 1000;
+        this.uploadTtl = Duration.ofMinutes(uploadTtlMinutes);
+    }
+
+    /**
+     * 업로드 시작 (크기, 형식, 확장자 정책 검증)
+     */
+    public MultipartUploadInitiateResponse initiate(String directory, Long userId, MultipartUploadInitiateRequest request) {
+        if (request.fileSize() <= 0) {
+            throw new ApiException(ErrorCode.FILE_EMPTY);
+        }
+        if (request.fileSize() > maxFileSize) {
+            throw new ApiException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        String contentType = request.contentType().toLowerCase(Locale.ROOT);
+        List<String> extensions = ALLOWED_TYPES.get(contentType);
+        if (extensions == null) {
+            throw new ApiException(ErrorCode.FILE_CONTENT_TYPE_NOT_ALLOWED);
+        }
+        String extension = extractExtension(request.filename());
+        if (!extensions.contains(extension)) {
+            throw new ApiException(ErrorCode.INVALID_FILE_PATH);
+        }
+
+        String filePath = directory + "/" + UUID.randomUUID() + extension;
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, filePath, metadata)).getUploadId();
+        int partCount = (int) ((request.fileSize() + partSize - 1) / partSize);
+
+        try {
+            multipartUploadRegistry.register(uploadId, new MultipartUploadSession(userId, filePath, partCount), uploadTtl);
+        } catch (RuntimeException e) {
+            // 소유자를 기록하지 못한 업로드는 이후 단계에서 사용할 수 없으므로 즉시 취소
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, filePath, uploadId));
+            throw e;
+        }
+
+        log.debug("멀티파트 업로드 시작: filePath={}, size={}, parts={}", filePath, request.fileSize(), partCount);
+        return new MultipartUploadInitiateResponse(
+                uploadId, filePath, amazonS3.getUrl(bucket, filePath).toString(), partSize, partCount);
+    }
+
+    /**
+     * 파트별 업로드 Presigned URL 발급 (시작 시 안내한 파트 수 이내)
+     */
+    public List<PresignedPartResponse> presignParts(String directory, Long userId, MultipartUploadPartsRequest request) {
+        MultipartUploadSession session = requireSession(directory, userId, request.filePath(), request.uploadId());
+
+        int maxPartNumber = Math.min(MAX_PART_COUNT, session.partCount());
+        if (request.partNumbers().size() > maxPartNumber) {
+            throw new ApiException(ErrorCode.BAD_REQUEST);
+        }
+        Date expiration = new Date(System.currentTimeMillis() + presignExpirationMillis);
+
+        List<PresignedPartResponse> presignedParts = new ArrayList<>(request.partNumbers().size());
+        for (Integer partNumber : request.partNumbers()) {
+            if (partNumber == null || partNumber < 1 || partNumber > maxPartNumber) {
+                throw new ApiException(ErrorCode.BAD_REQUEST);
+            }
+
+            GeneratePresignedUrlRequest presignRequest = new GeneratePresignedUrlRequest(bucket, request.filePath())
+                    .withMethod(HttpMethod.PUT)
+                    .withExpiration(expiration);
+            presignRequest.addRequestParameter("uploadId", request.uploadId());
+            presignRequest.addRequestParameter("partNumber", String.valueOf(partNumber));
+
+            presignedParts.add(new PresignedPartResponse(
+                    partNumber, amazonS3.generatePresignedUrl(presignRequest).toString()));
+        }
+        return presignedParts;
+    }
+
+    /**
+     * 업로드 완료 (S3 기준 파트 크기 합계가 정책을 넘으면 업로드 취소)
+     * @return 업로드된 파일의 공개 URL
+     */
+    public String complete(String directory, Long userId, MultipartUploadCompleteRequest request) {
+        MultipartUploadSession session = requireSession(directory, userId, request.filePath(), request.uploadId());
+        if (request.parts().size() > session.partCount()) {
+            throw new ApiException(ErrorCode.BAD_REQUEST);
+        }
+
+        long uploadedSize = getUploadedSize(request.filePath(), request.uploadId());
+        if (uploadedSize == 0) {
+            throw new ApiException(ErrorCode.FILE_UPLOAD_INCOMPLETE);
+        }
+        if (uploadedSize > maxFileSize) {
+            abortUpload(request.filePath(), request.uploadId());
+            throw new ApiException(ErrorCode.FILE_SIZE_EXCEEDED);
+        }
+
+        List<PartETag> partETags = request.parts().stream()
+                .sorted(Comparator.comparingInt(MultipartUploadCompleteRequest.UploadedPart::partNumber))
+                .map(part -> new PartETag(part.partNumber(), part.eTag()))
+                .toList();
+
+        amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(
+                bucket, request.filePath(), request.uploadId(), new ArrayList<>(partETags)));
+        multipartUploadRegistry.remove(request.uploadId());
+
+        log.debug("멀티파트 업로드 완료: filePath={}, size={}", request.filePath(), uploadedSize);
+        return amazonS3.getUrl(bucket, request.filePath()).toString();
+    }
+
+    /**
+     * 업로드 취소 (시작한 사용자만)
+     */
+    public void abort(String directory, Long userId, String filePath, String uploadId) {
+        requireSession(directory, userId, filePath, uploadId);
+        abortUpload(filePath, uploadId);
+    }
+
+    /**
+     * 디렉토리 내 시작 후 제한 시간이 지난 미완료 업로드 일괄 취소 (업로드 목록 페이지 순회)
+     * 버킷의 다른 경로에서 진행 중인 업로드는 건드리지 않도록 발급 디렉토리 접두어로 한정
+     * @return 취소한 업로드 수
+     */
+    public int abortStaleUploads(String directory) {
+        Date cutoff = new Date(System.currentTimeMillis() - uploadTtl.toMillis());
+        int aborted = 0;
+
+        ListMultipartUploadsRequest listRequest = new ListMultipartUploadsRequest(bucket)
+                .withPrefix(directory + "/");
+        MultipartUploadListing listing;
+        do {
+            listing = amazonS3.listMultipartUploads(listRequest);
+            for (MultipartUpload upload : listing.getMultipartUploads()) {
+                if (!upload.getInitiated().before(cutoff)) {
+                    continue;
+                }
+                try {
+                    abortUpload(upload.getKey(), upload.getUploadId());
+                    aborted++;
+                } catch (AmazonClientException e) {
+                    // 다른 인스턴스가 먼저 정리했거나 일시 오류 - 다음 주기에 다시 확인
+                    log.warn("미완료 멀티파트 업로드 취소 실패: key={}, error={}", upload.getKey(), e.getMessage());
+                }
+            }
+            listRequest.setKeyMarker(listing.getNextKeyMarker());
+            listRequest.setUploadIdMarker(listing.getNextUploadIdMarker());
+        } while (listing.isTruncated());
+
+        return aborted;
+    }
+
+    private void abortUpload(String filePath, String uploadId) {
+        amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, filePath, uploadId));
+        multipartUploadRegistry.remove(uploadId);
+        log.debug("멀티파트 업로드 취소: filePath={}", filePath);
+    }
+
+    /**
+     * 업로드 세션 확인 (발급 경로 형식 + 시작한 사용자/경로 일치)
+     */
+    private MultipartUploadSession requireSession(String directory, Long userId, String filePath, String uploadId) {
+        validateFilePath(directory, filePath);
+
+        MultipartUploadSession session = multipartUploadRegistry.find(uploadId);
+        if (session == null || !session.userId().equals(userId) || !session.filePath().equals(filePath)) {
+            throw new ApiException(ErrorCode.FORBIDDEN);
+        }
+        return session;
+    }
+
+    /**
+     * S3에 업로드된 파트 크기 합계 (파트 목록 페이지 순회)
+     */
+    private long getUploadedSize(String filePath, String uploadId) {
+        long uploadedSize = 0;
+        ListPartsRequest listPartsRequest = new ListPartsRequest(bucket, filePath, uploadId);
+        PartListing listing;
+        do {
+            listing = amazonS3.listParts(listPartsRequest);
+            for (PartSummary part : listing.getParts()) {
+                uploadedSize += part.getSize();
+            }
+            listPartsRequest.setPartNumberMarker(listing.getNextPartNumberMarker());
+        } while (listing.isTruncated());
+        return uploadedSize;
+    }
+
+    /**
+     * 발급한 경로 형식({directory}/{uuid}.{ext})만 허용
+     */
+    private void validateFilePath(String directory, String filePath) {
+        if (!filePath.startsWith(directory + "/") || filePath.indexOf('/', directory.length() + 1) >= 0
+                || filePath.contains("..")) {
+            throw new ApiException(ErrorCode.FILE_PATH_SECURITY_VIOLATION);
+        }
+    }
+
+    private String extractExtension(String filename) {
+        int dotIndex = filename.lastIndexOf('.');
+        return dotIndex >= 0 ? filename.substring(dotIndex).toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -2,7 +2,10 @@ package com.ssafy.bbatty.global.s3;
 
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import lombok.RequiredArgsConstructor;
@@ -11,14 +14,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+    // DeleteObjects 요청 1회당 최대 키 수 (S3 제한)
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final AmazonS3 amazonS3;
 
     @Value("${cloud.aws.s3.bucket}")
@@ -114,6 +123,43 @@ public class S3Service {
         // 파일 경로 유효성 검증 메서드
         amazonS3.deleteObject(bucket, filePath);
     }
+
+    // 6. S3 파일 일괄 삭제 (DeleteObjects 요청 1회당 최대 1000개)
+    // 요청 자체가 실패하면 예외, 일부 키만 실패하면 실패한 키 목록 반환
+    public List<String> deleteFiles(List<String> filePaths) {
+        List<String> failedPaths = new ArrayList<>();
+        for (int from = 0; from < filePaths.size(); from += MAX_KEYS_PER_DELETE) {
+            List<KeyVersion> keys = filePaths.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, filePaths.size()))
+                    .stream()
+                    .map(KeyVersion::new)
+                    .toList();
+
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(keys)
+                    .withQuiet(true);
+            try {
+                amazonS3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failedPaths.add(error.getKey()));
+            }
+        }
+        return failedPaths;
+    }
+    
+    // 7. 이 버킷의 공개 URL이면 S3 키 반환 (다른 호스트/버킷의 URL이면 null)
+    // 키로 다시 만든 공개 URL이 원본과 같을 때만 인정하여 외부 URL이 이 버킷의 객체로 해석되지 않도록 함
+    public String extractKey(String fileUrl) {
+        try {
+            String path = URI.create(fileUrl).getPath();
+            if (path == null || path.length() <= 1) {
+                return null;
+            }
+            String key = path.substring(1);
+            return getPublicUrl(key).equals(fileUrl) ? key : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
     
     /**
      * 이미지 파일 확장자 검증
@@ -0,0 +1,30 @@
+package com.ssafy.bbatty.global.s3.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 멀티파트 업로드 완료 요청 (파트별 업로드 응답의 ETag 포함)
+ */
+public record MultipartUploadCompleteRequest(
+        @NotBlank(message = "파일 경로는 필수입니다.")
+        String filePath,
+
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        String uploadId,
+
+        @NotEmpty(message = "업로드한 파트 목록은 필수입니다.")
+        List<@Valid UploadedPart> parts
+) {
+
+    public record UploadedPart(
+            int partNumber,
+
+            @NotBlank(message = "ETag는 필수입니다.")
+            String eTag
+    ) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.bbatty.global.s3.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 멀티파트 업로드 시작 요청
+ */
+public record MultipartUploadInitiateRequest(
+        @NotBlank(message = "파일명은 필수입니다.")
+        String filename,
+
+        @NotBlank(message = "파일 형식은 필수입니다.")
+        String contentType,
+
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        long fileSize
+) {
+}
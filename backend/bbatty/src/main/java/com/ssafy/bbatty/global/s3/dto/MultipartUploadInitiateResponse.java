@@ -0,0 +1,14 @@
+package com.ssafy.bbatty.global.s3.dto;
+
+/**
+ * 멀티파트 업로드 시작 응답
+ * 클라이언트는 파일을 partSize 단위로 잘라 partCount개 파트로 업로드
+ */
+public record MultipartUploadInitiateResponse(
+        String uploadId,
+        String filePath,
+        String fileUrl,
+        long partSize,
+        int partCount
+) {
+}
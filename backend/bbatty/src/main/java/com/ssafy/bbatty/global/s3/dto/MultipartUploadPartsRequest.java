@@ -0,0 +1,21 @@
+package com.ssafy.bbatty.global.s3.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * 파트 업로드용 Presigned URL 발급 요청
+ */
+public record MultipartUploadPartsRequest(
+        @NotBlank(message = "파일 경로는 필수입니다.")
+        String filePath,
+
+        @NotBlank(message = "업로드 ID는 필수입니다.")
+        String uploadId,
+
+        @NotEmpty(message = "파트 번호는 필수입니다.")
+        List<Integer> partNumbers
+) {
+}
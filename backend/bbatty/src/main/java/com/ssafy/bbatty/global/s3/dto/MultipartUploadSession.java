@@ -0,0 +1,11 @@
+package com.ssafy.bbatty.global.s3.dto;
+
+/**
+ * 진행 중인 멀티파트 업로드 세션 (업로드 시작 시 발급한 사용자/경로/파트 수)
+ */
+public record MultipartUploadSession(
+        Long userId,
+        String filePath,
+        int partCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.ssafy.bbatty.global.s3.dto;
+
+/**
+ * 파트별 업로드 Presigned URL
+ */
+public record PresignedPartResponse(
+        int partNumber,
+        String uploadUrl
+) {
+}
@@ -0,0 +1,88 @@
+package com.ssafy.bbatty.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ssafy.bbatty.global.util.TokenHashUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Access Token 인증 정보 캐시 (선택 기능)
+ * - 자주 재사용되는 토큰의 서명 검증/클레임 파싱 생략
+ * - 원본 토큰 대신 SHA-256 해시를 키로 사용하여 메모리에 토큰을 보관하지 않음
+ * - 항목별로 토큰 만료 시각까지만 유효, 최대 크기 초과 시 사용 빈도가 낮은 항목부터 제거 (Caffeine)
+ * - 블랙리스트 확인은 캐시 여부와 관계없이 매 요청 수행
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final boolean enabled;
+
+    // 토큰 해시 -> 인증 정보
+    private final Cache<String, CachedPrincipal> cache;
+
+    public JwtAuthenticationCache(
+            @Value("${jwt.auth-cache.enabled:false}") boolean enabled,
+            @Value("${jwt.auth-cache.max-size:10000}") int maxSize
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시된 인증 정보 조회
+     * @return 만료되지 않은 인증 정보, 없으면 null
+     */
+    public UserPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        CachedPrincipal cached = cache.getIfPresent(TokenHashUtil.hash(token));
+        return cached != null ? cached.principal() : null;
+    }
+
+    /**
+     * 검증된 인증 정보 저장
+     * @param expiration 토큰 만료 시각
+     */
+    public void put(String token, UserPrincipal principal, Date expiration) {
+        if (!enabled || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        cache.put(TokenHashUtil.hash(token), new CachedPrincipal(principal, expiration.getTime()));
+    }
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAtMillis) {
+    }
+
+    /**
+     * 항목별 만료 시간 = 토큰 만료 시각까지 남은 시간 (조회/갱신으로 연장되지 않음)
+     */
+    private static class TokenExpiry implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package com.ssafy.bbatty.global.security;
 
-import com.ssafy.bbatty.global.constants.RedisKey;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -18,8 +17,8 @@ import java.io.IOException;
 /**
  * JWT 인증 필터
  * - Authorization 헤더에서 토큰 추출
- * - 토큰 유효성 검증
- * - Redis 블랙리스트 확인
+ * - 토큰 유효성 검증 (요청당 서명 검증 1회, 선택적으로 인증 캐시 사용)
+ * - 블랙리스트 확인 (토큰 해시 기준, 로컬 Bloom Filter 우선)
  * - SecurityContext에 사용자 정보 설정
  */
 @Slf4j
@@ -28,7 +27,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenBlacklistStore tokenBlacklistStore;
 
     @Override
     protected void doFilterInternal(
@@ -40,24 +40,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
 
-            if (token != null && jwtProvider.validateAccessToken(token)) {
-                // Redis 블랙리스트 확인
+            UserPrincipal userPrincipal = token != null ? resolvePrincipal(token) : null;
+
+            if (userPrincipal != null) {
+                // 블랙리스트 확인
                 if (isTokenBlacklisted(token)) {
-                    log.info("블랙리스트에 등록된 토큰입니다: {}", token);
+                    log.info("블랙리스트에 등록된 토큰입니다: userId={}", userPrincipal.getUserId());
                 } else {
-                    // 토큰에서 사용자 정보 추출
-                    Long userId = jwtProvider.getUserId(token);
-                    int age = jwtProvider.getAge(token);
-                    String gender = jwtProvider.getGender(token);
-                    Long teamId = jwtProvider.getTeamId(token);
-
-                    // UserPrincipal 생성 및 SecurityContext 설정
-                    UserPrincipal userPrincipal = new UserPrincipal(userId, age, gender, teamId);
+                    // SecurityContext 설정
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("사용자 인증 완료: userId={}, teamId={}", userId, teamId);
+                    log.debug("사용자 인증 완료: userId={}, teamId={}", userPrincipal.getUserId(), userPrincipal.getTeamId());
                 }
             }
         } catch (Exception e) {
@@ -75,12 +70,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return jwtProvider.extractToken(bearerToken);
     }
 
+    /**
+     * 토큰 검증 및 사용자 정보 추출
+     * 캐시에 없으면 서명을 한 번만 검증하고 클레임에서 UserPrincipal 생성
+     *
+     * @return 유효한 Access Token이면 UserPrincipal, 아니면 null
+     */
+    private UserPrincipal resolvePrincipal(String token) {
+        UserPrincipal cached = authenticationCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtProvider.getAccessTokenClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        UserPrincipal userPrincipal = UserPrincipal.from(claims);
+        authenticationCache.put(token, userPrincipal, claims.getExpiration());
+        return userPrincipal;
+    }
+
     /**
      * 토큰이 블랙리스트에 등록되어 있는지 확인
+     * 로컬 Bloom Filter로 대부분의 요청은 Redis 조회 없이 판별
      */
     private boolean isTokenBlacklisted(String token) {
-        String key = RedisKey.AUTH_TOKEN_BLACKLIST + token;
-        return redisTemplate.hasKey(key);
+        return tokenBlacklistStore.isBlacklisted(token);
     }
 
     @Override
@@ -25,6 +25,7 @@ public class JwtProvider {
 
     private final SecretKey secretKey;
     private final String issuer;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInHours;
     private final long refreshTokenValidityInDays;
 
@@ -38,6 +39,11 @@ public class JwtProvider {
         this.issuer = issuer;
         this.accessTokenValidityInHours = accessTokenValidityInHours;
         this.refreshTokenValidityInDays = refreshTokenValidityInDays;
+        // 파서는 불변 객체이므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .requireIssuer(issuer)
+                .build();
     }
 
     /**
@@ -86,12 +92,7 @@ public class JwtProvider {
 
     public Claims getClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .requireIssuer(issuer)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SecurityException | MalformedJwtException | io.jsonwebtoken.security.SignatureException e) {
             log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
             throw new ApiException(ErrorCode.INVALID_TOKEN);
@@ -143,16 +144,26 @@ public class JwtProvider {
      * Access Token 검증
      */
     public boolean validateAccessToken(String token) {
+        return getAccessTokenClaims(token) != null;
+    }
+
+    /**
+     * Access Token 검증 후 클레임 반환
+     * 서명 검증을 한 번만 수행하므로 여러 클레임이 필요한 경우 개별 getter 대신 사용
+     *
+     * @return 유효한 Access Token이면 클레임, Refresh Token이거나 유효하지 않으면 null
+     */
+    public Claims getAccessTokenClaims(String token) {
         try {
             Claims claims = getClaims(token);
 
             // Refresh Token이 아닌지 확인
             if (claims.get("tokenType") != null) {
-                return false;
+                return null;
             }
-            return true;
+            return claims;
         } catch (ApiException e) {
-            return false;
+            return null;
         }
     }
 
@@ -0,0 +1,182 @@
+package com.ssafy.bbatty.global.security;
+
+import com.ssafy.bbatty.global.constants.RedisKey;
+import com.ssafy.bbatty.global.util.TokenHashUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * JWT 토큰 블랙리스트 저장소 (쓰기/읽기 공통)
+ * - Redis 키는 항상 SHA-256 토큰 해시 사용: auth:token:blacklist:{token_hash}
+ * - 인스턴스마다 블랙리스트 해시의 Bloom Filter를 유지하여
+ *   "블랙리스트 아님"이 확실한 대부분의 요청은 Redis 조회 없이 통과
+ * - 다른 인스턴스의 블랙리스트 추가는 Pub/Sub으로 즉시 반영,
+ *   만료 항목 제거 및 Pub/Sub 유실 대비로 주기적으로(기본 5분) Redis 기준 재구성
+ *   (유실된 블랙리스트 토큰은 다음 재구성 전까지 이 인스턴스에서 통과할 수 있음)
+ * - Bloom Filter 준비 전이나 재구성 실패 시에는 Redis 직접 조회로 동작
+ */
+@Slf4j
+@Component
+public class TokenBlacklistStore implements MessageListener {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 현재 사용 중인 필터 (null이면 Redis 직접 조회)
+    private volatile TokenBloomFilter bloomFilter;
+    // 재구성 중인 필터 (재구성 중 수신한 블랙리스트 추가 누락 방지)
+    private volatile TokenBloomFilter rebuildingFilter;
+
+    public TokenBlacklistStore(
+            RedisTemplate<String, Object> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.blacklist.bloom-expected-insertions:1000000}") long expectedInsertions,
+            @Value("${jwt.blacklist.bloom-false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKey.AUTH_TOKEN_BLACKLIST_CHANNEL));
+        rebuild();
+    }
+
+    /**
+     * 토큰을 블랙리스트에 추가하고 전체 인스턴스에 전파
+     * Redis 연결 실패 시 로그만 남기고 계속 진행 (Graceful Degradation)
+     */
+    public void blacklist(String token, Date expiration) {
+        try {
+            String tokenHash = TokenHashUtil.hash(token);
+            long ttl = expiration.getTime() - System.currentTimeMillis();
+
+            if (ttl > 0) {
+                redisTemplate.opsForValue().set(RedisKey.AUTH_TOKEN_BLACKLIST + tokenHash, "blacklisted", Duration.ofMillis(ttl));
+                addToFilters(tokenHash);
+                redisTemplate.convertAndSend(RedisKey.AUTH_TOKEN_BLACKLIST_CHANNEL, tokenHash);
+                log.debug("토큰 블랙리스트 추가: tokenHash={}", tokenHash);
+            }
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패로 토큰 블랙리스트 추가 실패: {}", e.getMessage());
+            // Graceful Degradation: JWT 자체 만료 시간으로 보안 유지
+        } catch (Exception e) {
+            log.error("토큰 블랙리스트 추가 중 예상치 못한 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 블랙리스트 확인
+     * Bloom Filter가 "없음"이면 Redis 조회 생략, "있을 수 있음"일 때만 Redis로 확정
+     * Redis 연결 실패 시 false 반환 (보수적 접근 - 토큰을 유효한 것으로 처리)
+     */
+    public boolean isBlacklisted(String token) {
+        try {
+            String tokenHash = TokenHashUtil.hash(token);
+
+            TokenBloomFilter filter = bloomFilter;
+            if (filter != null && !filter.mightContain(tokenHash)) {
+                return false;
+            }
+            return redisTemplate.hasKey(RedisKey.AUTH_TOKEN_BLACKLIST + tokenHash);
+
+        } catch (RedisConnectionFailureException e) {
+            log.error("Redis 연결 실패로 토큰 블랙리스트 확인 실패: {}", e.getMessage());
+            return false;
+        } catch (Exception e) {
+            log.error("토큰 블랙리스트 확인 중 예상치 못한 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 블랙리스트 추가 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object tokenHash = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (tokenHash instanceof String hash) {
+                addToFilters(hash);
+            }
+        } catch (Exception e) {
+            log.warn("토큰 블랙리스트 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 블랙리스트 키 기준으로 Bloom Filter 재구성 (만료 항목 제거, Pub/Sub 유실 보정)
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.bloom-rebuild-interval-ms:300000}",
+            initialDelayString = "${jwt.blacklist.bloom-rebuild-interval-ms:300000}")
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        TokenBloomFilter newFilter = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = newFilter;
+
+        try {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(RedisKey.AUTH_TOKEN_BLACKLIST + "*")
+                    .count(1000)
+                    .build();
+
+            long count = 0;
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = cursor.next();
+                    try {
+                        newFilter.put(key.substring(RedisKey.AUTH_TOKEN_BLACKLIST.length()));
+                        count++;
+                    } catch (IllegalArgumentException e) {
+                        // 해시 형식이 아닌 키는 조회 대상이 될 수 없으므로 제외
+                        log.warn("토큰 블랙리스트 키 형식 오류로 제외: key={}", key);
+                    }
+                }
+            }
+
+            bloomFilter = newFilter;
+            log.info("토큰 블랙리스트 Bloom Filter 재구성 완료: count={}, {}ms", count, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            // 일부만 반영된 필터는 미탐이 생길 수 있으므로 사용하지 않음
+            bloomFilter = null;
+            log.error("토큰 블랙리스트 Bloom Filter 재구성 실패 - Redis 직접 조회로 전환: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    /**
+     * 재구성 중인 필터를 먼저 읽어 재구성 완료 직전 이벤트도 새 필터에 반영
+     */
+    private void addToFilters(String tokenHash) {
+        TokenBloomFilter rebuilding = rebuildingFilter;
+        TokenBloomFilter current = bloomFilter;
+
+        if (rebuilding != null) {
+            rebuilding.put(tokenHash);
+        }
+        if (current != null) {
+            current.put(tokenHash);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.bbatty.global.security;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 해시 전용 Bloom Filter
+ * - 입력이 이미 균일 분포인 SHA-256 해시이므로 별도 해시 함수 없이
+ *   앞 16바이트를 두 개의 long으로 나눠 double hashing으로 k개 비트 위치 계산
+ * - mightContain이 false면 확실히 없음, true면 있을 수도 있음 (오탐 가능, 미탐 없음)
+ * - 삭제 불가하므로 만료 항목 제거는 주기적 재구성으로 처리
+ */
+class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    TokenBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(Long.SIZE, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    /**
+     * @param tokenHash Base64 인코딩된 SHA-256 토큰 해시
+     */
+    void put(String tokenHash) {
+        ByteBuffer hash = ByteBuffer.wrap(Base64.getDecoder().decode(tokenHash));
+        long h1 = hash.getLong();
+        long h2 = hash.getLong();
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * @param tokenHash Base64 인코딩된 SHA-256 토큰 해시
+     */
+    boolean mightContain(String tokenHash) {
+        ByteBuffer hash = ByteBuffer.wrap(Base64.getDecoder().decode(tokenHash));
+        long h1 = hash.getLong();
+        long h2 = hash.getLong();
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
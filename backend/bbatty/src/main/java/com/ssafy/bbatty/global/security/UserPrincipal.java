@@ -1,5 +1,6 @@
 package com.ssafy.bbatty.global.security;
 
+import io.jsonwebtoken.Claims;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -27,6 +28,18 @@ public class UserPrincipal implements UserDetails {
         this.teamId = teamId;
     }
 
+    /**
+     * 검증된 Access Token 클레임으로부터 생성
+     */
+    public static UserPrincipal from(Claims claims) {
+        return new UserPrincipal(
+                Long.valueOf(claims.getSubject()),
+                claims.get("age", Integer.class),
+                claims.get("gender", String.class),
+                claims.get("teamId", Long.class)
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
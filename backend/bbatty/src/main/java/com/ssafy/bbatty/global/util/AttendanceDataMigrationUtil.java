@@ -2,6 +2,7 @@ package com.ssafy.bbatty.global.util;
 
 import com.ssafy.bbatty.domain.attendance.entity.UserAttended;
 import com.ssafy.bbatty.domain.attendance.repository.UserAttendedRepository;
+import com.ssafy.bbatty.domain.attendance.repository.redis.AttendanceRecordRedisRepository;
 import com.ssafy.bbatty.domain.game.entity.Game;
 import com.ssafy.bbatty.domain.game.repository.GameRepository;
 import com.ssafy.bbatty.global.constants.RedisKey;
@@ -9,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.ZoneId;
 import java.util.*;
 
 /**
@@ -24,6 +24,7 @@ public class AttendanceDataMigrationUtil {
     private final UserAttendedRepository userAttendedRepository;
     private final GameRepository gameRepository;
     private final RedisUtil redisUtil;
+    private final AttendanceRecordRedisRepository attendanceRecordRedisRepository;
 
     /**
      * DB의 모든 직관 기록을 Redis로 마이그레이션
@@ -109,18 +110,15 @@ public class AttendanceDataMigrationUtil {
 
     /**
      * 직관 기록을 Redis에 저장 (통계용)
-     * AttendanceServiceImpl의 saveAttendanceRecordToRedis()와 동일한 로직
+     * 직관 인증 시와 같은 멤버 형식(AttendanceRecordRedisRepository) 사용
      */
     private void saveAttendanceRecordToRedis(Long userId, Game game) {
         try {
             // 경기 시간을 한국 시간 기준 타임스탬프로 변환 (정렬용 스코어)
-            long timestamp = game.getDateTime()
-                    .atZone(ZoneId.of("Asia/Seoul"))
-                    .toInstant()
-                    .toEpochMilli();
+            long timestamp = attendanceRecordRedisRepository.toScore(game);
 
             // 경기 정보 JSON 생성
-            String gameRecord = createGameRecord(game);
+            String gameRecord = attendanceRecordRedisRepository.toMember(game);
 
             // 시즌별 직관 기록 저장
             String season = String.valueOf(game.getDateTime().getYear());
@@ -199,23 +197,4 @@ public class AttendanceDataMigrationUtil {
         
         return debugInfo;
     }
-
-    /**
-     * 경기 정보를 JSON 문자열로 변환
-     * AttendanceServiceImpl의 createGameRecord()와 동일한 로직
-     */
-    private String createGameRecord(Game game) {
-        return String.format(
-                "{\"gameId\":%d,\"homeTeam\":\"%s\",\"awayTeam\":\"%s\",\"dateTime\":\"%s\",\"stadium\":\"%s\",\"status\":\"%s\",\"homeScore\":%s,\"awayScore\":%s,\"result\":\"%s\"}",
-                game.getId(),
-                game.getHomeTeam().getName(),
-                game.getAwayTeam().getName(),
-                game.getDateTime().toString(),
-                game.getStadium(),
-                game.getStatus().name(),
-                game.getHomeScore() != null ? game.getHomeScore() : "null",
-                game.getAwayScore() != null ? game.getAwayScore() : "null",
-                game.getResult() != null ? game.getResult().name() : "null"
-        );
-    }
-}
\ No newline at end of file
+}
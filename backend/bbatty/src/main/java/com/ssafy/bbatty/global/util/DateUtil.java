@@ -11,7 +11,7 @@ public class DateUtil {
     
     /**
      * 당일 자정까지 남은 시간 계산
-     * - AttendanceServiceImpl, ActiveGameRepository에서 동일한 복잡한 로직 중복
+     * - AttendanceServiceImpl 등에서 동일한 복잡한 로직 중복
      */
     public static Duration calculateTTLUntilMidnight() {
         LocalDateTime now = LocalDateTime.now();
@@ -9,7 +9,10 @@ import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -51,6 +54,21 @@ public class RedisUtil {
         }
     }
 
+    /**
+     * 여러 키 값 일괄 조회 (MGET 1회), 없는 키는 null
+     */
+    public List<Object> multiGet(List<String> keys) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+
+    /**
+     * 여러 키 값 일괄 저장 (MSET 1회)
+     */
+    public void multiSet(Map<String, Object> values) {
+        redisTemplate.opsForValue().multiSet(values);
+    }
+
     public boolean hasKey(String key) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
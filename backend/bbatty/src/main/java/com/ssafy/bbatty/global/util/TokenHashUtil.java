@@ -0,0 +1,27 @@
+package com.ssafy.bbatty.global.util;
+
+import com.ssafy.bbatty.global.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import static com.ssafy.bbatty.global.constants.ErrorCode.SHA_256_NOT_FOUND;
+
+/**
+ * 토큰 해시 유틸리티
+ * 원본 토큰 대신 SHA-256 해시(Base64)를 캐시/Redis 키로 사용
+ */
+public class TokenHashUtil {
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ApiException(SHA_256_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.bbatty.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ * Redis 캐시 갱신, Kafka 이벤트 발행 등 외부 부수 효과를 커밋 이후로 미뤄 롤백된 변경이 외부에 반영되지 않도록 함
+ */
+public class TransactionUtil {
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 실행, 트랜잭션 밖이면 즉시 실행
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -43,7 +43,9 @@ CREATE TABLE `game` (
             PRIMARY KEY (`id`),
             FOREIGN KEY (`away_team_id`) REFERENCES `team`(`id`) ON DELETE RESTRICT,
             FOREIGN KEY (`home_team_id`) REFERENCES `team`(`id`) ON DELETE RESTRICT,
-            INDEX `idx_date_time` (`date_time` DESC) COMMENT '직관 기록 날짜순 정렬용'
+            INDEX `idx_date_time` (`date_time` DESC) COMMENT '직관 기록 날짜순 정렬용',
+            INDEX `idx_game_home_date_time` (`home_team_id`, `date_time`) COMMENT '홈팀 기간별 경기 조회용',
+            INDEX `idx_game_away_date_time` (`away_team_id`, `date_time`) COMMENT '원정팀 기간별 경기 조회용'
 ) COMMENT='KBO 경기 정보';
 
 -- 사용자 직관 로그 테이블 (순수 로그)
@@ -98,11 +100,15 @@ CREATE TABLE `post` (
             `content` TEXT NOT NULL COMMENT '내용',
             `is_same_team` BOOLEAN NOT NULL DEFAULT FALSE COMMENT '같은 팀만 댓글 허용',
             `is_deleted` BOOLEAN NOT NULL DEFAULT FALSE COMMENT '삭제 여부',
+            `view_count` INT NOT NULL DEFAULT 0 COMMENT '조회수 (조회 로그 적재 시 일괄 반영)',
+            `like_count` INT NOT NULL DEFAULT 0 COMMENT '좋아요 수',
+            `comment_count` INT NOT NULL DEFAULT 0 COMMENT '댓글 수',
             `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
             `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
             PRIMARY KEY (`id`),
             FOREIGN KEY (`user_id`) REFERENCES `user`(`id`) ON DELETE CASCADE,
             FOREIGN KEY (`team_id`) REFERENCES `team`(`id`) ON DELETE RESTRICT,
+            INDEX `idx_post_latest` (`created_at` DESC) COMMENT '전체 최신글 조회용',
             INDEX `idx_team_latest` (`team_id`, `created_at` DESC) COMMENT '팀별 최신글 조회용',
             INDEX `idx_user_posts` (`user_id`, `created_at` DESC) COMMENT '사용자별 게시글 조회용'
 ) COMMENT='게시글';
@@ -117,16 +123,16 @@ CREATE TABLE `post_image` (
               FOREIGN KEY (`post_id`) REFERENCES `post`(`id`) ON DELETE CASCADE
 ) COMMENT='게시글 이미지';
 
--- 게시글 좋아요 테이블
+-- 게시글 좋아요 테이블 (현재 상태, 행이 있으면 좋아요)
 CREATE TABLE `post_like` (
              `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '좋아요 ID',
              `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
              `post_id` BIGINT NOT NULL COMMENT '게시글 ID',
-             `like_action` ENUM('LIKE', 'UNLIKE') NOT NULL COMMENT 'LIKE 또는 UNLIKE',
-             `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '조회 시각',
+             `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '좋아요 시각',
              PRIMARY KEY (`id`),
              FOREIGN KEY (`user_id`) REFERENCES `user`(`id`) ON DELETE CASCADE,
-             FOREIGN KEY (`post_id`) REFERENCES `post`(`id`) ON DELETE CASCADE
+             FOREIGN KEY (`post_id`) REFERENCES `post`(`id`) ON DELETE CASCADE,
+             UNIQUE KEY `uk_post_like_post_user` (`post_id`, `user_id`) COMMENT '사용자당 게시글 좋아요 1회'
 ) COMMENT='게시글 좋아요';
 
 
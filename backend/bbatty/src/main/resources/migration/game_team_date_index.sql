@@ -0,0 +1,9 @@
+-- ===================================
+-- 팀별 기간 경기 조회용 인덱스 (직관 인증, 오늘 경기 조회)
+-- 기존 운영 DB에 1회 적용 (신규 DB는 bbatty.sql로 생성)
+-- ===================================
+USE BBATTY;
+
+ALTER TABLE `game`
+    ADD INDEX `idx_game_home_date_time` (`home_team_id`, `date_time`) COMMENT '홈팀 기간별 경기 조회용',
+    ADD INDEX `idx_game_away_date_time` (`away_team_id`, `date_time`) COMMENT '원정팀 기간별 경기 조회용';
@@ -0,0 +1,41 @@
+-- ===================================
+-- 게시글 카운터 컬럼 / 좋아요 현재 상태 테이블 전환
+-- 기존 운영 DB에 1회 적용 (신규 DB는 bbatty.sql로 생성)
+-- ===================================
+USE BBATTY;
+
+-- 1. post 비정규화 카운터 컬럼 추가
+ALTER TABLE `post`
+    ADD COLUMN `view_count` INT NOT NULL DEFAULT 0 COMMENT '조회수 (조회 로그 적재 시 일괄 반영)' AFTER `is_deleted`,
+    ADD COLUMN `like_count` INT NOT NULL DEFAULT 0 COMMENT '좋아요 수' AFTER `view_count`,
+    ADD COLUMN `comment_count` INT NOT NULL DEFAULT 0 COMMENT '댓글 수' AFTER `like_count`;
+
+-- 2. LIKE/UNLIKE 로그를 사용자별 현재 상태로 변환
+CREATE TABLE `post_like_new` (
+             `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '좋아요 ID',
+             `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
+             `post_id` BIGINT NOT NULL COMMENT '게시글 ID',
+             `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '좋아요 시각',
+             PRIMARY KEY (`id`),
+             FOREIGN KEY (`user_id`) REFERENCES `user`(`id`) ON DELETE CASCADE,
+             FOREIGN KEY (`post_id`) REFERENCES `post`(`id`) ON DELETE CASCADE,
+             UNIQUE KEY `uk_post_like_post_user` (`post_id`, `user_id`) COMMENT '사용자당 게시글 좋아요 1회'
+) COMMENT='게시글 좋아요';
+
+INSERT INTO `post_like_new` (`user_id`, `post_id`, `created_at`)
+SELECT `user_id`, `post_id`, MAX(`created_at`)
+FROM `post_like`
+GROUP BY `post_id`, `user_id`
+HAVING SUM(`like_action` = 'LIKE') > SUM(`like_action` = 'UNLIKE');
+
+RENAME TABLE `post_like` TO `post_like_log_backup`, `post_like_new` TO `post_like`;
+
+-- 3. 카운터 컬럼 초기값 채우기 (updated_at은 수정 시각이므로 유지)
+UPDATE `post` p
+    LEFT JOIN (SELECT `post_id`, COUNT(*) AS cnt FROM `post_view` GROUP BY `post_id`) v ON v.post_id = p.id
+    LEFT JOIN (SELECT `post_id`, COUNT(*) AS cnt FROM `post_like` GROUP BY `post_id`) l ON l.post_id = p.id
+    LEFT JOIN (SELECT `post_id`, COUNT(*) AS cnt FROM `comment` GROUP BY `post_id`) c ON c.post_id = p.id
+SET p.view_count = COALESCE(v.cnt, 0),
+    p.like_count = COALESCE(l.cnt, 0),
+    p.comment_count = COALESCE(c.cnt, 0),
+    p.updated_at = p.updated_at;
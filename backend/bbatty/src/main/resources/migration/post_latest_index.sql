@@ -0,0 +1,8 @@
+-- ===================================
+-- 전체 게시글 최신순 키셋 페이징용 인덱스
+-- 기존 운영 DB에 1회 적용 (신규 DB는 bbatty.sql로 생성)
+-- ===================================
+USE BBATTY;
+
+ALTER TABLE `post`
+    ADD INDEX `idx_post_latest` (`created_at` DESC) COMMENT '전체 최신글 조회용';
@@ -0,0 +1,123 @@
+package com.ssafy.bbatty.domain.attendance.util;
+
+import com.ssafy.bbatty.global.constants.Attendance;
+import com.ssafy.bbatty.global.constants.Stadium;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경기장 위치 판정 비용 벤치마크 (전체 경기장 대상 판정 1회 기준)
+ * - legacy: 기존 구현 (BigDecimal 좌표, 매 호출 라디안 변환 + Haversine)
+ * - geofence: 경기장별 사전 계산된 Geofence (경계 상자 -> Haversine)
+ * - geofencePolygon: 다각형 지오펜스 (경계 상자 -> ray casting)
+ * 실행: ./gradlew test -Pbenchmark --tests '*GeofenceBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeofenceBenchmark {
+
+    private static final int POINT_COUNT = 1024;
+
+    private Stadium[] stadiums;
+    private Geofence[] geofences;
+    private Geofence[] polygonGeofences;
+    private BigDecimal[] latitudes;
+    private BigDecimal[] longitudes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        stadiums = Stadium.values();
+        geofences = new Geofence[stadiums.length];
+        polygonGeofences = new Geofence[stadiums.length];
+
+        for (int i = 0; i < stadiums.length; i++) {
+            double lat = stadiums[i].getLatitude().doubleValue();
+            double lon = stadiums[i].getLongitude().doubleValue();
+            geofences[i] = LocationUtil.getGeofence(stadiums[i]);
+            // 중심 기준 약 300m x 300m 팔각형
+            double[] polygonLats = new double[8];
+            double[] polygonLons = new double[8];
+            for (int v = 0; v < 8; v++) {
+                double angle = Math.PI / 4 * v;
+                polygonLats[v] = lat + 0.00135 * Math.sin(angle);
+                polygonLons[v] = lon + 0.0017 * Math.cos(angle);
+            }
+            polygonGeofences[i] = Geofence.polygon(lat, lon, polygonLats, polygonLons);
+        }
+
+        // 실제 요청처럼 한 경기장 근처 좌표 (대부분 다른 경기장과는 멀리 떨어짐)
+        Random random = new Random(42);
+        latitudes = new BigDecimal[POINT_COUNT];
+        longitudes = new BigDecimal[POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            Stadium near = stadiums[random.nextInt(stadiums.length)];
+            latitudes[i] = near.getLatitude().add(BigDecimal.valueOf((random.nextDouble() - 0.5) * 0.006));
+            longitudes[i] = near.getLongitude().add(BigDecimal.valueOf((random.nextDouble() - 0.5) * 0.008));
+        }
+    }
+
+    @Benchmark
+    public int legacy() {
+        int index = nextIndex();
+        int matched = 0;
+        for (Stadium stadium : stadiums) {
+            double distance = GeofenceTest.legacyDistance(latitudes[index], longitudes[index],
+                    stadium.getLatitude(), stadium.getLongitude());
+            if (distance <= Attendance.STADIUM_RADIUS_KM) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int geofence() {
+        return countContaining(geofences);
+    }
+
+    @Benchmark
+    public int geofencePolygon() {
+        return countContaining(polygonGeofences);
+    }
+
+    private int countContaining(Geofence[] targets) {
+        int index = nextIndex();
+        double lat = latitudes[index].doubleValue();
+        double lon = longitudes[index].doubleValue();
+        int matched = 0;
+        for (Geofence target : targets) {
+            if (target.contains(lat, lon)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (POINT_COUNT - 1);
+        return cursor;
+    }
+
+    @Test
+    @Tag("benchmark")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GeofenceBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,152 @@
+package com.ssafy.bbatty.domain.attendance.util;
+
+import com.ssafy.bbatty.global.constants.Attendance;
+import com.ssafy.bbatty.global.constants.ErrorCode;
+import com.ssafy.bbatty.global.constants.Stadium;
+import com.ssafy.bbatty.global.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GeofenceTest {
+
+    // 거리 오차 허용치 (1mm)
+    private static final double DISTANCE_TOLERANCE_KM = 1e-6;
+
+    @Test
+    @DisplayName("경기장 주변 무작위 좌표 - 기존 BigDecimal 구현과 거리/범위 판정 일치")
+    void matchesLegacyImplementation() {
+        // Given
+        Random random = new Random(42);
+
+        for (Stadium stadium : Stadium.values()) {
+            Geofence geofence = LocationUtil.getGeofence(stadium);
+
+            for (int i = 0; i < 5_000; i++) {
+                // 경기장 중심 기준 약 ±500m 범위
+                BigDecimal userLat = stadium.getLatitude()
+                        .add(BigDecimal.valueOf((random.nextDouble() - 0.5) * 0.009));
+                BigDecimal userLon = stadium.getLongitude()
+                        .add(BigDecimal.valueOf((random.nextDouble() - 0.5) * 0.011));
+
+                // When
+                double expected = legacyDistance(userLat, userLon, stadium.getLatitude(), stadium.getLongitude());
+                double actual = geofence.distanceKm(userLat.doubleValue(), userLon.doubleValue());
+                LocationUtil.LocationValidationResult result =
+                        LocationUtil.validateStadiumLocation(userLat, userLon, stadium);
+
+                // Then
+                assertThat(actual).isCloseTo(expected, within(DISTANCE_TOLERANCE_KM));
+                assertThat(result.distanceKm()).isCloseTo(expected, within(DISTANCE_TOLERANCE_KM));
+                if (Math.abs(expected - Attendance.STADIUM_RADIUS_KM) > DISTANCE_TOLERANCE_KM) {
+                    assertThat(result.withinRange()).isEqualTo(expected <= Attendance.STADIUM_RADIUS_KM);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("경계 상자 - 반경 바로 안쪽 좌표는 상자에 걸러지지 않음")
+    void boundingBoxNeverRejectsInsidePoint() {
+        // Given
+        Geofence geofence = Geofence.circle(37.5121528, 127.0717917, 0.15);
+
+        for (int degree = 0; degree < 360; degree += 5) {
+            // 중심에서 149.9m 떨어진 좌표
+            double[] point = destination(37.5121528, 127.0717917, 0.1499, degree);
+
+            // When & Then
+            assertThat(geofence.contains(point[0], point[1]))
+                    .as("bearing=%d", degree)
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("경계 상자 - 상자 밖 좌표는 범위 밖")
+    void outsideBoundingBox() {
+        // Given
+        Geofence geofence = Geofence.circle(37.5121528, 127.0717917, 0.15);
+
+        // When & Then
+        assertThat(geofence.contains(37.5121528, 127.0817917)).isFalse();
+        assertThat(geofence.contains(37.5221528, 127.0717917)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다각형 - 내부/외부/오목한 부분 판정")
+    void polygonContains() {
+        // Given: ㄷ자 형태 (오른쪽 가운데가 비어 있음)
+        double[] latitudes = {37.510, 37.510, 37.511, 37.511, 37.512, 37.512, 37.513, 37.513};
+        double[] longitudes = {127.070, 127.073, 127.073, 127.071, 127.071, 127.073, 127.073, 127.070};
+        Geofence geofence = Geofence.polygon(37.5115, 127.0715, latitudes, longitudes);
+
+        // When & Then
+        assertThat(geofence.isPolygon()).isTrue();
+        assertThat(geofence.contains(37.5105, 127.0720)).isTrue();
+        assertThat(geofence.contains(37.5125, 127.0725)).isTrue();
+        assertThat(geofence.contains(37.5115, 127.0705)).isTrue();
+        assertThat(geofence.contains(37.5115, 127.0725)).isFalse();
+        assertThat(geofence.contains(37.5140, 127.0720)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다각형 - 꼭짓점이 3개 미만이면 생성 실패")
+    void polygonRequiresThreeVertices() {
+        assertThatThrownBy(() -> Geofence.polygon(37.5, 127.0, new double[]{37.5, 37.6}, new double[]{127.0, 127.1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("좌표 누락 - INVALID_COORDINATES")
+    void nullCoordinates() {
+        assertThatThrownBy(() -> LocationUtil.validateStadiumLocation(null, BigDecimal.ONE, Stadium.JAMSIL))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_COORDINATES);
+    }
+
+    /**
+     * 기존 LocationUtil.calculateDistance 구현 (BigDecimal 입력, atan2 형태)
+     */
+    static double legacyDistance(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
+        double lat1Rad = Math.toRadians(lat1.doubleValue());
+        double lon1Rad = Math.toRadians(lon1.doubleValue());
+        double lat2Rad = Math.toRadians(lat2.doubleValue());
+        double lon2Rad = Math.toRadians(lon2.doubleValue());
+
+        double deltaLat = lat2Rad - lat1Rad;
+        double deltaLon = lon2Rad - lon1Rad;
+
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
+                Math.cos(lat1Rad) * Math.cos(lat2Rad) *
+                Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return Attendance.EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * 중심에서 방위각/거리만큼 이동한 좌표 (구면 기준)
+     */
+    private static double[] destination(double lat, double lon, double distanceKm, double bearingDegree) {
+        double angular = distanceKm / Attendance.EARTH_RADIUS_KM;
+        double bearing = Math.toRadians(bearingDegree);
+        double latRad = Math.toRadians(lat);
+        double lonRad = Math.toRadians(lon);
+
+        double destLat = Math.asin(Math.sin(latRad) * Math.cos(angular)
+                + Math.cos(latRad) * Math.sin(angular) * Math.cos(bearing));
+        double destLon = lonRad + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(latRad),
+                Math.cos(angular) - Math.sin(latRad) * Math.sin(destLat));
+
+        return new double[]{Math.toDegrees(destLat), Math.toDegrees(destLon)};
+    }
+}
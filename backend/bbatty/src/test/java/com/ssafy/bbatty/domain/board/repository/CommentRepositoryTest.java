@@ -0,0 +1,134 @@
+package com.ssafy.bbatty.domain.board.repository;
+
+import com.ssafy.bbatty.domain.board.entity.Comment;
+import com.ssafy.bbatty.domain.board.entity.Post;
+import com.ssafy.bbatty.domain.team.entity.Team;
+import com.ssafy.bbatty.domain.user.entity.User;
+import com.ssafy.bbatty.global.constants.Gender;
+import com.ssafy.bbatty.global.constants.Role;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 스레드 조회 쿼리 수 검증
+ * 부모 댓글 페이지 1회 + 대댓글 parent_id IN 1회로, 부모 댓글 수와 관계없이 쿼리 수가 일정해야 함
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-query;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class CommentRepositoryTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Team team;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        team = Team.builder().name("테스트팀").build();
+        entityManager.persist(team);
+        user = User.createUser("tester", team, Gender.MALE, 1995, null, null, Role.USER);
+        entityManager.persist(user);
+    }
+
+    @Test
+    @DisplayName("부모 댓글 수와 관계없이 스레드 조회 쿼리 수가 일정")
+    void loadThread_QueryCountIsConstant() {
+        Post smallThread = createThread(2, 1);
+        Post largeThread = createThread(30, 3);
+
+        long smallQueries = countQueries(() -> loadThread(smallThread.getId(), 2, 2));
+        long largeQueries = countQueries(() -> loadThread(largeThread.getId(), PAGE_SIZE, PAGE_SIZE * 3));
+
+        assertThat(smallQueries).isEqualTo(2);
+        assertThat(largeQueries).isEqualTo(smallQueries);
+    }
+
+    @Test
+    @DisplayName("커서 이후 부모 댓글을 키셋으로 이어서 조회")
+    void findParentPageByPostIdAfterCursor_ContinuesFromCursor() {
+        Post post = createThread(15, 0);
+
+        Slice<Comment> firstPage = commentRepository.findParentPageByPostId(post.getId(), PageRequest.of(0, PAGE_SIZE));
+        Long cursor = firstPage.getContent().getLast().getId();
+        Slice<Comment> secondPage = commentRepository.findParentPageByPostIdAfterCursor(post.getId(), cursor, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.getContent()).hasSize(5);
+        assertThat(secondPage.getContent())
+                .extracting(Comment::getId)
+                .allMatch(id -> id < cursor)
+                .doesNotContainAnyElementsOf(firstPage.getContent().stream().map(Comment::getId).toList());
+    }
+
+    /**
+     * 서비스와 같은 순서로 조회 후 작성자 정보까지 접근 (지연 로딩 추가 쿼리 검출)
+     */
+    private void loadThread(Long postId, int expectedParents, int expectedReplies) {
+        Slice<Comment> parents = commentRepository.findParentPageByPostId(postId, PageRequest.of(0, PAGE_SIZE));
+        List<Long> parentIds = parents.getContent().stream().map(Comment::getId).toList();
+        List<Comment> replies = commentRepository.findRepliesByParentIds(parentIds);
+
+        parents.getContent().forEach(comment -> comment.getUser().getNickname());
+        replies.forEach(reply -> {
+            reply.getUser().getNickname();
+            reply.getParent().getId();
+        });
+
+        assertThat(parents.getContent()).hasSize(expectedParents);
+        assertThat(replies).hasSize(expectedReplies);
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Post createThread(int parentCount, int repliesPerParent) {
+        Post post = new Post(user, team.getId(), "제목", "내용", false);
+        entityManager.persist(post);
+
+        for (int i = 0; i < parentCount; i++) {
+            Comment parent = new Comment(post, user, "댓글 " + i);
+            entityManager.persist(parent);
+            for (int j = 0; j < repliesPerParent; j++) {
+                entityManager.persist(new Comment(post, user, "대댓글 " + i + "-" + j, parent));
+            }
+        }
+        entityManager.flush();
+        return post;
+    }
+}
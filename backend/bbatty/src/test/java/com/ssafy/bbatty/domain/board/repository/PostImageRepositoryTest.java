@@ -0,0 +1,89 @@
+package com.ssafy.bbatty.domain.board.repository;
+
+import com.ssafy.bbatty.domain.board.entity.Post;
+import com.ssafy.bbatty.domain.board.entity.PostImage;
+import com.ssafy.bbatty.domain.team.entity.Team;
+import com.ssafy.bbatty.domain.user.entity.User;
+import com.ssafy.bbatty.global.constants.Gender;
+import com.ssafy.bbatty.global.constants.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3 삭제 제외 대상 이미지 조회 검증
+ * 게시글 수정으로 빠진 이미지 중 다른 게시글이 참조 중이거나 먼저 연결한 이미지는 S3에서 삭제하지 않아야 함
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post-image;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class PostImageRepositoryTest {
+
+    private static final String OWN_URL = "https://bucket.s3.amazonaws.com/posts/own.jpg";
+    private static final String SHARED_URL = "https://bucket.s3.amazonaws.com/posts/shared.jpg";
+    private static final String BORROWED_URL = "https://bucket.s3.amazonaws.com/posts/borrowed.jpg";
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Team team;
+
+    @BeforeEach
+    void setUp() {
+        team = Team.builder().name("테스트팀").build();
+        entityManager.persist(team);
+        user = User.createUser("tester", team, Gender.MALE, 1995, null, null, Role.USER);
+        entityManager.persist(user);
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 활성 참조가 있거나 다른 게시글이 먼저 연결한 이미지는 삭제 제외")
+    void findRetainedImageUrls_ExcludesOnlyImagesOwnedByPost() {
+        Post other = createPost();
+        persistImage(other, BORROWED_URL, true);
+
+        Post post = createPost();
+        persistImage(post, OWN_URL, true);
+        persistImage(post, SHARED_URL, true);
+        persistImage(post, BORROWED_URL, true);
+
+        Post sharing = createPost();
+        persistImage(sharing, SHARED_URL, false);
+        entityManager.flush();
+
+        List<String> retained = postImageRepository.findRetainedImageUrls(post.getId(),
+                List.of(OWN_URL, SHARED_URL, BORROWED_URL));
+
+        assertThat(retained).containsExactlyInAnyOrder(SHARED_URL, BORROWED_URL);
+    }
+
+    private Post createPost() {
+        Post post = new Post(user, team.getId(), "제목", "내용", false);
+        entityManager.persist(post);
+        return post;
+    }
+
+    private void persistImage(Post post, String imageUrl, boolean deleted) {
+        entityManager.persist(PostImage.builder()
+                .post(post)
+                .imageUrl(imageUrl)
+                .isDeleted(deleted)
+                .build());
+    }
+}
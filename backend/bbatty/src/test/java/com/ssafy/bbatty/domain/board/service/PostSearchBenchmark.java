@@ -0,0 +1,77 @@
+package com.ssafy.bbatty.domain.board.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 검색 캐시 벤치마크
+ * - fulltext: 매 호출 전 팀 캐시를 삭제하여 기존 FULLTEXT 검색 경로 측정
+ * - cached: 결과 ID 캐시 적중 후 IN 조회 + 카운트 일괄 조회 경로 측정
+ * FULLTEXT 인덱스가 필요하므로 실제 MySQL/Redis 환경에서만 실행
+ * 실행: SPRING_DATASOURCE_URL=jdbc:mysql://... ./gradlew test -Pbenchmark --tests '*PostSearchBenchmark'
+ *       (BENCHMARK_TEAM_ID, BENCHMARK_KEYWORDS=키워드1,키워드2 로 대상 지정)
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = "jdbc:mysql:.*")
+class PostSearchBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchBenchmark.class);
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchCacheService postSearchCacheService;
+
+    @Test
+    @Tag("benchmark")
+    void runBenchmark() {
+        Long teamId = Long.valueOf(System.getenv().getOrDefault("BENCHMARK_TEAM_ID", "1"));
+        List<String> keywords = Arrays.asList(System.getenv().getOrDefault("BENCHMARK_KEYWORDS", "직관,선발,홈런").split(","));
+
+        report("fulltext", measure(teamId, keywords, true));
+        report("cached", measure(teamId, keywords, false));
+
+        postSearchCacheService.evictTeam(teamId);
+    }
+
+    private long[] measure(Long teamId, List<String> keywords, boolean evictBeforeSearch) {
+        for (int i = 0; i < WARMUP; i++) {
+            search(teamId, keywords.get(i % keywords.size()), evictBeforeSearch);
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            elapsed[i] = search(teamId, keywords.get(i % keywords.size()), evictBeforeSearch);
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private long search(Long teamId, String keyword, boolean evictBeforeSearch) {
+        if (evictBeforeSearch) {
+            postSearchCacheService.evictTeam(teamId);
+        }
+        long start = System.nanoTime();
+        postService.searchPostsByTeam(teamId, keyword, null);
+        return System.nanoTime() - start;
+    }
+
+    private void report(String label, long[] sortedNanos) {
+        double avg = Arrays.stream(sortedNanos).average().orElse(0) / 1_000;
+        long p50 = sortedNanos[sortedNanos.length / 2] / 1_000;
+        long p99 = sortedNanos[(int) Math.ceil(sortedNanos.length * 0.99) - 1] / 1_000;
+        log.info("[{}] avg={}us p50={}us p99={}us", label, String.format("%.1f", avg), p50, p99);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ssafy.bbatty.domain.game.repository;
+
+import com.ssafy.bbatty.domain.game.entity.Game;
+import com.ssafy.bbatty.domain.team.entity.Team;
+import com.ssafy.bbatty.global.constants.GameStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팀 경기 기간 조회 쿼리의 범위 조건 검증 (start 이상, end 미만 + 홈/원정 + 상태)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:game-query;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class GameRepositoryTest {
+
+    private static final LocalDate GAME_DATE = LocalDate.of(2025, 7, 1);
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Team home;
+    private Team away;
+    private Team other;
+
+    @BeforeEach
+    void setUp() {
+        home = Team.builder().name("홈팀").build();
+        away = Team.builder().name("원정팀").build();
+        other = Team.builder().name("다른팀").build();
+        entityManager.persist(home);
+        entityManager.persist(away);
+        entityManager.persist(other);
+    }
+
+    @Test
+    @DisplayName("당일 경기 조회 - 당일 00:00 이상 다음날 00:00 미만만 포함")
+    void findTeamGamesToday_RangeBoundaries() {
+        Game dayStart = createGame(home, away, GAME_DATE.atStartOfDay());
+        Game dayEnd = createGame(other, home, GAME_DATE.atTime(23, 59, 59));
+        createGame(home, away, GAME_DATE.minusDays(1).atTime(23, 59, 59));
+        createGame(home, away, GAME_DATE.plusDays(1).atStartOfDay());
+        createGame(away, other, GAME_DATE.atTime(18, 30));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Game> games = gameRepository.findTeamGamesToday(home.getId(), GAME_DATE, GameStatus.SCHEDULED);
+
+        assertThat(games).extracting(Game::getId)
+                .containsExactlyInAnyOrder(dayStart.getId(), dayEnd.getId());
+    }
+
+    @Test
+    @DisplayName("기간 경기 조회 - 범위 안의 홈/원정 경기 중 요청 상태만 포함")
+    void findTeamGamesBetween_ReturnsTeamGamesInRange() {
+        LocalDateTime start = GAME_DATE.atTime(12, 0);
+        LocalDateTime end = GAME_DATE.plusDays(3).atStartOfDay();
+
+        Game homeGame = createGame(home, away, start, GameStatus.SCHEDULED);
+        Game awayGame = createGame(other, home, GAME_DATE.plusDays(1).atTime(18, 30), GameStatus.SCHEDULED);
+        Game lastGame = createGame(home, other, end.minusSeconds(1), GameStatus.SCHEDULED);
+        createGame(home, away, start.minusSeconds(1), GameStatus.SCHEDULED);
+        createGame(away, home, end, GameStatus.SCHEDULED);
+        createGame(home, other, GAME_DATE.plusDays(2).atTime(18, 30), GameStatus.CANCELLED);
+        createGame(away, other, GAME_DATE.plusDays(1).atTime(18, 30), GameStatus.SCHEDULED);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Game> games = gameRepository.findTeamGamesBetween(home.getId(), start, end, GameStatus.SCHEDULED);
+
+        assertThat(games).extracting(Game::getId)
+                .containsExactlyInAnyOrder(homeGame.getId(), awayGame.getId(), lastGame.getId());
+    }
+
+    @Test
+    @DisplayName("기간 경기 조회 - 범위 안에 팀 경기가 없으면 빈 목록")
+    void findTeamGamesBetween_NoGamesInRange() {
+        createGame(home, away, GAME_DATE.atTime(18, 30), GameStatus.SCHEDULED);
+        createGame(away, other, GAME_DATE.plusDays(1).atTime(18, 30), GameStatus.SCHEDULED);
+        entityManager.flush();
+
+        List<Game> games = gameRepository.findTeamGamesBetween(home.getId(),
+                GAME_DATE.plusDays(1).atStartOfDay(), GAME_DATE.plusDays(2).atStartOfDay(), GameStatus.SCHEDULED);
+
+        assertThat(games).isEmpty();
+    }
+
+    private Game createGame(Team homeTeam, Team awayTeam, LocalDateTime dateTime) {
+        return createGame(homeTeam, awayTeam, dateTime, GameStatus.SCHEDULED);
+    }
+
+    private Game createGame(Team homeTeam, Team awayTeam, LocalDateTime dateTime, GameStatus status) {
+        Game game = Game.builder()
+                .homeTeam(homeTeam)
+                .awayTeam(awayTeam)
+                .status(status)
+                .dateTime(dateTime)
+                .stadium("테스트구장")
+                .build();
+        entityManager.persist(game);
+        return game;
+    }
+}
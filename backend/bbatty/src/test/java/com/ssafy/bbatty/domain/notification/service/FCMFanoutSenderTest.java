@@ -0,0 +1,254 @@
+package com.ssafy.bbatty.domain.notification.service;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 가짜 FCM 엔드포인트(messages:send)를 띄워 실제 Firebase SDK 요청/응답 경로로 검증
+ * - dead-* : 404 UNREGISTERED, mismatch-* : 403 SENDER_ID_MISMATCH, bad-* : 400 INVALID_ARGUMENT
+ * - flaky-* : 첫 요청만 429 QUOTA_EXCEEDED, reset-* : 첫 요청만 응답 없이 연결 종료, 이후 성공
+ */
+@ExtendWith(MockitoExtension.class)
+class FCMFanoutSenderTest {
+
+    // 배치 여러 개의 동시 요청이 연결 대기열을 넘겨 연결이 끊기지 않도록 충분히 크게
+    private static final int SERVER_BACKLOG = 2048;
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Mock
+    private NotificationSettingRepository notificationSettingRepository;
+
+    @Mock
+    private FCMTopicManager fcmTopicManager;
+
+    private HttpServer server;
+    private FirebaseApp firebaseApp;
+    private FCMFanoutSender fanoutSender;
+
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), SERVER_BACKLOG);
+        server.createContext("/", this::handleSend);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+
+        int port = server.getAddress().getPort();
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) URI.create("http://localhost:" + port + url.getFile()).toURL().openConnection())
+                .build();
+
+        FirebaseOptions options = FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.create(new AccessToken("test-token", new Date(System.currentTimeMillis() + 3_600_000))))
+                .setProjectId("test-project")
+                .setHttpTransport(transport)
+                .build();
+        firebaseApp = FirebaseApp.initializeApp(options, "fcm-fanout-test-" + UUID.randomUUID());
+
+        fanoutSender = new FCMFanoutSender(FirebaseMessaging.getInstance(firebaseApp), notificationSettingRepository, fcmTopicManager,
+                500, 4, 10, 3, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanoutSender.shutdown();
+        firebaseApp.delete();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("무효 토큰 - UNREGISTERED/SENDER_ID_MISMATCH 토큰은 배치 완료 즉시 토픽 해지 후 일괄 삭제")
+    void send_DeletesInvalidTokens() {
+        // Given
+        List<String> tokens = List.of("ok-1", "dead-1", "mismatch-1", "ok-2");
+
+        // When
+        FCMFanoutSender.FanoutResult result = fanoutSender.send(tokens, this::buildMessage);
+
+        // Then
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.failureCount()).isEqualTo(2);
+        assertThat(result.invalidTokenCount()).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationSettingRepository).deleteByFcmTokenIn(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder("dead-1", "mismatch-1");
+        verify(fcmTopicManager).unsubscribeTokens(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("INVALID_ARGUMENT와 UNREGISTERED 혼합 - UNREGISTERED 토큰만 삭제")
+    void send_MixedInvalidArgumentAndUnregistered_DeletesOnlyUnregistered() {
+        // Given
+        List<String> tokens = List.of("bad-1", "bad-2", "dead-1");
+
+        // When
+        FCMFanoutSender.FanoutResult result = fanoutSender.send(tokens, this::buildMessage);
+
+        // Then
+        assertThat(result.failureCount()).isEqualTo(3);
+        assertThat(result.invalidTokenCount()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationSettingRepository).deleteByFcmTokenIn(captor.capture());
+        assertThat(captor.getValue()).containsExactly("dead-1");
+    }
+
+    @Test
+    @DisplayName("일시적 오류 - 실패한 토큰만 백오프 후 재시도")
+    void send_RetriesTransientFailures() {
+        // Given
+        List<String> tokens = List.of("ok-1", "flaky-1");
+
+        // When
+        FCMFanoutSender.FanoutResult result = fanoutSender.send(tokens, this::buildMessage);
+
+        // Then
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.retryCount()).isEqualTo(1);
+        assertThat(requestCounts.get("flaky-1").get()).isEqualTo(2);
+        assertThat(requestCounts.get("ok-1").get()).isEqualTo(1);
+        verify(notificationSettingRepository, never()).deleteByFcmTokenIn(any());
+    }
+
+    @Test
+    @DisplayName("연결 오류 - 응답 없이 끊긴 토큰은 삭제하지 않고 재시도")
+    void send_RetriesConnectionFailures() {
+        // Given
+        List<String> tokens = List.of("ok-1", "reset-1");
+
+        // When
+        FCMFanoutSender.FanoutResult result = fanoutSender.send(tokens, this::buildMessage);
+
+        // Then
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.retryCount()).isEqualTo(1);
+        assertThat(requestCounts.get("reset-1").get()).isEqualTo(2);
+        verify(notificationSettingRepository, never()).deleteByFcmTokenIn(any());
+    }
+
+    @Test
+    @DisplayName("배치 전체 INVALID_ARGUMENT - 메시지 문제로 판단하여 토큰 삭제하지 않음")
+    void send_KeepsTokensWhenWholeBatchRejected() {
+        // Given
+        List<String> tokens = List.of("bad-1", "bad-2");
+
+        // When
+        FCMFanoutSender.FanoutResult result = fanoutSender.send(tokens, this::buildMessage);
+
+        // Then
+        assertThat(result.failureCount()).isEqualTo(2);
+        assertThat(result.invalidTokenCount()).isZero();
+        verify(notificationSettingRepository, never()).deleteByFcmTokenIn(any());
+    }
+
+    @Test
+    @DisplayName("배치 분할 - 멀티캐스트 500개 단위로 나눠 전부 발송")
+    void send_SplitsIntoMulticastBatches() {
+        // Given
+        List<String> tokens = IntStream.range(0, 1100).mapToObj(i -> "ok-" + i).toList();
+
+        // When
+        FCMFanoutSender.FanoutResult result = fanoutSender.send(tokens, this::buildMessage);
+
+        // Then
+        assertThat(result.successCount()).isEqualTo(1100);
+        assertThat(batchSizes).containsExactlyInAnyOrder(500, 500, 100);
+        assertThat(fanoutSender.getSentCount()).isEqualTo(1100);
+        assertThat(fanoutSender.getStats().successCount()).isEqualTo(1100);
+    }
+
+    private MulticastMessage buildMessage(List<String> tokens) {
+        batchSizes.add(tokens.size());
+        return MulticastMessage.builder()
+                .setNotification(Notification.builder().setTitle("title").setBody("body").build())
+                .addAllTokens(tokens)
+                .build();
+    }
+
+    /**
+     * 가짜 FCM v1 messages:send 엔드포인트
+     */
+    private void handleSend(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Matcher matcher = TOKEN_PATTERN.matcher(body);
+        String token = matcher.find() ? matcher.group(1) : "";
+        int count = requestCounts.computeIfAbsent(token, key -> new AtomicInteger()).incrementAndGet();
+
+        if (token.startsWith("reset-") && count == 1) {
+            exchange.close();
+        } else if (token.startsWith("dead-")) {
+            respond(exchange, 404, error(404, "NOT_FOUND", "UNREGISTERED"));
+        } else if (token.startsWith("mismatch-")) {
+            respond(exchange, 403, error(403, "PERMISSION_DENIED", "SENDER_ID_MISMATCH"));
+        } else if (token.startsWith("bad-")) {
+            respond(exchange, 400, error(400, "INVALID_ARGUMENT", "INVALID_ARGUMENT"));
+        } else if (token.startsWith("flaky-") && count == 1) {
+            respond(exchange, 429, error(429, "RESOURCE_EXHAUSTED", "QUOTA_EXCEEDED"));
+        } else {
+            respond(exchange, 200, "{\"name\":\"projects/test-project/messages/" + UUID.randomUUID() + "\"}");
+        }
+    }
+
+    private String error(int code, String status, String fcmErrorCode) {
+        return "{\"error\":{\"code\":" + code + ",\"message\":\"" + fcmErrorCode + "\",\"status\":\"" + status + "\"," +
+                "\"details\":[{\"@type\":\"type.googleapis.com/google.firebase.fcm.v1.FcmError\"," +
+                "\"errorCode\":\"" + fcmErrorCode + "\"}]}}";
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ssafy.bbatty.domain.notification.service;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.TopicManagementResponse;
+import com.ssafy.bbatty.domain.notification.repository.NotificationSettingRepository;
+import com.ssafy.bbatty.global.constants.RedisKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FCMTopicManagerTest {
+
+    @Mock
+    private FirebaseMessaging firebaseMessaging;
+
+    @Mock
+    private NotificationSettingRepository notificationSettingRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private FCMTopicManager topicManager;
+
+    @BeforeEach
+    void setUp() {
+        topicManager = new FCMTopicManager(firebaseMessaging, notificationSettingRepository, stringRedisTemplate, "team-");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("토픽 구독 - 1000개 단위로 나눠 팀 토픽에 일괄 구독")
+    void subscribe_SplitsIntoTopicBatches() throws Exception {
+        // Given
+        List<String> tokens = IntStream.range(0, 2500).mapToObj(i -> "token-" + i).toList();
+        when(firebaseMessaging.subscribeToTopic(anyList(), anyString())).thenReturn(mock(TopicManagementResponse.class));
+
+        // When
+        topicManager.subscribe(tokens, 3L);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging, times(3)).subscribeToTopic(captor.capture(), eq("team-3"));
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 해지 - 커밋 이후에만 FCM 호출")
+    void unsubscribe_RunsAfterCommit() throws Exception {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        when(firebaseMessaging.unsubscribeFromTopic(anyList(), anyString())).thenReturn(mock(TopicManagementResponse.class));
+
+        // When
+        topicManager.unsubscribe(List.of("old-token"), 5L);
+
+        // Then
+        verify(firebaseMessaging, never()).unsubscribeFromTopic(anyList(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("old-token"), "team-5");
+    }
+
+    @Test
+    @DisplayName("FCM 비활성화 - 구독/발송 요청은 예외 없이 생략")
+    void disabledFcm_SkipsSilently() {
+        // Given
+        FCMTopicManager disabled = new FCMTopicManager(null, notificationSettingRepository, stringRedisTemplate, "team-");
+
+        // When
+        disabled.subscribe(List.of("token"), 1L);
+        int synced = disabled.syncTeamTopic(1L);
+
+        // Then
+        assertThat(synced).isZero();
+        assertThat(disabled.teamTopic(1L)).isEqualTo("team-1");
+    }
+
+    @Test
+    @DisplayName("해지 실패 - 요청 실패 토큰과 일시 오류 토큰만 재시도 대기열에 적재")
+    void unsubscribe_QueuesFailedTokensForRetry() throws Exception {
+        // Given - old-2는 일시 오류, old-3은 이미 삭제된 토큰
+        List<TopicManagementResponse.Error> errors = List.of(
+                topicError(1, "internal-error"), topicError(2, "registration-token-not-registered"));
+        TopicManagementResponse response = mock(TopicManagementResponse.class);
+        when(response.getFailureCount()).thenReturn(2);
+        when(response.getErrors()).thenReturn(errors);
+        when(firebaseMessaging.unsubscribeFromTopic(List.of("old-1", "old-2", "old-3"), "team-5")).thenReturn(response);
+        when(firebaseMessaging.unsubscribeFromTopic(List.of("old-4"), "team-6"))
+                .thenThrow(mock(FirebaseMessagingException.class));
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+
+        // When
+        topicManager.unsubscribe(List.of("old-1", "old-2", "old-3"), 5L);
+        topicManager.unsubscribe(List.of("old-4"), 6L);
+
+        // Then
+        verify(listOperations).rightPushAll(RedisKey.NOTIFICATION_TOPIC_UNSUBSCRIBE_PENDING, List.of("5|old-2"));
+        verify(listOperations).rightPushAll(RedisKey.NOTIFICATION_TOPIC_UNSUBSCRIBE_PENDING, List.of("6|old-4"));
+    }
+
+    @Test
+    @DisplayName("해지 재시도 - 대기열 토큰을 팀별로 묶어 다시 해지")
+    void retryPendingUnsubscribes_GroupsByTeam() throws Exception {
+        // Given
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.leftPop(RedisKey.NOTIFICATION_TOPIC_UNSUBSCRIBE_PENDING, FCMTopicManager.MAX_TOPIC_TOKENS))
+                .thenReturn(List.of("5|old-1", "6|old-2", "5|old-3"))
+                .thenReturn(null);
+        when(firebaseMessaging.unsubscribeFromTopic(anyList(), anyString())).thenReturn(mock(TopicManagementResponse.class));
+
+        // When
+        int retried = topicManager.retryPendingUnsubscribes();
+
+        // Then
+        assertThat(retried).isEqualTo(3);
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("old-1", "old-3"), "team-5");
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("old-2"), "team-6");
+    }
+
+    @Test
+    @DisplayName("토큰 삭제 전 해지 - 삭제될 토큰을 소속 팀 토픽에서 해지")
+    void unsubscribeTokens_UnsubscribesFromEachTeamTopic() throws Exception {
+        // Given
+        when(notificationSettingRepository.findTeamTokensByFcmTokenIn(List.of("dead-1", "dead-2")))
+                .thenReturn(List.of(new Object[]{"dead-1", 3L}, new Object[]{"dead-2", 4L}));
+        when(firebaseMessaging.unsubscribeFromTopic(anyList(), anyString())).thenReturn(mock(TopicManagementResponse.class));
+
+        // When
+        topicManager.unsubscribeTokens(List.of("dead-1", "dead-2"));
+
+        // Then
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("dead-1"), "team-3");
+        verify(firebaseMessaging).unsubscribeFromTopic(List.of("dead-2"), "team-4");
+    }
+
+    @Test
+    @DisplayName("당일 인증자 제외 - 인증자 토큰을 날짜별 인증자 토픽에 구독하고 제외 조건 생성")
+    void subscribeAttendees_SubscribesToDailyAttendedTopic() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2025, 5, 1);
+        when(notificationSettingRepository.findFcmTokensByUserIdIn(List.of(7L))).thenReturn(List.of("attendee-token"));
+        when(firebaseMessaging.subscribeToTopic(anyList(), anyString())).thenReturn(mock(TopicManagementResponse.class));
+
+        // When
+        int subscribed = topicManager.subscribeAttendees(3L, date, Set.of(7L));
+        String condition = topicManager.teamConditionExcluding(3L, topicManager.attendedTopic(3L, date));
+
+        // Then
+        assertThat(subscribed).isEqualTo(1);
+        verify(firebaseMessaging).subscribeToTopic(List.of("attendee-token"), "team-3-attended-20250501");
+        assertThat(condition).isEqualTo("'team-3' in topics && !('team-3-attended-20250501' in topics)");
+    }
+
+    private TopicManagementResponse.Error topicError(int index, String reason) {
+        TopicManagementResponse.Error error = mock(TopicManagementResponse.Error.class);
+        lenient().when(error.getIndex()).thenReturn(index);
+        when(error.getReason()).thenReturn(reason);
+        return error;
+    }
+}
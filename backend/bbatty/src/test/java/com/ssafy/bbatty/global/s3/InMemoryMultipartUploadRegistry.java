@@ -0,0 +1,30 @@
+package com.ssafy.bbatty.global.s3;
+
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadSession;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 업로드 세션 저장소 (Redis 대체, 만료 없음)
+ */
+class InMemoryMultipartUploadRegistry implements MultipartUploadRegistry {
+
+    private final Map<String, MultipartUploadSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(String uploadId, MultipartUploadSession session, Duration ttl) {
+        sessions.put(uploadId, session);
+    }
+
+    @Override
+    public MultipartUploadSession find(String uploadId) {
+        return sessions.get(uploadId);
+    }
+
+    @Override
+    public void remove(String uploadId) {
+        sessions.remove(uploadId);
+    }
+}
@@ -0,0 +1,290 @@
+package com.ssafy.bbatty.global.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.MultipartUpload;
+import com.amazonaws.services.s3.model.MultipartUploadListing;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
+import com.ssafy.bbatty.global.constants.ErrorCode;
+import com.ssafy.bbatty.global.exception.ApiException;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadCompleteRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadCompleteRequest.UploadedPart;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateResponse;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadPartsRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadSession;
+import com.ssafy.bbatty.global.s3.dto.PresignedPartResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploadServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final long MAX_FILE_SIZE = 20L * 1024 * 1024;
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private InMemoryMultipartUploadRegistry multipartUploadRegistry;
+    private S3MultipartUploadService multipartUploadService;
+
+    @BeforeEach
+    void setUp() {
+        multipartUploadRegistry = new InMemoryMultipartUploadRegistry();
+        multipartUploadService = new S3MultipartUploadService(amazonS3, multipartUploadRegistry,
+                BUCKET, MAX_FILE_SIZE, PART_SIZE, 15, 60);
+    }
+
+    @Test
+    @DisplayName("업로드 시작 - 파트 크기 기준으로 파트 개수 안내")
+    void initiate_Success() throws Exception {
+        // Given
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(result);
+        when(amazonS3.getUrl(eq(BUCKET), anyString()))
+                .thenAnswer(invocation -> URI.create("https://test-bucket.s3.amazonaws.com/" + invocation.getArgument(1)).toURL());
+
+        // When
+        MultipartUploadInitiateResponse response = multipartUploadService.initiate("posts", USER_ID,
+                new MultipartUploadInitiateRequest("photo.JPG", "image/jpeg", 12L * 1024 * 1024));
+
+        // Then
+        assertThat(response.uploadId()).isEqualTo("upload-1");
+        assertThat(response.filePath()).startsWith("posts/").endsWith(".jpg");
+        assertThat(response.partSize()).isEqualTo(PART_SIZE);
+        assertThat(response.partCount()).isEqualTo(3);
+
+        ArgumentCaptor<InitiateMultipartUploadRequest> captor = ArgumentCaptor.forClass(InitiateMultipartUploadRequest.class);
+        verify(amazonS3).initiateMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getObjectMetadata().getContentType()).isEqualTo("image/jpeg");
+
+        // 업로드 ID별 소유자/경로/파트 수 기록
+        assertThat(multipartUploadRegistry.find("upload-1"))
+                .isEqualTo(new MultipartUploadSession(USER_ID, response.filePath(), 3));
+    }
+
+    @Test
+    @DisplayName("업로드 시작 실패 - 크기/형식/확장자 정책 위반 시 S3 호출 없음")
+    void initiate_PolicyViolation() {
+        assertThatThrownBy(() -> multipartUploadService.initiate("posts", USER_ID,
+                new MultipartUploadInitiateRequest("photo.jpg", "image/jpeg", MAX_FILE_SIZE + 1)))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED);
+
+        assertThatThrownBy(() -> multipartUploadService.initiate("posts", USER_ID,
+                new MultipartUploadInitiateRequest("movie.mp4", "video/mp4", 1024)))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_CONTENT_TYPE_NOT_ALLOWED);
+
+        assertThatThrownBy(() -> multipartUploadService.initiate("posts", USER_ID,
+                new MultipartUploadInitiateRequest("photo.png", "image/jpeg", 1024)))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_FILE_PATH);
+
+        verifyNoInteractions(amazonS3);
+    }
+
+    @Test
+    @DisplayName("파트 Presigned URL - 업로드 ID와 파트 번호가 서명된 PUT URL")
+    void presignParts_Success() {
+        // Given - 서명은 네트워크 없이 로컬에서 계산되므로 실제 클라이언트 사용
+        AmazonS3 signingClient = AmazonS3ClientBuilder.standard()
+                .withRegion("ap-northeast-2")
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test-access-key", "test-secret-key")))
+                .build();
+        S3MultipartUploadService service = new S3MultipartUploadService(signingClient, multipartUploadRegistry,
+                BUCKET, MAX_FILE_SIZE, PART_SIZE, 15, 60);
+        registerSession(USER_ID, "posts/file.jpg", 2);
+
+        // When
+        List<PresignedPartResponse> parts = service.presignParts("posts", USER_ID,
+                new MultipartUploadPartsRequest("posts/file.jpg", "upload-1", List.of(1, 2)));
+
+        // Then
+        assertThat(parts).extracting(PresignedPartResponse::partNumber).containsExactly(1, 2);
+        String query = URI.create(parts.get(1).uploadUrl()).getQuery();
+        assertThat(query).contains("uploadId=upload-1", "partNumber=2", "X-Amz-Signature=");
+    }
+
+    @Test
+    @DisplayName("파트 Presigned URL 실패 - 발급 경로 밖의 파일 또는 시작 시 안내한 파트 수 초과")
+    void presignParts_Rejected() {
+        registerSession(USER_ID, "posts/file.jpg", 3);
+
+        assertThatThrownBy(() -> multipartUploadService.presignParts("posts", USER_ID,
+                new MultipartUploadPartsRequest("profiles/file.jpg", "upload-1", List.of(1))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_PATH_SECURITY_VIOLATION);
+
+        assertThatThrownBy(() -> multipartUploadService.presignParts("posts", USER_ID,
+                new MultipartUploadPartsRequest("posts/../file.jpg", "upload-1", List.of(1))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_PATH_SECURITY_VIOLATION);
+
+        // 시작 시 3파트로 안내된 업로드
+        assertThatThrownBy(() -> multipartUploadService.presignParts("posts", USER_ID,
+                new MultipartUploadPartsRequest("posts/file.jpg", "upload-1", List.of(4))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+
+        assertThatThrownBy(() -> multipartUploadService.presignParts("posts", USER_ID,
+                new MultipartUploadPartsRequest("posts/file.jpg", "upload-1", List.of(1, 1, 2, 3))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+
+        verifyNoInteractions(amazonS3);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 업로드 ID로 파트 발급/완료/취소 요청 시 거부")
+    void otherUsersUpload_Forbidden() {
+        registerSession(USER_ID, "posts/file.jpg", 3);
+
+        assertThatThrownBy(() -> multipartUploadService.presignParts("posts", OTHER_USER_ID,
+                new MultipartUploadPartsRequest("posts/file.jpg", "upload-1", List.of(1))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FORBIDDEN);
+
+        assertThatThrownBy(() -> multipartUploadService.complete("posts", OTHER_USER_ID, new MultipartUploadCompleteRequest(
+                "posts/file.jpg", "upload-1", List.of(new UploadedPart(1, "etag-1")))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FORBIDDEN);
+
+        assertThatThrownBy(() -> multipartUploadService.abort("posts", OTHER_USER_ID, "posts/file.jpg", "upload-1"))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FORBIDDEN);
+
+        // 업로드 ID를 다른 경로와 조합한 요청도 거부
+        assertThatThrownBy(() -> multipartUploadService.abort("posts", USER_ID, "posts/other.jpg", "upload-1"))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FORBIDDEN);
+
+        verifyNoInteractions(amazonS3);
+        assertThat(multipartUploadRegistry.find("upload-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("업로드 완료 - 파트 번호 순으로 병합")
+    void complete_Success() throws Exception {
+        // Given
+        registerSession(USER_ID, "posts/file.jpg", 2);
+        when(amazonS3.listParts(any(ListPartsRequest.class))).thenReturn(partListing(PART_SIZE, 1024));
+        when(amazonS3.getUrl(BUCKET, "posts/file.jpg")).thenReturn(URI.create("https://test-bucket.s3.amazonaws.com/posts/file.jpg").toURL());
+
+        // When
+        String fileUrl = multipartUploadService.complete("posts", USER_ID, new MultipartUploadCompleteRequest(
+                "posts/file.jpg", "upload-1", List.of(new UploadedPart(2, "etag-2"), new UploadedPart(1, "etag-1"))));
+
+        // Then
+        assertThat(fileUrl).isEqualTo("https://test-bucket.s3.amazonaws.com/posts/file.jpg");
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getPartETags())
+                .extracting(partETag -> partETag.getPartNumber())
+                .containsExactly(1, 2);
+        assertThat(multipartUploadRegistry.find("upload-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("업로드 완료 실패 - 실제 업로드 크기가 제한 초과 시 업로드 취소")
+    void complete_SizeExceeded() {
+        // Given - 신고한 크기와 달리 파트를 더 크게 올린 경우
+        registerSession(USER_ID, "posts/file.jpg", 4);
+        when(amazonS3.listParts(any(ListPartsRequest.class)))
+                .thenReturn(partListing(PART_SIZE, PART_SIZE, PART_SIZE, PART_SIZE, 1));
+
+        // When & Then
+        assertThatThrownBy(() -> multipartUploadService.complete("posts", USER_ID, new MultipartUploadCompleteRequest(
+                "posts/file.jpg", "upload-1", List.of(new UploadedPart(1, "etag-1")))))
+                .isInstanceOf(ApiException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED);
+
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(multipartUploadRegistry.find("upload-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("미완료 업로드 정리 - 디렉토리 내 제한 시간이 지난 업로드만 취소")
+    void abortStaleUploads_AbortsOnlyExpired() {
+        // Given
+        registerSession(USER_ID, "posts/stale.jpg", 1);
+        MultipartUploadListing listing = new MultipartUploadListing();
+        listing.setMultipartUploads(List.of(
+                multipartUpload("posts/stale.jpg", "upload-1", Duration.ofMinutes(90)),
+                multipartUpload("posts/fresh.jpg", "upload-2", Duration.ofMinutes(10))));
+        listing.setTruncated(false);
+        when(amazonS3.listMultipartUploads(any(ListMultipartUploadsRequest.class))).thenReturn(listing);
+
+        // When
+        int aborted = multipartUploadService.abortStaleUploads("posts");
+
+        // Then
+        assertThat(aborted).isEqualTo(1);
+        ArgumentCaptor<ListMultipartUploadsRequest> listCaptor = ArgumentCaptor.forClass(ListMultipartUploadsRequest.class);
+        verify(amazonS3).listMultipartUploads(listCaptor.capture());
+        assertThat(listCaptor.getValue().getPrefix()).isEqualTo("posts/");
+        ArgumentCaptor<AbortMultipartUploadRequest> captor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(amazonS3).abortMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getUploadId()).isEqualTo("upload-1");
+        assertThat(multipartUploadRegistry.find("upload-1")).isNull();
+    }
+
+    private void registerSession(Long userId, String filePath, int partCount) {
+        multipartUploadRegistry.register("upload-1", new MultipartUploadSession(userId, filePath, partCount), Duration.ofHours(1));
+    }
+
+    private MultipartUpload multipartUpload(String key, String uploadId, Duration age) {
+        MultipartUpload upload = new MultipartUpload();
+        upload.setKey(key);
+        upload.setUploadId(uploadId);
+        upload.setInitiated(new Date(System.currentTimeMillis() - age.toMillis()));
+        return upload;
+    }
+
+    private PartListing partListing(long... partSizes) {
+        List<PartSummary> parts = new ArrayList<>();
+        for (int i = 0; i < partSizes.length; i++) {
+            PartSummary part = new PartSummary();
+            part.setPartNumber(i + 1);
+            part.setSize(partSizes[i]);
+            parts.add(part);
+        }
+        PartListing listing = new PartListing();
+        listing.setParts(parts);
+        listing.setTruncated(false);
+        return listing;
+    }
+}
@@ -0,0 +1,167 @@
+package com.ssafy.bbatty.global.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadCompleteRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadCompleteRequest.UploadedPart;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateRequest;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadInitiateResponse;
+import com.ssafy.bbatty.global.s3.dto.MultipartUploadPartsRequest;
+import com.ssafy.bbatty.global.s3.dto.PresignedPartResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * 이미지 업로드 처리량 비교
+ * - proxied: 기존 S3Service.uploadFile 경로 재현 (서버가 요청 본문 전체를 받아 putObject)
+ * - direct: 멀티파트 Presigned URL로 클라이언트가 파트를 병렬 업로드 (서버는 시작/완료만 처리)
+ * S3 호환 저장소(MinIO 등)가 필요하므로 환경 변수가 있을 때만 실행
+ * 실행: S3_BENCHMARK_ENDPOINT=http://localhost:9000 S3_BENCHMARK_BUCKET=bbatty
+ *       S3_BENCHMARK_ACCESS_KEY=... S3_BENCHMARK_SECRET_KEY=... ./gradlew test -Pbenchmark --tests '*S3UploadThroughputBenchmark'
+ */
+@EnabledIfEnvironmentVariable(named = "S3_BENCHMARK_ENDPOINT", matches = ".+")
+class S3UploadThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(S3UploadThroughputBenchmark.class);
+
+    private static final Long USER_ID = 1L;
+    private static final int FILE_SIZE = 20 * 1024 * 1024;
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final int CONCURRENT_UPLOADS = 8;
+    private static final int ROUNDS = 3;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @Tag("benchmark")
+    void runBenchmark() throws Exception {
+        String bucket = System.getenv("S3_BENCHMARK_BUCKET");
+        AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        System.getenv("S3_BENCHMARK_ENDPOINT"), "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(
+                        System.getenv("S3_BENCHMARK_ACCESS_KEY"), System.getenv("S3_BENCHMARK_SECRET_KEY"))))
+                .build();
+        S3MultipartUploadService multipartUploadService =
+                new S3MultipartUploadService(amazonS3, new InMemoryMultipartUploadRegistry(), bucket, FILE_SIZE, PART_SIZE, 15, 60);
+
+        byte[] file = new byte[FILE_SIZE];
+        Arrays.fill(file, (byte) 7);
+
+        HttpServer proxy = startProxy(amazonS3, bucket);
+        URI proxyUri = URI.create("http://localhost:" + proxy.getAddress().getPort() + "/upload");
+        try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_UPLOADS * 4)) {
+            for (int round = 0; round < ROUNDS; round++) {
+                report("proxied", measure(clients, () -> uploadThroughProxy(proxyUri, file)));
+                report("direct", measure(clients, () -> uploadDirect(clients, multipartUploadService, file)));
+            }
+        } finally {
+            proxy.stop(0);
+        }
+    }
+
+    /**
+     * 기존 서버 경유 업로드 재현: 요청 본문을 모두 받은 뒤 putObject
+     */
+    private HttpServer startProxy(AmazonS3 amazonS3, String bucket) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(CONCURRENT_UPLOADS));
+        server.createContext("/upload", exchange -> {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(body.length);
+            metadata.setContentType("image/jpeg");
+            amazonS3.putObject(bucket, "posts/" + UUID.randomUUID() + ".jpg", new ByteArrayInputStream(body), metadata);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private void uploadThroughProxy(URI proxyUri, byte[] file) throws Exception {
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(proxyUri).POST(HttpRequest.BodyPublishers.ofByteArray(file)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("proxied upload failed: " + response.statusCode());
+        }
+    }
+
+    private void uploadDirect(ExecutorService clients, S3MultipartUploadService service, byte[] file) throws Exception {
+        MultipartUploadInitiateResponse upload = service.initiate("posts", USER_ID,
+                new MultipartUploadInitiateRequest("photo.jpg", "image/jpeg", file.length));
+        List<PresignedPartResponse> presignedParts = service.presignParts("posts", USER_ID, new MultipartUploadPartsRequest(
+                upload.filePath(), upload.uploadId(), IntStream.rangeClosed(1, upload.partCount()).boxed().toList()));
+
+        List<Future<UploadedPart>> futures = new ArrayList<>();
+        for (PresignedPartResponse part : presignedParts) {
+            futures.add(clients.submit(() -> {
+                int from = (part.partNumber() - 1) * PART_SIZE;
+                int to = Math.min(from + PART_SIZE, file.length);
+                HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(part.uploadUrl()))
+                                .PUT(HttpRequest.BodyPublishers.ofByteArray(file, from, to - from)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                String eTag = response.headers().firstValue("ETag").orElseThrow();
+                return new UploadedPart(part.partNumber(), eTag);
+            }));
+        }
+
+        List<UploadedPart> uploadedParts = new ArrayList<>();
+        for (Future<UploadedPart> future : futures) {
+            uploadedParts.add(future.get());
+        }
+        service.complete("posts", USER_ID, new MultipartUploadCompleteRequest(upload.filePath(), upload.uploadId(), uploadedParts));
+    }
+
+    private long measure(ExecutorService clients, UploadTask task) throws Exception {
+        long start = System.nanoTime();
+        List<Future<Object>> uploads = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+            uploads.add(clients.submit(() -> {
+                task.run();
+                return null;
+            }));
+        }
+        for (Future<Object> upload : uploads) {
+            upload.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void report(String label, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double megabytes = (double) FILE_SIZE * CONCURRENT_UPLOADS / (1024 * 1024);
+        log.info("[{}] {} x {}MB in {}s = {} MB/s", label, CONCURRENT_UPLOADS, FILE_SIZE / (1024 * 1024),
+                String.format("%.2f", seconds), String.format("%.1f", megabytes / seconds));
+    }
+
+    @FunctionalInterface
+    private interface UploadTask {
+        void run() throws Exception;
+    }
+}
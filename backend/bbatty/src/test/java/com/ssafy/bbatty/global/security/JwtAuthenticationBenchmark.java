@@ -0,0 +1,97 @@
+package com.ssafy.bbatty.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 토큰 처리 비용 벤치마크
+ * - legacy: 기존 필터 경로 (검증 + getter 4회, 호출마다 파서 생성 및 서명 재검증)
+ * - parseOnce: 사전 생성 파서로 서명 1회 검증 후 클레임에서 UserPrincipal 생성
+ * - parseOnceWithCache: 토큰 해시 기반 인증 캐시 적중
+ * Redis 블랙리스트 조회는 변경 전후 동일하므로 측정에서 제외
+ * 실행: ./gradlew test -Pbenchmark --tests '*JwtAuthenticationBenchmark'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "bbatty-benchmark-secret-key-for-hmac-sha-256-signing";
+    private static final String ISSUER = "bbatty";
+
+    private SecretKey secretKey;
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationCache authenticationCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        jwtProvider = new JwtProvider(SECRET, ISSUER, 1, 30);
+        authenticationCache = new JwtAuthenticationCache(true, 10000);
+        token = jwtProvider.createAccessToken(1L, 27, "MALE", 3L);
+
+        // 캐시 적중 경로 측정을 위해 미리 적재
+        Claims claims = jwtProvider.getAccessTokenClaims(token);
+        authenticationCache.put(token, UserPrincipal.from(claims), claims.getExpiration());
+    }
+
+    @Benchmark
+    public UserPrincipal legacy() {
+        if (legacyClaims(token).get("tokenType") != null) {
+            return null;
+        }
+        Long userId = Long.valueOf(legacyClaims(token).getSubject());
+        int age = legacyClaims(token).get("age", Integer.class);
+        String gender = legacyClaims(token).get("gender", String.class);
+        Long teamId = legacyClaims(token).get("teamId", Long.class);
+        return new UserPrincipal(userId, age, gender, teamId);
+    }
+
+    @Benchmark
+    public UserPrincipal parseOnce() {
+        Claims claims = jwtProvider.getAccessTokenClaims(token);
+        return claims != null ? UserPrincipal.from(claims) : null;
+    }
+
+    @Benchmark
+    public UserPrincipal parseOnceWithCache() {
+        UserPrincipal cached = authenticationCache.get(token);
+        return cached != null ? cached : parseOnce();
+    }
+
+    /**
+     * 기존 JwtProvider.getClaims 동작 재현 (호출마다 파서 생성)
+     */
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .requireIssuer(ISSUER)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void runBenchmark() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,144 @@
+const WebSocket = require('ws');
+const fs = require('fs');
+
+/**
+ * 🚪 동시 입장 부하 테스트
+ * 동시에 N명이 입장할 때 CONNECTION_SUCCESS 수신까지의 지연(p50/p95/p99)과 성공률 측정
+ *
+ * 가상 스레드 모드 비교 방법:
+ *   1) CHAT_VIRTUAL_THREADS_ENABLED=false 로 서버 기동 후
+ *      node chat-join-load-test.js platform
+ *   2) CHAT_VIRTUAL_THREADS_ENABLED=true 로 서버 재기동 후
+ *      node chat-join-load-test.js virtual
+ *   3) node chat-join-load-test.js compare platform virtual
+ */
+class ChatJoinLoadTest {
+    constructor(config = {}) {
+        this.serverUrl = config.serverUrl || process.env.CHAT_SERVER_URL || 'ws://localhost:8084';
+        this.connectTimeoutMs = config.connectTimeoutMs || 30000;
+        this.scenarios = config.scenarios || [100, 250, 500, 1000, 2000];
+    }
+
+    async run(label) {
+        console.log('🚪 ==========================================');
+        console.log(`    동시 입장 부하 테스트 시작 [${label}]`);
+        console.log('🚪 ==========================================');
+        console.log(`🎯 Target: ${this.serverUrl}\n`);
+
+        const results = [];
+        for (const concurrency of this.scenarios) {
+            console.log(`\n📈 동시 입장 ${concurrency}명`);
+            const result = await this.runScenario(concurrency);
+            results.push(result);
+            this.printResult(result);
+
+            console.log('⏳ 다음 단계 준비 (10초 대기)...');
+            await new Promise(resolve => setTimeout(resolve, 10000));
+        }
+
+        const file = `chat-join-result-${label}.json`;
+        fs.writeFileSync(file, JSON.stringify({ label, serverUrl: this.serverUrl, results }, null, 2));
+        console.log(`\n💾 결과 저장: ${file}`);
+    }
+
+    async runScenario(concurrency) {
+        const timestamp = Date.now();
+        const sockets = [];
+
+        // 모든 연결을 한 번에 시작해 서버의 동시 입장 처리 용량을 측정
+        const attempts = [];
+        for (let i = 0; i < concurrency; i++) {
+            attempts.push(this.join(i, timestamp, sockets));
+        }
+        const outcomes = await Promise.all(attempts);
+
+        sockets.forEach(ws => {
+            if (ws.readyState === WebSocket.OPEN) {
+                ws.close();
+            }
+        });
+
+        const latencies = outcomes.filter(o => o.success).map(o => o.latency).sort((a, b) => a - b);
+        return {
+            concurrency,
+            succeeded: latencies.length,
+            failed: concurrency - latencies.length,
+            p50: this.percentile(latencies, 0.50),
+            p95: this.percentile(latencies, 0.95),
+            p99: this.percentile(latencies, 0.99),
+            max: latencies.length > 0 ? latencies[latencies.length - 1] : 0
+        };
+    }
+
+    join(id, timestamp, sockets) {
+        return new Promise(resolve => {
+            const startedAt = Date.now();
+            const ws = new WebSocket(`${this.serverUrl}/ws/match-chat?sessionToken=test-join-${id}-${timestamp}&matchId=match_join`);
+            sockets.push(ws);
+
+            const timeout = setTimeout(() => finish(false), this.connectTimeoutMs);
+            let done = false;
+            const finish = (success) => {
+                if (done) return;
+                done = true;
+                clearTimeout(timeout);
+                resolve({ success, latency: Date.now() - startedAt });
+            };
+
+            ws.on('message', (data) => {
+                try {
+                    if (JSON.parse(data.toString()).type === 'CONNECTION_SUCCESS') {
+                        finish(true);
+                    }
+                } catch (e) {
+                    // 히스토리 등 JSON이 아닌 메시지는 무시
+                }
+            });
+            ws.on('error', () => finish(false));
+            ws.on('close', () => finish(false));
+        });
+    }
+
+    percentile(sorted, p) {
+        if (sorted.length === 0) return 0;
+        return sorted[Math.min(sorted.length - 1, Math.ceil(sorted.length * p) - 1)];
+    }
+
+    printResult(r) {
+        console.log(`✅ 성공 ${r.succeeded} / ❌ 실패 ${r.failed}`);
+        console.log(`⏱️  p50 ${r.p50}ms | p95 ${r.p95}ms | p99 ${r.p99}ms | max ${r.max}ms`);
+    }
+
+    static compare(baseLabel, targetLabel) {
+        const base = JSON.parse(fs.readFileSync(`chat-join-result-${baseLabel}.json`));
+        const target = JSON.parse(fs.readFileSync(`chat-join-result-${targetLabel}.json`));
+
+        console.log(`\n📊 동시 입장 비교: ${baseLabel} vs ${targetLabel}\n`);
+        console.log('┌────────┬──────────────────┬──────────────────┬──────────────────┐');
+        console.log('│ 동시입장│   성공률(%)       │    p95(ms)       │    p99(ms)       │');
+        console.log('├────────┼──────────────────┼──────────────────┼──────────────────┤');
+
+        base.results.forEach((b, i) => {
+            const t = target.results[i];
+            if (!t) return;
+            const rate = r => ((r.succeeded / r.concurrency) * 100).toFixed(1);
+            const cell = (x, y) => `${x} → ${y}`.padStart(16);
+            console.log(`│ ${String(b.concurrency).padStart(6)} │ ${cell(rate(b), rate(t))} │ ${cell(b.p95, t.p95)} │ ${cell(b.p99, t.p99)} │`);
+        });
+
+        console.log('└────────┴──────────────────┴──────────────────┴──────────────────┘');
+    }
+}
+
+// 메인 실행
+if (require.main === module) {
+    const [mode, ...args] = process.argv.slice(2);
+
+    if (mode === 'compare') {
+        ChatJoinLoadTest.compare(args[0] || 'platform', args[1] || 'virtual');
+    } else {
+        new ChatJoinLoadTest().run(mode || 'platform')
+            .then(() => console.log('🎉 동시 입장 부하 테스트가 완료되었습니다!'))
+            .catch(error => console.error('❌ 테스트 실행 중 오류 발생:', error.message));
+    }
+}
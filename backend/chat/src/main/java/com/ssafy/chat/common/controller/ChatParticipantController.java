@@ -0,0 +1,38 @@
+package com.ssafy.chat.common.controller;
+
+import com.ssafy.chat.common.service.ChatParticipantCountService;
+import com.ssafy.chat.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 채팅방 참여자 수 조회 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/chat/games")
+@RequiredArgsConstructor
+@Slf4j
+public class ChatParticipantController {
+
+    private final ChatParticipantCountService participantCountService;
+
+    /**
+     * 경기의 모든 채팅방 참여자 수 조회
+     */
+    @GetMapping("/{gameId}/participants")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getParticipantCounts(@PathVariable Long gameId) {
+        Map<String, Long> counts = participantCountService.getParticipantCounts(gameId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("gameId", gameId);
+        result.put("rooms", counts);
+        result.put("totalCount", counts.values().stream().mapToLong(Long::longValue).sum());
+        result.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+}
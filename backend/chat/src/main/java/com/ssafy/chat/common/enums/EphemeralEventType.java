@@ -0,0 +1,37 @@
+package com.ssafy.chat.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 휘발성 채팅 이벤트 타입
+ * Kafka/히스토리에 저장하지 않고 채팅방 단위로 짧은 구간 동안 합산하여 전달
+ */
+@Getter
+public enum EphemeralEventType {
+    /** 응원 탭 */
+    CHEER("cheer", "응원"),
+
+    /** 입력 중 표시 */
+    TYPING("typing", "입력 중");
+
+    private final String code;
+    private final String description;
+
+    EphemeralEventType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    /**
+     * 코드로 EphemeralEventType 찾기
+     * @return 해당 타입 (휘발성 이벤트가 아니면 null)
+     */
+    public static EphemeralEventType fromCodeOrNull(String code) {
+        for (EphemeralEventType type : values()) {
+            if (type.code.equals(code)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -3,10 +3,13 @@ package com.ssafy.chat.common.handler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.chat.common.dto.SessionInfo;
 import com.ssafy.chat.common.dto.SessionTokenInfo;
+import com.ssafy.chat.common.service.ChatEphemeralEventService;
+import com.ssafy.chat.common.service.ChatParticipantCountService;
 import com.ssafy.chat.common.service.DistributedSessionManagerService;
 import com.ssafy.chat.common.service.SessionTokenService;
 import com.ssafy.chat.common.util.KSTTimeUtil;
 import com.ssafy.chat.common.util.TestModeUtil;
+import com.ssafy.chat.common.enums.EphemeralEventType;
 import com.ssafy.chat.common.enums.MessageType;
 import com.ssafy.chat.match.service.MatchChatService;
 import lombok.RequiredArgsConstructor;
@@ -30,8 +33,13 @@ import java.util.Map;
 @Slf4j
 public class ChatWebSocketHandler extends TextWebSocketHandler {
     
+    /** 연결 시 검증한 토큰 정보 (세션 속성) */
+    private static final String TOKEN_INFO_ATTRIBUTE = "chatTokenInfo";
+    
     private final SessionTokenService sessionTokenService;
     private final DistributedSessionManagerService sessionManager;
+    private final ChatParticipantCountService participantCountService;
+    private final ChatEphemeralEventService ephemeralEventService;
     private final ObjectMapper objectMapper;
     private final MatchChatService matchChatService;
     private final TestModeUtil testModeUtil;
@@ -66,11 +74,13 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
                 }
             }
             
-            // 3. 세션 정보 생성
+            // 3. 세션 정보 생성 (검증된 토큰 정보는 세션에 보관하여 휘발성 이벤트에서 재사용)
+            session.getAttributes().put(TOKEN_INFO_ATTRIBUTE, tokenInfo);
             SessionInfo sessionInfo = createSessionInfo(tokenInfo, session);
             
             // 4. 분산 세션 매니저에 등록
             sessionManager.registerSession(tokenInfo.getRoomId(), session, sessionInfo);
+            participantCountService.recordJoin(tokenInfo.getGameId(), tokenInfo.getRoomId());
             
             // 5. 매치 채팅인 경우 히스토리 로드를 위해 매치 채팅 서비스에도 세션 등록
             if (tokenInfo.isMatchRoom()) {
@@ -108,6 +118,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
                 if (tokenInfo != null) {
                     // 분산 세션 매니저에서 해제
                     sessionManager.unregisterSession(tokenInfo.getRoomId(), session.getId());
+                    participantCountService.recordLeave(tokenInfo.getGameId(), tokenInfo.getRoomId());
                     
                     // 매치 채팅인 경우 매치 채팅 서비스에서도 세션 해제
                     if (tokenInfo.isMatchRoom()) {
@@ -133,6 +144,16 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             String payload = message.getPayload();
             log.debug("메시지 수신 - sessionId: {}, payload: {}", session.getId(), payload);
             
+            // 응원/입력 중 등 휘발성 이벤트는 경량 채널로 처리 (Kafka/히스토리 미저장)
+            // 연결 시 검증한 토큰 정보를 사용하여 이벤트마다 Redis 토큰 조회를 하지 않음
+            EphemeralEventType ephemeralType = extractEphemeralEventType(payload);
+            if (ephemeralType != null
+                    && session.getAttributes().get(TOKEN_INFO_ATTRIBUTE) instanceof SessionTokenInfo connectedInfo) {
+                ephemeralEventService.publish(connectedInfo.getRoomId(), ephemeralType,
+                        connectedInfo.getUserId(), connectedInfo.getNickname());
+                return;
+            }
+            
             // 세션 토큰으로 방 정보 확인
             String sessionToken = extractSessionToken(session);
             if (sessionToken == null) {
@@ -156,6 +177,12 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
                 }
             }
             
+            if (ephemeralType != null) {
+                ephemeralEventService.publish(tokenInfo.getRoomId(), ephemeralType,
+                        tokenInfo.getUserId(), tokenInfo.getNickname());
+                return;
+            }
+            
             // 단순 텍스트 메시지 처리
             handleChatMessage(session, tokenInfo, payload);
             
@@ -209,6 +236,24 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         return null;
     }
     
+    /**
+     * 휘발성 이벤트 타입 추출
+     * {"type":"cheer"} 형태의 JSON 페이로드만 휘발성 이벤트로 취급
+     * @return 이벤트 타입 (일반 채팅 메시지면 null)
+     */
+    private EphemeralEventType extractEphemeralEventType(String payload) {
+        if (payload == null || !payload.trim().startsWith("{")) {
+            return null;
+        }
+        
+        try {
+            Object type = objectMapper.readValue(payload, Map.class).get("type");
+            return type != null ? EphemeralEventType.fromCodeOrNull(type.toString()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
     /**
      * SessionInfo 생성
      */
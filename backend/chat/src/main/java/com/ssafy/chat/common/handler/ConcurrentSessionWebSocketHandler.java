@@ -0,0 +1,62 @@
+package com.ssafy.chat.common.handler;
+
+import com.ssafy.chat.config.ChatConfiguration;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 동시 전송 안전 WebSocket 핸들러 데코레이터
+ * 연결 시 세션을 ConcurrentWebSocketSessionDecorator로 감싸 하위 핸들러와 세션 매니저가
+ * 모두 같은 세션 인스턴스를 사용하도록 보장 (가상 스레드 모드에서만 WebSocketConfig가 적용)
+ * - 브로드캐스트, 히스토리 전송, 에러 응답이 여러 스레드에서 동시에 같은 세션으로 전송되어도
+ *   synchronized 없이 ReentrantLock + 전송 버퍼로 직렬화 (가상 스레드 pinning 방지)
+ * - 느린 클라이언트는 전송 시간/버퍼 한도 초과 시 종료되어 다른 세션 전송을 막지 않음
+ */
+public class ConcurrentSessionWebSocketHandler extends WebSocketHandlerDecorator {
+
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+
+    // 원본 세션 ID -> 데코레이트된 세션
+    private final Map<String, WebSocketSession> decoratedSessions = new ConcurrentHashMap<>();
+
+    public ConcurrentSessionWebSocketHandler(WebSocketHandler delegate, ChatConfiguration chatConfiguration) {
+        super(delegate);
+        this.sendTimeLimitMs = (int) chatConfiguration.getSessionSendTimeLimit().toMillis();
+        this.sendBufferSizeLimit = chatConfiguration.getSessionSendBufferSizeLimit();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferSizeLimit);
+        decoratedSessions.put(session.getId(), decorated);
+        super.afterConnectionEstablished(decorated);
+    }
+
+    @Override
+    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        super.handleMessage(decorated(session), message);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        super.handleTransportError(decorated(session), exception);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        WebSocketSession decorated = decoratedSessions.remove(session.getId());
+        super.afterConnectionClosed(decorated != null ? decorated : session, closeStatus);
+    }
+
+    private WebSocketSession decorated(WebSocketSession session) {
+        return decoratedSessions.getOrDefault(session.getId(), session);
+    }
+}
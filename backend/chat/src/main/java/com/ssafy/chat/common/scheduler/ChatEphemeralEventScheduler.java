@@ -0,0 +1,33 @@
+package com.ssafy.chat.common.scheduler;
+
+import com.ssafy.chat.common.service.ChatEphemeralEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 휘발성 채팅 이벤트 집계 프레임 전송 스케줄러
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatEphemeralEventScheduler {
+
+    private final ChatEphemeralEventService ephemeralEventService;
+
+    /**
+     * 집계 구간마다 채팅방별 프레임 전송 (기본: 200ms)
+     */
+    @Scheduled(fixedDelayString = "${chat.ephemeral-event-window-ms:200}")
+    public void flushEphemeralEvents() {
+        try {
+            int flushedRooms = ephemeralEventService.flush();
+            if (flushedRooms > 0) {
+                log.debug("휘발성 이벤트 집계 프레임 전송 - 채팅방 수: {}", flushedRooms);
+            }
+        } catch (Exception e) {
+            log.error("휘발성 이벤트 집계 프레임 전송 실패", e);
+        }
+    }
+}
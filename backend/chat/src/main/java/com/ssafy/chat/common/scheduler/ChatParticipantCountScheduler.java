@@ -0,0 +1,61 @@
+package com.ssafy.chat.common.scheduler;
+
+import com.ssafy.chat.common.service.ChatParticipantCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 채팅방 참여자 수 집계 스케줄러
+ * 로컬 델타 일괄 반영 및 세션 Set 기준 정합성 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatParticipantCountScheduler {
+
+    private final ChatParticipantCountService participantCountService;
+
+    /**
+     * 누적된 입장/퇴장 델타 일괄 반영 (1초마다)
+     */
+    @Scheduled(fixedDelay = 1000, initialDelay = 1000)
+    public void flushParticipantDeltas() {
+        try {
+            participantCountService.flushDeltas();
+        } catch (Exception e) {
+            log.error("참여자 수 델타 반영 스케줄러 실행 실패", e);
+        }
+    }
+
+    /**
+     * 세션 Set 기준 참여자 수 정합성 보정 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reconcileParticipantCounts() {
+        try {
+            int reconciledRooms = participantCountService.reconcile();
+            if (reconciledRooms > 0) {
+                log.info("참여자 수 정합성 보정 완료 - 보정된 채팅방 수: {}", reconciledRooms);
+            }
+        } catch (Exception e) {
+            log.error("참여자 수 정합성 보정 스케줄러 실행 실패", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 미반영 델타 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            int flushedRooms = participantCountService.flushDeltas();
+            log.info("애플리케이션 종료 - 참여자 수 델타 반영 완료: {}개 채팅방", flushedRooms);
+        } catch (Exception e) {
+            log.error("애플리케이션 종료 시 참여자 수 델타 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ssafy.chat.common.service;
+
+import com.ssafy.chat.common.enums.EphemeralEventType;
+
+/**
+ * 휘발성 채팅 이벤트 채널 서비스 인터페이스
+ * 응원 탭, 입력 중 표시 등 저가치 이벤트를 채팅방별로 짧은 구간 동안 합산하여
+ * 하나의 집계 프레임으로 전달 (Kafka 및 히스토리에 저장하지 않음)
+ */
+public interface ChatEphemeralEventService {
+
+    /**
+     * 휘발성 이벤트 누적
+     * @param roomId 채팅방 ID
+     * @param type 이벤트 타입
+     * @param userId 사용자 ID
+     * @param nickname 사용자 닉네임
+     */
+    void publish(String roomId, EphemeralEventType type, Long userId, String nickname);
+
+    /**
+     * 누적된 이벤트를 채팅방별 집계 프레임으로 전송
+     * @return 전송된 채팅방 수
+     */
+    int flush();
+}
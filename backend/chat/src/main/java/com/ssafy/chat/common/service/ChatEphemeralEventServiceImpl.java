@@ -0,0 +1,299 @@
+package com.ssafy.chat.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.chat.common.enums.EphemeralEventType;
+import com.ssafy.chat.common.util.KSTTimeUtil;
+import com.ssafy.chat.config.ChatConfiguration;
+import com.ssafy.chat.global.constants.ChatRedisKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 휘발성 채팅 이벤트 채널 서비스 구현체
+ * - 인스턴스 로컬에서는 채팅방별 집계 구간(window)을 ConcurrentHashMap.compute로 누적
+ * - 구간마다 로컬 집계를 채팅방별 Redis Hash(chat:ephemeral:window:{roomId})에 파이프라인 1회로 합산
+ *   (횟수는 HINCRBY, 참여 사용자는 HSETNX)
+ * - 구간당 전송 락을 잡은 인스턴스 1개만 Hash를 꺼내(HGETALL + DEL 원자 실행) 채팅방마다 집계 프레임 1개 브로드캐스트
+ *   → 채팅 인스턴스 수와 관계없이 채팅방당 구간마다 프레임 1개 ("37명이 응원했어요")
+ * 집계값은 HINCRBY로 관리되므로 직렬화기를 거치지 않고 원시 문자열로 읽고 쓴다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatEphemeralEventServiceImpl implements ChatEphemeralEventService {
+
+    private final DistributedSessionManagerService distributedSessionManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatConfiguration chatConfiguration;
+    private final ObjectMapper objectMapper;
+
+    /** 입력 중 표시에 포함할 최대 닉네임 수 */
+    private static final int MAX_TYPING_NICKNAMES = 3;
+
+    /** 한 번의 전송에서 꺼낼 최대 채팅방 수 (남은 채팅방은 다음 구간에 전송) */
+    private static final int MAX_FLUSH_ROOMS = 1000;
+
+    /** 전송되지 못한 집계 구간 보관 시간 (집계 구간 대비 배수) */
+    private static final int WINDOW_TTL_MULTIPLIER = 50;
+
+    private static final String COUNT_FIELD_PREFIX = "c:";
+    private static final String USER_FIELD_PREFIX = "u:";
+
+    /**
+     * 집계 구간 꺼내기: HGETALL 후 DEL (사이에 합산된 다른 인스턴스 이벤트 유실 방지)
+     * KEYS[1] = 채팅방 집계 구간 Hash
+     */
+    private static final byte[] TAKE_WINDOW_SCRIPT = toBytes(
+            "local data = redis.call('HGETALL', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return data");
+
+    // 채팅방별 현재 집계 구간 (roomId -> window)
+    private final Map<String, RoomWindow> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String roomId, EphemeralEventType type, Long userId, String nickname) {
+        if (roomId == null || type == null) {
+            return;
+        }
+
+        // compute는 키 단위로 원자적이므로 flush의 remove와 경합해도 이벤트가 유실되지 않음
+        windows.compute(roomId, (key, window) -> {
+            RoomWindow target = window != null ? window : new RoomWindow();
+            target.add(type, userId, nickname);
+            return target;
+        });
+    }
+
+    @Override
+    public int flush() {
+        mergeLocalWindows();
+
+        // 구간당 한 인스턴스만 전송
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(ChatRedisKey.CHAT_EPHEMERAL_FLUSH_LOCK,
+                chatConfiguration.getOrGenerateInstanceId(),
+                Duration.ofMillis(chatConfiguration.getEphemeralEventWindowMs()));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return 0;
+        }
+
+        Map<String, Map<String, String>> roomWindows = takeRoomWindows();
+
+        int flushedRooms = 0;
+        for (Map.Entry<String, Map<String, String>> entry : roomWindows.entrySet()) {
+            String roomId = entry.getKey();
+            try {
+                List<Map<String, Object>> events = createEvents(entry.getValue());
+                if (events.isEmpty()) {
+                    continue;
+                }
+                String frame = objectMapper.writeValueAsString(createAggregatedFrame(roomId, events));
+                distributedSessionManager.broadcastToRoom(roomId, frame, null);
+                flushedRooms++;
+            } catch (Exception e) {
+                log.error("휘발성 이벤트 집계 프레임 전송 실패 - roomId: {}", roomId, e);
+            }
+        }
+
+        return flushedRooms;
+    }
+
+    // ===========================================
+    // Redis 합산 및 꺼내기
+    // ===========================================
+
+    /**
+     * 로컬 집계 구간을 채팅방별 Redis Hash에 파이프라인 1회로 합산
+     * (휘발성 이벤트이므로 실패 시 재시도하지 않고 해당 구간은 버림)
+     */
+    private void mergeLocalWindows() {
+        if (windows.isEmpty()) {
+            return;
+        }
+
+        Map<String, RoomWindow> snapshot = new HashMap<>();
+        for (String roomId : new ArrayList<>(windows.keySet())) {
+            RoomWindow window = windows.remove(roomId);
+            if (window != null && !window.isEmpty()) {
+                snapshot.put(roomId, window);
+            }
+        }
+
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        long ttlMillis = chatConfiguration.getEphemeralEventWindowMs() * WINDOW_TTL_MULTIPLIER;
+        byte[] roomsKey = toBytes(ChatRedisKey.CHAT_EPHEMERAL_ROOMS);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, RoomWindow> entry : snapshot.entrySet()) {
+                    byte[] windowKey = toBytes(ChatRedisKey.getEphemeralWindowKey(entry.getKey()));
+
+                    for (Map.Entry<EphemeralEventType, EventAggregate> aggregate : entry.getValue().aggregates.entrySet()) {
+                        String code = aggregate.getKey().getCode();
+                        connection.hashCommands().hIncrBy(windowKey, toBytes(COUNT_FIELD_PREFIX + code), aggregate.getValue().count);
+                        for (Map.Entry<Long, String> user : aggregate.getValue().users.entrySet()) {
+                            connection.hashCommands().hSetNX(windowKey,
+                                    toBytes(USER_FIELD_PREFIX + code + ":" + user.getKey()), toBytes(user.getValue()));
+                        }
+                    }
+
+                    connection.keyCommands().pExpire(windowKey, ttlMillis);
+                    connection.setCommands().sAdd(roomsKey, toBytes(entry.getKey()));
+                }
+                connection.keyCommands().pExpire(roomsKey, ttlMillis);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("휘발성 이벤트 구간 합산 실패 - 채팅방 수: {}", snapshot.size(), e);
+        }
+    }
+
+    /**
+     * 집계 대기 채팅방을 꺼내고 채팅방별 합산 구간을 원자적으로 가져옴
+     * @return 채팅방 ID -> 합산 구간 필드
+     */
+    private Map<String, Map<String, String>> takeRoomWindows() {
+        try {
+            byte[] roomsKey = toBytes(ChatRedisKey.CHAT_EPHEMERAL_ROOMS);
+            List<byte[]> popped = redisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.setCommands().sPop(roomsKey, MAX_FLUSH_ROOMS));
+            if (popped == null || popped.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            List<String> roomIds = popped.stream().map(ChatEphemeralEventServiceImpl::decode).toList();
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String roomId : roomIds) {
+                    connection.scriptingCommands().eval(TAKE_WINDOW_SCRIPT, ReturnType.MULTI, 1,
+                            toBytes(ChatRedisKey.getEphemeralWindowKey(roomId)));
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+
+            Map<String, Map<String, String>> roomWindows = new LinkedHashMap<>();
+            for (int i = 0; i < roomIds.size(); i++) {
+                Map<String, String> fields = toFieldMap(results.get(i));
+                if (!fields.isEmpty()) {
+                    roomWindows.put(roomIds.get(i), fields);
+                }
+            }
+            return roomWindows;
+
+        } catch (Exception e) {
+            log.error("휘발성 이벤트 구간 조회 실패", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    // ===========================================
+    // 집계 프레임 생성
+    // ===========================================
+
+    /**
+     * 합산 구간 필드(c:{type}=횟수, u:{type}:{userId}=닉네임)로 이벤트 목록 생성
+     */
+    private List<Map<String, Object>> createEvents(Map<String, String> fields) {
+        List<Map<String, Object>> events = new ArrayList<>();
+
+        for (EphemeralEventType type : EphemeralEventType.values()) {
+            String count = fields.get(COUNT_FIELD_PREFIX + type.getCode());
+            if (count == null) {
+                continue;
+            }
+
+            String userPrefix = USER_FIELD_PREFIX + type.getCode() + ":";
+            List<String> nicknames = fields.entrySet().stream()
+                    .filter(field -> field.getKey().startsWith(userPrefix))
+                    .map(Map.Entry::getValue)
+                    .toList();
+
+            Map<String, Object> event = new HashMap<>();
+            event.put("eventType", type.getCode());
+            event.put("count", Long.parseLong(count));
+            event.put("userCount", nicknames.size());
+
+            if (type == EphemeralEventType.TYPING) {
+                event.put("nicknames", nicknames.stream().limit(MAX_TYPING_NICKNAMES).toList());
+                event.put("message", nicknames.size() + "명이 입력 중이에요");
+            } else {
+                event.put("message", nicknames.size() + "명이 " + type.getDescription() + "했어요");
+            }
+
+            events.add(event);
+        }
+
+        return events;
+    }
+
+    /**
+     * 집계 프레임 생성
+     */
+    private Map<String, Object> createAggregatedFrame(String roomId, List<Map<String, Object>> events) {
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("type", "EPHEMERAL_EVENTS");
+        frame.put("roomId", roomId);
+        frame.put("events", events);
+        frame.put("timestamp", KSTTimeUtil.nowAsString());
+        return frame;
+    }
+
+    private static Map<String, String> toFieldMap(Object result) {
+        if (!(result instanceof List<?> values) || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            fields.put(decode((byte[]) values.get(i)), decode((byte[]) values.get(i + 1)));
+        }
+        return fields;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 채팅방별 집계 구간 (compute 내부에서만 변경되므로 동기화 불필요)
+     */
+    private static class RoomWindow {
+        private final Map<EphemeralEventType, EventAggregate> aggregates = new EnumMap<>(EphemeralEventType.class);
+
+        void add(EphemeralEventType type, Long userId, String nickname) {
+            EventAggregate aggregate = aggregates.computeIfAbsent(type, t -> new EventAggregate());
+            aggregate.count++;
+            if (userId != null) {
+                aggregate.users.putIfAbsent(userId, nickname != null ? nickname : "익명");
+            }
+        }
+
+        boolean isEmpty() {
+            return aggregates.isEmpty();
+        }
+    }
+
+    /**
+     * 이벤트 타입별 집계값 (발생 횟수 + 참여 사용자)
+     */
+    private static class EventAggregate {
+        private long count;
+        private final Map<Long, String> users = new LinkedHashMap<>();
+    }
+}
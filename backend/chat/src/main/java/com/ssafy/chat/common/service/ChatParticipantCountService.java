@@ -0,0 +1,64 @@
+package com.ssafy.chat.common.service;
+
+import java.util.Map;
+
+/**
+ * 채팅방 참여자 수 집계 서비스 인터페이스
+ * 경기별 Redis Hash(HINCRBY)로 채팅방 참여자 수를 관리하여
+ * 세션 단위 조회 없이 O(1)로 참여자 수를 제공
+ */
+public interface ChatParticipantCountService {
+
+    // ===========================================
+    // 입장/퇴장 기록 (로컬 델타 누적)
+    // ===========================================
+
+    /**
+     * 채팅방 입장 기록
+     * @param gameId 경기 ID
+     * @param roomId 채팅방 ID
+     */
+    void recordJoin(Long gameId, String roomId);
+
+    /**
+     * 채팅방 퇴장 기록
+     * @param gameId 경기 ID
+     * @param roomId 채팅방 ID
+     */
+    void recordLeave(Long gameId, String roomId);
+
+    // ===========================================
+    // 참여자 수 조회
+    // ===========================================
+
+    /**
+     * 경기의 모든 채팅방 참여자 수 조회 (HGETALL 1회)
+     * @param gameId 경기 ID
+     * @return 채팅방 ID -> 참여자 수 맵
+     */
+    Map<String, Long> getParticipantCounts(Long gameId);
+
+    /**
+     * 특정 채팅방 참여자 수 조회
+     * @param gameId 경기 ID
+     * @param roomId 채팅방 ID
+     * @return 참여자 수
+     */
+    long getParticipantCount(Long gameId, String roomId);
+
+    // ===========================================
+    // 배치 반영 및 정합성 보정
+    // ===========================================
+
+    /**
+     * 누적된 로컬 델타를 Redis에 파이프라인으로 일괄 반영
+     * @return 반영된 채팅방 수
+     */
+    int flushDeltas();
+
+    /**
+     * 세션 Set 기준으로 집계값 정합성 보정
+     * @return 보정된 채팅방 수 (다른 인스턴스가 보정 중이면 0)
+     */
+    int reconcile();
+}
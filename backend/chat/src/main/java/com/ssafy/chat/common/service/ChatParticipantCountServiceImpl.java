@@ -0,0 +1,338 @@
+package com.ssafy.chat.common.service;
+
+import com.ssafy.chat.common.util.ChatRoomTTLManager;
+import com.ssafy.chat.config.ChatConfiguration;
+import com.ssafy.chat.global.constants.ChatRedisKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 참여자 수 집계 서비스 구현체
+ * - 입장/퇴장은 인스턴스 로컬 델타로 누적 후 1초 주기로 HINCRBY 파이프라인 반영
+ * - 경기별 Hash(chat:participant:count:{gameId})로 관리하여 경기 단위 HGETALL 1회 조회
+ * - 분산 세션 Set(SCARD) 기준 주기적 정합성 보정
+ *   세션 Set에는 다른 인스턴스에 아직 반영되지 않은 델타의 세션도 포함되므로, 보정 주기 동안
+ *   어느 인스턴스도 델타를 반영하지 않은(반영 버전이 그대로인) 채팅방만 이전 주기 세션 수로 덮어씀
+ * 집계값은 HINCRBY로 관리되므로 직렬화기를 거치지 않고 원시 문자열로 읽고 쓴다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatParticipantCountServiceImpl implements ChatParticipantCountService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DistributedSessionManagerService distributedSessionManager;
+    private final ChatConfiguration chatConfiguration;
+
+    /** 정합성 보정 락 TTL: 보정 주기보다 짧게 유지 */
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofSeconds(50);
+
+    /** 보정 후보 스냅샷 TTL: 보정 주기보다 길게 유지 (보정이 한동안 멈췄다면 오래된 스냅샷은 버림) */
+    private static final Duration RECONCILE_SNAPSHOT_TTL = Duration.ofMinutes(5);
+
+    private static final String SNAPSHOT_SEPARATOR = "|";
+
+    /**
+     * 보정 스크립트: 스냅샷 이후 델타 반영 버전이 그대로면 스냅샷 세션 수로 덮어씀 (0이면 필드와 경기 매핑 제거)
+     * 버전이 그대로라는 것은 스냅샷 시점에 어느 인스턴스에도 미반영 델타가 없었고,
+     * 이후 생긴 델타(세션 수 변화분)는 아직 반영 전이라는 뜻이므로 반영될 값은 스냅샷 세션 수
+     * KEYS[1] = 경기별 참여자 수 Hash, KEYS[2] = 채팅방-경기 매핑 Hash, KEYS[3] = 경기별 반영 버전 Hash
+     * ARGV[1] = roomId, ARGV[2] = 스냅샷 세션 수, ARGV[3] = 스냅샷 버전
+     */
+    private static final byte[] APPLY_RECONCILE_SCRIPT = toBytes(
+            "local version = redis.call('HGET', KEYS[3], ARGV[1]) or '0' " +
+            "if version ~= ARGV[3] then return 0 end " +
+            "if tonumber(ARGV[2]) <= 0 then " +
+            "  redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "  redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "else " +
+            "  redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "end " +
+            "return 1");
+
+    // 채팅방별 미반영 델타 (roomId -> 경기 ID + 델타)
+    // merge로 원자적으로 누적하며 델타가 0이 되면 항목이 제거되어 채팅방 수만큼 계속 늘어나지 않음
+    private final Map<String, RoomDelta> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordJoin(Long gameId, String roomId) {
+        addDelta(gameId, roomId, 1);
+    }
+
+    @Override
+    public void recordLeave(Long gameId, String roomId) {
+        addDelta(gameId, roomId, -1);
+    }
+
+    @Override
+    public Map<String, Long> getParticipantCounts(Long gameId) {
+        if (gameId == null) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            byte[] key = toBytes(ChatRedisKey.getParticipantCountKey(gameId));
+            Map<byte[], byte[]> entries = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key));
+
+            if (entries == null || entries.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, Long> counts = new HashMap<>();
+            for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                counts.put(decode(entry.getKey()), Math.max(0L, parseCount(entry.getValue())));
+            }
+            return counts;
+
+        } catch (Exception e) {
+            log.error("경기별 참여자 수 조회 실패 - gameId: {}", gameId, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    @Override
+    public long getParticipantCount(Long gameId, String roomId) {
+        if (gameId == null || roomId == null) {
+            return 0L;
+        }
+
+        try {
+            byte[] key = toBytes(ChatRedisKey.getParticipantCountKey(gameId));
+            byte[] field = toBytes(roomId);
+            byte[] value = redisTemplate.execute(
+                    (RedisCallback<byte[]>) connection -> connection.hashCommands().hGet(key, field));
+            return Math.max(0L, parseCount(value));
+
+        } catch (Exception e) {
+            log.error("채팅방 참여자 수 조회 실패 - gameId: {}, roomId: {}", gameId, roomId, e);
+            return 0L;
+        }
+    }
+
+    @Override
+    public int flushDeltas() {
+        if (pendingDeltas.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 델타 스냅샷 (remove로 항목을 원자적으로 가져가며 비움)
+        Map<String, RoomDelta> snapshot = new HashMap<>();
+        for (String roomId : pendingDeltas.keySet()) {
+            RoomDelta pending = pendingDeltas.remove(roomId);
+            if (pending != null && pending.delta() != 0) {
+                snapshot.put(roomId, pending);
+            }
+        }
+
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+
+        // 2. HINCRBY + 매핑 + TTL을 한 번의 파이프라인으로 반영
+        long ttlSeconds = ChatRoomTTLManager.toSeconds(ChatRoomTTLManager.getTTLUntilMidnight());
+        byte[] roomGameKey = toBytes(ChatRedisKey.CHAT_PARTICIPANT_ROOM_GAME);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                Set<Long> touchedGames = new HashSet<>();
+                for (Map.Entry<String, RoomDelta> entry : snapshot.entrySet()) {
+                    String roomId = entry.getKey();
+                    long gameId = entry.getValue().gameId();
+
+                    byte[] countKey = toBytes(ChatRedisKey.getParticipantCountKey(gameId));
+                    connection.hashCommands().hIncrBy(countKey, toBytes(roomId), entry.getValue().delta());
+                    connection.hashCommands().hIncrBy(toBytes(ChatRedisKey.getParticipantVersionKey(gameId)), toBytes(roomId), 1);
+                    connection.hashCommands().hSet(roomGameKey, toBytes(roomId), toBytes(String.valueOf(gameId)));
+                    touchedGames.add(gameId);
+                }
+
+                for (Long gameId : touchedGames) {
+                    connection.keyCommands().expire(toBytes(ChatRedisKey.getParticipantCountKey(gameId)), ttlSeconds);
+                    connection.keyCommands().expire(toBytes(ChatRedisKey.getParticipantVersionKey(gameId)), ttlSeconds);
+                }
+                connection.keyCommands().expire(roomGameKey, ttlSeconds);
+                return null;
+            });
+
+            log.debug("참여자 수 델타 반영 완료 - 채팅방 수: {}", snapshot.size());
+            return snapshot.size();
+
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 재시도하도록 델타 복원
+            snapshot.forEach((roomId, pending) -> pendingDeltas.merge(roomId, pending, RoomDelta::plus));
+            log.error("참여자 수 델타 반영 실패 - 채팅방 수: {}", snapshot.size(), e);
+            return 0;
+        }
+    }
+
+    @Override
+    public int reconcile() {
+        String instanceId = chatConfiguration.getOrGenerateInstanceId();
+
+        try {
+            // 여러 인스턴스가 동시에 보정하지 않도록 락 획득
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(ChatRedisKey.CHAT_PARTICIPANT_RECONCILE_LOCK, instanceId, RECONCILE_LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                log.debug("참여자 수 정합성 보정 건너뜀 - 다른 인스턴스에서 진행 중");
+                return 0;
+            }
+
+            // 이 인스턴스의 미반영 델타를 먼저 반영
+            flushDeltas();
+
+            byte[] roomGameKey = toBytes(ChatRedisKey.CHAT_PARTICIPANT_ROOM_GAME);
+            byte[] snapshotKey = toBytes(ChatRedisKey.CHAT_PARTICIPANT_RECONCILE_SNAPSHOT);
+            Map<byte[], byte[]> roomGames = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(roomGameKey));
+            Map<byte[], byte[]> previousSnapshots = redisTemplate.execute(
+                    (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(snapshotKey));
+
+            if (roomGames == null || roomGames.isEmpty()) {
+                redisTemplate.delete(ChatRedisKey.CHAT_PARTICIPANT_RECONCILE_SNAPSHOT);
+                return 0;
+            }
+
+            List<String> roomIds = new ArrayList<>();
+            Map<String, Long> roomToGame = new HashMap<>();
+            for (Map.Entry<byte[], byte[]> entry : roomGames.entrySet()) {
+                String roomId = decode(entry.getKey());
+                roomIds.add(roomId);
+                roomToGame.put(roomId, parseCount(entry.getValue()));
+            }
+
+            // 1. 이전 주기 스냅샷 이후 반영 버전이 그대로인 채팅방만 보정
+            int reconciledRooms = applyPreviousSnapshots(previousSnapshots, roomToGame, roomGameKey);
+
+            // 2. 다음 주기 보정 후보 스냅샷 (반영 버전을 세션 수보다 먼저 읽어야 그 사이 반영된 델타도 버전 변화로 감지됨)
+            List<Object> currentValues = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String roomId : roomIds) {
+                    Long gameId = roomToGame.get(roomId);
+                    connection.hashCommands().hGet(toBytes(ChatRedisKey.getParticipantVersionKey(gameId)), toBytes(roomId));
+                    connection.hashCommands().hGet(toBytes(ChatRedisKey.getParticipantCountKey(gameId)), toBytes(roomId));
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+            Map<String, Integer> actualCounts = distributedSessionManager.getActiveSessionCounts(roomIds);
+
+            Map<byte[], byte[]> snapshots = new HashMap<>();
+            for (int i = 0; i < roomIds.size(); i++) {
+                String roomId = roomIds.get(i);
+                Integer actual = actualCounts.get(roomId);
+                long version = parseCount((byte[]) currentValues.get(i * 2));
+                long current = parseCount((byte[]) currentValues.get(i * 2 + 1));
+                // 집계값이 일치하는 채팅방은 보정 불필요 (세션이 0이면 경기 매핑 정리를 위해 후보 유지)
+                if (actual == null || (actual == current && actual > 0)) {
+                    continue;
+                }
+                snapshots.put(toBytes(roomId), toBytes(actual + SNAPSHOT_SEPARATOR + version));
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().del(snapshotKey);
+                if (!snapshots.isEmpty()) {
+                    connection.hashCommands().hMSet(snapshotKey, snapshots);
+                    connection.keyCommands().expire(snapshotKey, RECONCILE_SNAPSHOT_TTL.getSeconds());
+                }
+                return null;
+            });
+
+            log.debug("참여자 수 정합성 보정 완료 - 보정: {}, 다음 주기 후보: {}", reconciledRooms, snapshots.size());
+            return reconciledRooms;
+
+        } catch (Exception e) {
+            log.error("참여자 수 정합성 보정 실패", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 이전 주기 스냅샷({세션 수}|{버전}) 기준 보정 - 스냅샷 이후 델타가 반영된 채팅방은 건너뜀
+     * @return 보정된 채팅방 수
+     */
+    private int applyPreviousSnapshots(Map<byte[], byte[]> previousSnapshots, Map<String, Long> roomToGame,
+                                       byte[] roomGameKey) {
+        if (previousSnapshots == null || previousSnapshots.isEmpty()) {
+            return 0;
+        }
+
+        List<String> targetRooms = new ArrayList<>();
+        List<String[]> targetSnapshots = new ArrayList<>();
+        for (Map.Entry<byte[], byte[]> entry : previousSnapshots.entrySet()) {
+            String roomId = decode(entry.getKey());
+            String[] snapshot = decode(entry.getValue()).split("\\" + SNAPSHOT_SEPARATOR, 2);
+            if (roomToGame.containsKey(roomId) && snapshot.length == 2) {
+                targetRooms.add(roomId);
+                targetSnapshots.add(snapshot);
+            }
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < targetRooms.size(); i++) {
+                String roomId = targetRooms.get(i);
+                Long gameId = roomToGame.get(roomId);
+                connection.scriptingCommands().eval(APPLY_RECONCILE_SCRIPT, ReturnType.INTEGER, 3,
+                        toBytes(ChatRedisKey.getParticipantCountKey(gameId)), roomGameKey,
+                        toBytes(ChatRedisKey.getParticipantVersionKey(gameId)),
+                        toBytes(roomId), toBytes(targetSnapshots.get(i)[0]), toBytes(targetSnapshots.get(i)[1]));
+            }
+            return null;
+        });
+
+        return (int) results.stream().filter(result -> result instanceof Long applied && applied == 1L).count();
+    }
+
+    // ===========================================
+    // 내부 헬퍼 메서드
+    // ===========================================
+
+    private void addDelta(Long gameId, String roomId, long delta) {
+        if (gameId == null || roomId == null) {
+            log.debug("경기 정보 없는 채팅방은 참여자 수 집계 제외 - roomId: {}", roomId);
+            return;
+        }
+
+        pendingDeltas.merge(roomId, new RoomDelta(gameId, delta), RoomDelta::plus);
+    }
+
+    private static long parseCount(byte[] value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(value).trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String decode(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 채팅방 미반영 델타 (합이 0이 되면 null을 반환하여 merge 시 항목 제거)
+     */
+    private record RoomDelta(long gameId, long delta) {
+
+        RoomDelta plus(RoomDelta other) {
+            long sum = delta + other.delta;
+            return sum == 0 ? null : new RoomDelta(gameId, sum);
+        }
+    }
+}
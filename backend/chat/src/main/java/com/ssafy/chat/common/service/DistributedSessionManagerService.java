@@ -4,6 +4,7 @@ import com.ssafy.chat.common.dto.SessionInfo;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -54,6 +55,13 @@ public interface DistributedSessionManagerService {
      * @return 활성 세션 수
      */
     int getActiveSessionCount(String roomId);
+
+    /**
+     * 여러 채팅방의 활성 세션 수 일괄 조회 (SCARD 파이프라인 1회)
+     * @param roomIds 채팅방 ID 목록
+     * @return 채팅방 ID -> 활성 세션 수 (조회 실패 시 빈 맵)
+     */
+    Map<String, Integer> getActiveSessionCounts(List<String> roomIds);
     
     /**
      * 특정 서버 인스턴스의 활성 세션 목록 조회
@@ -7,11 +7,13 @@ import com.ssafy.chat.config.ChatConfiguration;
 import com.ssafy.chat.global.constants.ChatRedisKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -171,6 +173,31 @@ public class DistributedSessionManagerServiceImpl implements DistributedSessionM
         }
     }
     
+    @Override
+    public Map<String, Integer> getActiveSessionCounts(List<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String roomId : roomIds) {
+                    connection.setCommands().sCard((ROOM_SESSIONS_KEY + roomId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < roomIds.size(); i++) {
+                Object size = sizes.get(i);
+                counts.put(roomIds.get(i), size instanceof Long count ? count.intValue() : 0);
+            }
+            return counts;
+        } catch (Exception e) {
+            log.error("채팅방 활성 세션 수 일괄 조회 실패 - 채팅방 수: {}", roomIds.size(), e);
+            return Collections.emptyMap();
+        }
+    }
+    
     @Override
     public List<SessionInfo> getActiveSessionsByInstance(String instanceId) {
         try {
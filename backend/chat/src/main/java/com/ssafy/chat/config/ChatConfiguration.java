@@ -79,6 +79,25 @@ public class ChatConfiguration {
      */
     private int trafficMonitoringWindowMinutes = 3;
     
+    // ===========================================
+    // 채팅 메시지 Kafka Producer 설정
+    // ===========================================
+    
+    /**
+     * 채팅 메시지 배치 대기 시간 (기본: 5ms, 짧은 지연으로 배치 효율 확보)
+     */
+    private int messageProducerLingerMs = 5;
+    
+    /**
+     * 채팅 메시지 배치 크기 (기본: 64KB)
+     */
+    private int messageProducerBatchSize = 65536;
+    
+    /**
+     * 채팅 메시지 압축 방식 (기본: lz4)
+     */
+    private String messageProducerCompressionType = "lz4";
+    
     // ===========================================
     // WebSocket 세션 관리 설정
     // ===========================================
@@ -97,7 +116,17 @@ public class ChatConfiguration {
      * 최대 동시 연결 세션 수 (서버 인스턴스당)
      */
     private int maxConcurrentSessions = 10000;
-    
+
+    /**
+     * 세션별 메시지 전송 최대 대기 시간 (기본: 10초, 초과 시 세션 종료, 가상 스레드 모드에서만 적용)
+     */
+    private Duration sessionSendTimeLimit = Duration.ofSeconds(10);
+
+    /**
+     * 세션별 전송 대기 버퍼 최대 크기 (기본: 512KB, 초과 시 세션 종료, 가상 스레드 모드에서만 적용)
+     */
+    private int sessionSendBufferSizeLimit = 512 * 1024;
+
     // ===========================================
     // Redis 관련 설정
     // ===========================================
@@ -131,6 +160,31 @@ public class ChatConfiguration {
      */
     private int maxMatchChatRoomPageSize = 100;
     
+    /**
+     * 휘발성 이벤트(응원, 입력 중) 집계 구간 (기본: 200ms)
+     */
+    private long ephemeralEventWindowMs = 200;
+    
+    /**
+     * 야간 채팅방 정리 청크 크기 (기본: 50개)
+     */
+    private int cleanupChunkSize = 50;
+    
+    /**
+     * 야간 채팅방 정리 청크 리스 시간 (기본: 2분, 만료 시 다른 인스턴스가 재처리)
+     */
+    private Duration cleanupLeaseDuration = Duration.ofMinutes(2);
+    
+    /**
+     * 야간 채팅방 정리 실패 채팅방 최대 시도 횟수 (기본: 3회, 초과 시 실패로 집계)
+     */
+    private int cleanupMaxAttempts = 3;
+    
+    /**
+     * 야간 채팅방 정리 작업 기록 보관 기간 (기본: 2일)
+     */
+    private Duration cleanupJobRetention = Duration.ofDays(2);
+    
     // ===========================================
     // WebSocket 설정
     // ===========================================
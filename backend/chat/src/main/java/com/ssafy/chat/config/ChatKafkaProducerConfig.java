@@ -0,0 +1,59 @@
+package com.ssafy.chat.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka Producer 설정
+ * - 인증 요청, 알림 등 일반 이벤트는 Spring Boot 자동 설정 kafkaTemplate 사용 (spring.kafka.producer.*)
+ * - chatMessageKafkaTemplate: 매칭 채팅 메시지 전용 고처리량 프로파일 (배치 + lz4 압축 + 멱등성)
+ *   defaultCandidate = false로 등록하여 @Qualifier로 지정한 곳에만 주입되고 자동 설정을 대체하지 않음
+ *   Producer 팩토리도 빈으로 등록하여 종료 시 destroy()로 linger 중인 레코드를 flush 후 close
+ */
+@Configuration
+public class ChatKafkaProducerConfig {
+
+    /**
+     * 매칭 채팅 메시지 전용 Producer 팩토리
+     */
+    @Bean(defaultCandidate = false)
+    public DefaultKafkaProducerFactory<String, String> chatMessageProducerFactory(KafkaProperties kafkaProperties,
+                                                                                ChatConfiguration chatConfiguration) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+        props.putAll(chatMessageProducerOverrides(chatConfiguration));
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    /**
+     * 매칭 채팅 메시지 전용 KafkaTemplate
+     */
+    @Bean(defaultCandidate = false)
+    public KafkaTemplate<String, String> chatMessageKafkaTemplate(
+            @Qualifier("chatMessageProducerFactory") ProducerFactory<String, String> chatMessageProducerFactory) {
+        return new KafkaTemplate<>(chatMessageProducerFactory);
+    }
+
+    /**
+     * 채팅 메시지 Producer 튜닝 값
+     * 멱등성은 acks=all, in-flight 5 이하를 요구하며 파티션 내 순서를 보장한다
+     */
+    public static Map<String, Object> chatMessageProducerOverrides(ChatConfiguration chatConfiguration) {
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(ProducerConfig.LINGER_MS_CONFIG, chatConfiguration.getMessageProducerLingerMs());
+        overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, chatConfiguration.getMessageProducerBatchSize());
+        overrides.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, chatConfiguration.getMessageProducerCompressionType());
+        overrides.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        overrides.put(ProducerConfig.ACKS_CONFIG, "all");
+        overrides.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        return overrides;
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -32,6 +33,9 @@ public class RedisConfig {
     @Value("${spring.redis.password:}")
     private String redisPassword;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
@@ -87,6 +91,13 @@ public class RedisConfig {
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+
+        // 가상 스레드 모드: Pub/Sub 메시지 처리(세션 브로드캐스트 등)를 메시지마다 가상 스레드에서 실행
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("redis-listener-");
+            taskExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(taskExecutor);
+        }
         return container;
     }
 }
\ No newline at end of file
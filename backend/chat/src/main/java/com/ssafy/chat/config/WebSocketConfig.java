@@ -1,9 +1,12 @@
 package com.ssafy.chat.config;
 
 import com.ssafy.chat.common.handler.ChatWebSocketHandler;
+import com.ssafy.chat.common.handler.ConcurrentSessionWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
@@ -19,21 +22,31 @@ public class WebSocketConfig implements WebSocketConfigurer {
 
     private final ChatWebSocketHandler chatWebSocketHandler;
     private final WebSocketHandshakeInterceptor webSocketHandshakeInterceptor;
+    private final ChatConfiguration chatConfiguration;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         log.info("WebSocket 핸들러 등록 시작");
 
+        // 가상 스레드 모드(opt-in)에서만 세션 동시 전송 보호 데코레이터 적용
+        // (브로드캐스트/히스토리/에러 응답이 동시에 같은 세션으로 전송될 때 직렬화, 기본 모드는 기존 전송 경로 유지)
+        WebSocketHandler handler = virtualThreadsEnabled
+                ? new ConcurrentSessionWebSocketHandler(chatWebSocketHandler, chatConfiguration)
+                : chatWebSocketHandler;
+
         // 관전 채팅 WebSocket 엔드포인트 (순수 WebSocket - React Native 지원)
-        registry.addHandler(chatWebSocketHandler, "/ws/watch-chat", "/ws/watch-chat/websocket")
+        registry.addHandler(handler, "/ws/watch-chat", "/ws/watch-chat/websocket")
                 .addInterceptors(webSocketHandshakeInterceptor) // 핸드셰이크 인터셉터 추가
                 .setAllowedOriginPatterns("*"); // 인증정보 + 모든 사이트 요청 가능
 
         // 매칭 채팅 WebSocket 엔드포인트 (순수 WebSocket - React Native 지원)
-        registry.addHandler(chatWebSocketHandler, "/ws/match-chat")
+        registry.addHandler(handler, "/ws/match-chat")
                 .addInterceptors(webSocketHandshakeInterceptor) // 핸드셰이크 인터셉터 추가
                 .setAllowedOriginPatterns("*"); // 인증정보 + 모든 사이트 요청 가능
 
-        log.info("WebSocket 핸들러 등록 완료 - /ws/watch-chat, /ws/match-chat");
+        log.info("WebSocket 핸들러 등록 완료 - /ws/watch-chat, /ws/match-chat, 세션 전송 직렬화: {}", virtualThreadsEnabled);
     }
 }
\ No newline at end of file
@@ -22,6 +22,30 @@ public class ChatRedisKey {
     /** 세션별 채팅방 매핑: chat:session:room:{sessionId} (String) */
     public static final String CHAT_SESSION_ROOM_MAPPING = "chat:session:room:";
 
+    /** 경기별 채팅방 참여자 수 집계: chat:participant:count:{gameId} (Hash, field=roomId) */
+    public static final String CHAT_PARTICIPANT_COUNT = "chat:participant:count:";
+
+    /** 채팅방-경기 매핑 (참여자 수 정합성 보정용): chat:participant:room_game (Hash, field=roomId) */
+    public static final String CHAT_PARTICIPANT_ROOM_GAME = "chat:participant:room_game";
+
+    /** 경기별 채팅방 참여자 수 델타 반영 버전: chat:participant:version:{gameId} (Hash, field=roomId, 델타 반영마다 +1) */
+    public static final String CHAT_PARTICIPANT_VERSION = "chat:participant:version:";
+
+    /** 참여자 수 정합성 보정 락: chat:participant:reconcile:lock (String) */
+    public static final String CHAT_PARTICIPANT_RECONCILE_LOCK = "chat:participant:reconcile:lock";
+
+    /** 참여자 수 보정 후보 스냅샷: chat:participant:reconcile:snapshot (Hash, field=roomId, value={세션 수}|{버전}) */
+    public static final String CHAT_PARTICIPANT_RECONCILE_SNAPSHOT = "chat:participant:reconcile:snapshot";
+
+    /** 채팅방별 휘발성 이벤트 집계 구간: chat:ephemeral:window:{roomId} (Hash, 전 인스턴스 합산) */
+    public static final String CHAT_EPHEMERAL_WINDOW = "chat:ephemeral:window:";
+
+    /** 집계 대기 중인 채팅방 목록: chat:ephemeral:rooms (Set) */
+    public static final String CHAT_EPHEMERAL_ROOMS = "chat:ephemeral:rooms";
+
+    /** 휘발성 이벤트 전송 락 (구간당 1개 인스턴스만 전송): chat:ephemeral:flush:lock (String) */
+    public static final String CHAT_EPHEMERAL_FLUSH_LOCK = "chat:ephemeral:flush:lock";
+
     // ===========================================
     // WATCH CHAT 도메인 - 관전 채팅 관련
     // ===========================================
@@ -48,6 +72,9 @@ public class ChatRedisKey {
     /** 날짜별 매칭 채팅방 목록: match:room:list:date:{date} (Set) */
     public static final String MATCH_ROOM_LIST_BY_DATE = "match:room:list:date:";
 
+    /** 날짜별 매칭 채팅방 정리 작업 상태: match:cleanup:job:{date} (Hash) */
+    public static final String MATCH_CLEANUP_JOB = "match:cleanup:job:";
+
 
     // ===========================================
     // AUTH & SESSION 도메인 - 인증 및 세션 관련
@@ -84,6 +111,27 @@ public class ChatRedisKey {
         return CHAT_SESSION_ROOM_MAPPING + sessionId;
     }
 
+    /**
+     * 경기별 채팅방 참여자 수 집계 키 생성
+     */
+    public static String getParticipantCountKey(Long gameId) {
+        return CHAT_PARTICIPANT_COUNT + gameId;
+    }
+
+    /**
+     * 경기별 참여자 수 델타 반영 버전 키 생성
+     */
+    public static String getParticipantVersionKey(Long gameId) {
+        return CHAT_PARTICIPANT_VERSION + gameId;
+    }
+
+    /**
+     * 채팅방 휘발성 이벤트 집계 구간 키 생성
+     */
+    public static String getEphemeralWindowKey(String roomId) {
+        return CHAT_EPHEMERAL_WINDOW + roomId;
+    }
+
     /**
      * 관전 채팅방 정보 키 생성
      */
@@ -120,6 +168,48 @@ public class ChatRedisKey {
     }
 
 
+    /**
+     * 매칭 채팅방 정리 작업 상태 키 생성
+     */
+    public static String getMatchCleanupJobKey(String date) {
+        return MATCH_CLEANUP_JOB + date;
+    }
+
+    /**
+     * 매칭 채팅방 정리 대상 목록 키 생성 (List, 작업 시작 시 스냅샷)
+     */
+    public static String getMatchCleanupRoomsKey(String date) {
+        return MATCH_CLEANUP_JOB + date + ":rooms";
+    }
+
+    /**
+     * 매칭 채팅방 정리 커서 키 생성 (String, 다음 청크 시작 인덱스)
+     */
+    public static String getMatchCleanupCursorKey(String date) {
+        return MATCH_CLEANUP_JOB + date + ":cursor";
+    }
+
+    /**
+     * 매칭 채팅방 정리 청크 리스 키 생성 (ZSet, member={청크 시작 인덱스}:{청크 크기}, score=리스 만료시각)
+     */
+    public static String getMatchCleanupLeasesKey(String date) {
+        return MATCH_CLEANUP_JOB + date + ":leases";
+    }
+
+    /**
+     * 매칭 채팅방 정리 청크 리스 소유자 키 생성 (Hash, {청크 시작 인덱스}:{청크 크기} -> 워커 토큰)
+     */
+    public static String getMatchCleanupLeaseOwnersKey(String date) {
+        return MATCH_CLEANUP_JOB + date + ":lease-owners";
+    }
+
+    /**
+     * 매칭 채팅방 정리 재시도 횟수 키 생성 (Hash, matchId -> 실패 횟수)
+     */
+    public static String getMatchCleanupAttemptsKey(String date) {
+        return MATCH_CLEANUP_JOB + date + ":attempts";
+    }
+
     /**
      * 사용자 세션 정보 키 생성
      */
@@ -5,8 +5,8 @@ import com.ssafy.chat.common.util.KSTTimeUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.chat.match.dto.MatchChatMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -17,32 +17,31 @@ import java.util.Map;
  * 매칭 채팅 kafka producer
  * kafkatemplate을 사용해 kafka 토픽 별로 메세지 발송을 담당하는 컴포넌트
  * matchId별로 토픽을 나누어 채팅방 단위로 메시지를 발송함
+ * 채팅 전용 고처리량 템플릿(chatMessageKafkaTemplate)으로 비동기 발송하고 결과는 콜백으로만 처리
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class MatchChatKafkaProducer {
 
-    // kafka 메시지 전송을 위한 템플릿
+    // kafka 메시지 전송을 위한 템플릿 (배치 + lz4 + 멱등성 프로파일)
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
     private static final String TOPIC_PREFIX = "match-chat-";
+
+    public MatchChatKafkaProducer(@Qualifier("chatMessageKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+                                  ObjectMapper objectMapper) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+    }
+
     /**
      * 채팅 메세지 발송
      */
     public void sendChatMessage(String matchId, MatchChatMessage message){
         try {
-            String topicName = TOPIC_PREFIX + matchId;
             String messageJson = objectMapper.writeValueAsString(message);
-            log.debug("kafka 채팅 메세지 발송 - topic: {}, userID: {}", topicName, message.getUserId());
-            kafkaTemplate.send(topicName, matchId, messageJson)
-                    .whenComplete((result, ex) -> {
-                        if (ex != null) {
-                            log.error("kafka 메세지 발송 실패 - topic: {}, matchID: {}", topicName, matchId, ex);
-                        } else {
-                            log.debug("kafka 메세지 발송 성공 - topic: {}, offset: {}", topicName, result.getRecordMetadata().offset());
-                        }
-                    });
+            log.debug("kafka 채팅 메세지 발송 - matchId: {}, userID: {}", matchId, message.getUserId());
+            send(matchId, messageJson, "메세지");
         } catch (Exception e) {
             log.error("매칭 채팅 메세지 직렬화 실패 - matchID: {}", matchId, e);
         }
@@ -52,17 +51,9 @@ public class MatchChatKafkaProducer {
      */
     public void sendEvent(String matchId, Map<String, Object> event){
         try {
-            String topicName = TOPIC_PREFIX + matchId;
             String eventJson = objectMapper.writeValueAsString(event);
-            log.debug("kafka 이벤트 발송 - topic: {}, type: {}", topicName, event.get("type"));
-            kafkaTemplate.send(topicName, matchId, eventJson)
-                    .whenComplete((result, ex) -> {
-                        if (ex != null) {
-                            log.error("kafka 이벤트 발송 실패 - topic: {}, matchId: {}", topicName, matchId, ex);
-                        } else {
-                            log.debug("kafka 이벤트 발송 성공 - topic: {}, offset: {}", topicName, result.getRecordMetadata().offset());
-                        }
-                    });
+            log.debug("kafka 이벤트 발송 - matchId: {}, type: {}", matchId, event.get("messageType"));
+            send(matchId, eventJson, "이벤트");
         } catch (Exception e){
             log.error("매칭 채팅 이벤트 직렬화 실패 - matchId: {}", matchId, e);
         }
@@ -97,5 +88,18 @@ public class MatchChatKafkaProducer {
         sendEvent(matchId, leaveEvent);
     }
 
-
+    /**
+     * 비동기 발송 (호출 스레드를 막지 않고 실패는 콜백에서 보고)
+     */
+    private void send(String matchId, String payload, String description) {
+        String topicName = TOPIC_PREFIX + matchId;
+        kafkaTemplate.send(topicName, matchId, payload)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("kafka {} 발송 실패 - topic: {}, matchId: {}", description, topicName, matchId, ex);
+                    } else {
+                        log.debug("kafka {} 발송 성공 - topic: {}, offset: {}", description, topicName, result.getRecordMetadata().offset());
+                    }
+                });
+    }
 }
@@ -0,0 +1,49 @@
+package com.ssafy.chat.match.scheduler;
+
+import com.ssafy.chat.common.util.KSTTimeUtil;
+import com.ssafy.chat.match.service.MatchChatCleanupJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매칭 채팅방 야간 정리 워커 스케줄러
+ * 정리 이벤트를 수신하지 않은 인스턴스도 진행 중인 작업의 남은 청크를 병렬 처리하고,
+ * 작업이 자정을 넘기거나 인스턴스 장애로 중단된 경우 전날 작업까지 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchChatCleanupWorkerScheduler {
+
+    private final MatchChatCleanupJobService cleanupJobService;
+
+    /**
+     * 진행 중인 정리 작업 청크 처리 (10초마다)
+     */
+    @Scheduled(fixedDelay = 10000, initialDelay = 30000)
+    public void processRunningJobs() {
+        LocalDate today = KSTTimeUtil.now().toLocalDate();
+
+        for (LocalDate date : List.of(today.minusDays(1), today)) {
+            String targetDate = date.toString();
+            try {
+                if (!cleanupJobService.isJobRunning(targetDate)) {
+                    continue;
+                }
+
+                int processedCount = cleanupJobService.processPendingChunks(targetDate);
+                if (processedCount > 0) {
+                    log.info("매칭 채팅방 정리 워커 처리 완료 - 날짜: {}, 처리: {}", targetDate, processedCount);
+                }
+
+            } catch (Exception e) {
+                log.error("매칭 채팅방 정리 워커 실행 실패 - 날짜: {}", targetDate, e);
+            }
+        }
+    }
+}
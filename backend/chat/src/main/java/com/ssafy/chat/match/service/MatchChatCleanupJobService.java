@@ -0,0 +1,38 @@
+package com.ssafy.chat.match.service;
+
+import java.util.Map;
+
+/**
+ * 매칭 채팅방 야간 정리 작업 서비스
+ * 날짜별 정리 작업을 Redis에 영속화된 커서와 청크 리스로 관리하여
+ * 여러 채팅 인스턴스가 병렬로, 중단 지점부터 재개 가능하게 처리
+ */
+public interface MatchChatCleanupJobService {
+
+    /**
+     * 정리 작업 시작 (이미 시작된 작업이면 무시 - 멱등)
+     * @param targetDate 정리 대상 날짜 (yyyy-MM-dd)
+     */
+    void startJob(String targetDate);
+
+    /**
+     * 남은 청크를 리스 획득 방식으로 처리
+     * @param targetDate 정리 대상 날짜 (yyyy-MM-dd)
+     * @return 이번 호출에서 처리한 채팅방 수
+     */
+    int processPendingChunks(String targetDate);
+
+    /**
+     * 진행 중인 작업 여부 조회
+     * @param targetDate 정리 대상 날짜 (yyyy-MM-dd)
+     * @return 진행 중이면 true
+     */
+    boolean isJobRunning(String targetDate);
+
+    /**
+     * 작업 상태 조회 (status, total, processed, failed, startedAt, finishedAt, durationMs)
+     * @param targetDate 정리 대상 날짜 (yyyy-MM-dd)
+     * @return 작업 상태 맵 (작업이 없으면 빈 맵)
+     */
+    Map<String, String> getJobStatus(String targetDate);
+}
@@ -0,0 +1,414 @@
+package com.ssafy.chat.match.service;
+
+import com.ssafy.chat.config.ChatConfiguration;
+import com.ssafy.chat.global.constants.ChatRedisKey;
+import com.ssafy.chat.global.constants.ErrorCode;
+import com.ssafy.chat.global.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 매칭 채팅방 야간 정리 작업 서비스 구현체
+ * - 작업 생성(스냅샷 + 커서 + 상태)은 Lua 스크립트 1회로 원자적으로 수행 (중간 장애로 작업이 고립되지 않음)
+ * - 청크마다 소유자 토큰이 기록된 리스(ZSet score=만료시각)를 잡고 처리, 만료된 리스는 다른 워커가 회수
+ * - 리스 해제와 진행 건수 반영은 소유자 확인 후 한 번에 수행 (리스를 잃은 워커의 결과는 집계하지 않음)
+ * - 실패한 채팅방은 목록 끝에 다시 넣어 재시도, 최대 시도 횟수를 넘으면 실패로 집계
+ * - 청크는 남은 대상 수만큼만 잘라 할당하므로 커서가 대상 수를 넘지 않음 (재등록된 채팅방도 다음 청크로 할당)
+ * - 채팅방 정리는 멱등하므로 리스 만료로 재처리되어도 안전
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchChatCleanupJobServiceImpl implements MatchChatCleanupJobService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MatchChatService matchChatService;
+    private final KafkaAdmin kafkaAdmin;
+    private final ChatConfiguration chatConfiguration;
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String TOPIC_PREFIX = "match-chat-";
+
+    /**
+     * 작업 생성: 작업 Hash가 없을 때만 스냅샷/커서/상태를 한 번에 기록
+     * KEYS[1] = 작업 Hash, KEYS[2] = 날짜별 채팅방 Set, KEYS[3] = 정리 대상 List, KEYS[4] = 커서,
+     * KEYS[5] = 리스 ZSet, KEYS[6] = 리스 소유자 Hash, KEYS[7] = 재시도 횟수 Hash
+     * ARGV[1] = 시작 시각, ARGV[2] = 시작 인스턴스, ARGV[3] = 보관 기간(초)
+     * @return 대상 채팅방 수 (이미 작업이 있으면 -1)
+     */
+    private static final RedisScript<Long> CREATE_JOB_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end " +
+            "redis.call('DEL', KEYS[3], KEYS[5], KEYS[6], KEYS[7]) " +
+            "local rooms = redis.call('SMEMBERS', KEYS[2]) " +
+            "for i = 1, #rooms do redis.call('RPUSH', KEYS[3], rooms[i]) end " +
+            "redis.call('SET', KEYS[4], 0) " +
+            "redis.call('HSET', KEYS[1], 'startedAt', ARGV[1], 'status', 'RUNNING', 'processed', 0, " +
+            "  'failed', 0, 'owner', ARGV[2], 'total', #rooms) " +
+            "for i = 1, 7 do if i ~= 2 then redis.call('EXPIRE', KEYS[i], ARGV[3]) end end " +
+            "return #rooms",
+            Long.class);
+
+    /**
+     * 청크 획득: 만료된 리스를 먼저 회수하고, 없으면 커서를 전진시켜 새 청크 할당 (소유자 토큰 기록)
+     * 새 청크 크기는 min(청크 크기, 대상 수 - 커서)로 잘라 커서가 대상 수를 넘지 않게 함
+     * 리스 멤버는 "{시작 인덱스}:{청크 크기}"
+     * KEYS[1] = 작업 Hash, KEYS[2] = 리스 ZSet, KEYS[3] = 리스 소유자 Hash, KEYS[4] = 커서
+     * ARGV[1] = 현재 시각, ARGV[2] = 리스 만료 시각, ARGV[3] = 워커 토큰, ARGV[4] = 청크 크기
+     * 리스/소유자 키는 처음 생성될 때 작업 Hash와 같은 TTL 부여
+     * @return {청크 시작 인덱스, 청크 크기, 회수 여부(1/0)} (처리할 청크가 없으면 빈 목록)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_CHUNK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'status') ~= 'RUNNING' then return {} end " +
+            "local total = tonumber(redis.call('HGET', KEYS[1], 'total')) " +
+            "if not total then return {} end " +
+            "local ttl = redis.call('TTL', KEYS[1]) " +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, 1) " +
+            "if #expired > 0 then " +
+            "  redis.call('ZADD', KEYS[2], ARGV[2], expired[1]) " +
+            "  redis.call('HSET', KEYS[3], expired[1], ARGV[3]) " +
+            "  local s, n = string.match(expired[1], '^(%d+):(%d+)$') " +
+            "  return {tonumber(s), tonumber(n), 1} " +
+            "end " +
+            "local start = tonumber(redis.call('GET', KEYS[4]) or '0') " +
+            "if start >= total then return {} end " +
+            "local size = math.min(tonumber(ARGV[4]), total - start) " +
+            "local lease = start .. ':' .. size " +
+            "redis.call('INCRBY', KEYS[4], size) " +
+            "redis.call('ZADD', KEYS[2], ARGV[2], lease) " +
+            "redis.call('HSET', KEYS[3], lease, ARGV[3]) " +
+            "if ttl > 0 then redis.call('EXPIRE', KEYS[2], ttl) redis.call('EXPIRE', KEYS[3], ttl) end " +
+            "return {start, size, 0}",
+            List.class);
+
+    /**
+     * 청크 완료: 리스 소유자가 일치할 때만 리스 해제 + 진행 건수 반영 + 실패 채팅방 재등록
+     * KEYS[1] = 작업 Hash, KEYS[2] = 리스 ZSet, KEYS[3] = 리스 소유자 Hash, KEYS[4] = 정리 대상 List,
+     * KEYS[5] = 재시도 횟수 Hash
+     * ARGV[1] = 리스 멤버("{시작 인덱스}:{청크 크기}"), ARGV[2] = 워커 토큰, ARGV[3] = 성공 건수, ARGV[4] = 최대 시도 횟수,
+     * ARGV[5..] = 실패한 matchId
+     * @return 재시도로 다시 넣은 채팅방 수 (리스를 잃었으면 -1)
+     */
+    private static final RedisScript<Long> COMPLETE_CHUNK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[3], ARGV[1]) ~= ARGV[2] then return -1 end " +
+            "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[3], ARGV[1]) " +
+            "redis.call('HINCRBY', KEYS[1], 'processed', ARGV[3]) " +
+            "local requeued = 0 " +
+            "for i = 5, #ARGV do " +
+            "  if redis.call('HINCRBY', KEYS[5], ARGV[i], 1) < tonumber(ARGV[4]) then " +
+            "    redis.call('RPUSH', KEYS[4], ARGV[i]) " +
+            "    requeued = requeued + 1 " +
+            "  else " +
+            "    redis.call('HINCRBY', KEYS[1], 'failed', 1) " +
+            "  end " +
+            "end " +
+            "if requeued > 0 then redis.call('HINCRBY', KEYS[1], 'total', requeued) end " +
+            "local ttl = redis.call('TTL', KEYS[1]) " +
+            "if #ARGV >= 5 and ttl > 0 then redis.call('EXPIRE', KEYS[5], ttl) end " +
+            "return requeued",
+            Long.class);
+
+    /**
+     * 작업 완료 판정: 커서가 대상 수에 도달했고 남은 리스가 없을 때만 완료 시각/상태 기록
+     * 청크 완료 스크립트의 재등록(대상 수 증가)과 같은 원자 구간에서 판정하므로 재등록된 채팅방을 놓치지 않음
+     * KEYS[1] = 작업 Hash, KEYS[2] = 리스 ZSet, KEYS[3] = 커서
+     * ARGV[1] = 완료 시각
+     * @return 소요 시간(ms) (아직 완료되지 않았거나 다른 워커가 완료 처리했으면 -1)
+     */
+    private static final RedisScript<Long> FINISH_JOB_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'status') ~= 'RUNNING' then return -1 end " +
+            "local total = tonumber(redis.call('HGET', KEYS[1], 'total')) " +
+            "if not total then return -1 end " +
+            "local cursor = tonumber(redis.call('GET', KEYS[3]) or '0') " +
+            "if cursor < total or redis.call('ZCARD', KEYS[2]) > 0 then return -1 end " +
+            "local duration = tonumber(ARGV[1]) - tonumber(redis.call('HGET', KEYS[1], 'startedAt')) " +
+            "redis.call('HSET', KEYS[1], 'finishedAt', ARGV[1], 'durationMs', duration, 'status', 'DONE') " +
+            "return duration",
+            Long.class);
+
+    @Override
+    public void startJob(String targetDate) {
+        String jobKey = ChatRedisKey.getMatchCleanupJobKey(targetDate);
+
+        try {
+            List<String> keys = List.of(
+                    jobKey,
+                    ChatRedisKey.getMatchRoomListByDateKey(targetDate),
+                    ChatRedisKey.getMatchCleanupRoomsKey(targetDate),
+                    ChatRedisKey.getMatchCleanupCursorKey(targetDate),
+                    ChatRedisKey.getMatchCleanupLeasesKey(targetDate),
+                    ChatRedisKey.getMatchCleanupLeaseOwnersKey(targetDate),
+                    ChatRedisKey.getMatchCleanupAttemptsKey(targetDate));
+
+            Long total = redisTemplate.execute(CREATE_JOB_SCRIPT, keys,
+                    String.valueOf(System.currentTimeMillis()),
+                    chatConfiguration.getOrGenerateInstanceId(),
+                    String.valueOf(chatConfiguration.getCleanupJobRetention().getSeconds()));
+
+            // 이미 시작된 작업이면 그대로 재개
+            if (total == null || total < 0) {
+                log.info("이미 시작된 정리 작업 재개 - 날짜: {}, 상태: {}", targetDate, getJobStatus(targetDate));
+                return;
+            }
+
+            log.info("🧹 매칭 채팅방 정리 작업 시작 - 날짜: {}, 대상 채팅방 수: {}, 청크 크기: {}",
+                    targetDate, total, chatConfiguration.getCleanupChunkSize());
+
+        } catch (Exception e) {
+            log.error("정리 작업 시작 실패 - 날짜: {}", targetDate, e);
+            throw new ApiException(ErrorCode.CLEANUP_REDIS_FAILED);
+        }
+    }
+
+    @Override
+    public int processPendingChunks(String targetDate) {
+        int processedRooms = 0;
+
+        ChunkLease lease;
+        while ((lease = claimChunk(targetDate)) != null) {
+            processedRooms += processChunk(targetDate, lease);
+        }
+
+        completeJobIfFinished(targetDate);
+        return processedRooms;
+    }
+
+    @Override
+    public boolean isJobRunning(String targetDate) {
+        Object status = redisTemplate.opsForHash().get(ChatRedisKey.getMatchCleanupJobKey(targetDate), "status");
+        return STATUS_RUNNING.equals(status);
+    }
+
+    @Override
+    public Map<String, String> getJobStatus(String targetDate) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(ChatRedisKey.getMatchCleanupJobKey(targetDate));
+        return entries.entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().toString(), e -> e.getValue().toString()));
+    }
+
+    // ===========================================
+    // 청크 분배 및 처리
+    // ===========================================
+
+    /**
+     * 처리할 청크 획득 (만료된 리스 회수 우선, 없으면 새 청크)
+     * @return 획득한 청크 리스 (처리할 청크가 없으면 null)
+     */
+    private ChunkLease claimChunk(String targetDate) {
+        long now = System.currentTimeMillis();
+        long leaseExpiry = now + chatConfiguration.getCleanupLeaseDuration().toMillis();
+        String token = chatConfiguration.getOrGenerateInstanceId() + ":" + UUID.randomUUID();
+
+        List<?> claimed = redisTemplate.execute(CLAIM_CHUNK_SCRIPT,
+                List.of(ChatRedisKey.getMatchCleanupJobKey(targetDate),
+                        ChatRedisKey.getMatchCleanupLeasesKey(targetDate),
+                        ChatRedisKey.getMatchCleanupLeaseOwnersKey(targetDate),
+                        ChatRedisKey.getMatchCleanupCursorKey(targetDate)),
+                String.valueOf(now),
+                String.valueOf(leaseExpiry),
+                token,
+                String.valueOf(chatConfiguration.getCleanupChunkSize()));
+
+        if (claimed == null || claimed.size() < 3) {
+            return null;
+        }
+
+        long start = ((Number) claimed.get(0)).longValue();
+        int size = ((Number) claimed.get(1)).intValue();
+        if (((Number) claimed.get(2)).longValue() == 1L) {
+            log.warn("만료된 정리 청크 리스 회수 - 날짜: {}, 청크 시작: {}, 크기: {}", targetDate, start, size);
+        }
+        return new ChunkLease(start, size, token);
+    }
+
+    /**
+     * 청크 단위 채팅방 정리
+     * 종료 메시지 일괄 전송 → 1회 대기 → 세션 종료 → 토픽 일괄 삭제 → Redis 키 일괄 삭제
+     * @return 정리에 성공한 채팅방 수
+     */
+    private int processChunk(String targetDate, ChunkLease lease) {
+        long chunkStart = lease.start();
+        long chunkStartTime = System.currentTimeMillis();
+
+        List<String> matchIds = redisTemplate.opsForList()
+                .range(ChatRedisKey.getMatchCleanupRoomsKey(targetDate), chunkStart, chunkStart + lease.size() - 1);
+        if (matchIds == null) {
+            matchIds = List.of();
+        }
+
+        List<String> cleaned = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        try {
+            // 1. 종료 메시지 일괄 전송 후 한 번만 대기
+            for (String matchId : matchIds) {
+                try {
+                    matchChatService.sendSystemMessageToRoom(matchId, "채팅방이 종료되었습니다.");
+                } catch (Exception e) {
+                    log.error("종료 메시지 전송 실패 - matchId: {}", matchId, e);
+                }
+            }
+            if (!matchIds.isEmpty()) {
+                Thread.sleep(1000); // 메시지 전송 완료 보장
+            }
+
+            // 2. WebSocket 세션 강제 종료
+            for (String matchId : matchIds) {
+                try {
+                    matchChatService.forceCloseRoomSessions(matchId);
+                    cleaned.add(matchId);
+                } catch (Exception e) {
+                    log.error("WebSocket 세션 강제 종료 실패 - matchId: {}", matchId, e);
+                    failed.add(matchId);
+                }
+            }
+
+            // 3. Kafka 토픽 일괄 삭제
+            deleteKafkaTopics(cleaned);
+
+            // 4. Redis 키 일괄 정리
+            cleanupRedisKeys(cleaned);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("정리 청크 처리 중 인터럽트 - 날짜: {}, 청크 시작: {} (리스 만료 후 재처리)", targetDate, chunkStart);
+            return 0;
+        } catch (Exception e) {
+            log.error("정리 청크 처리 실패 - 날짜: {}, 청크 시작: {} (리스 만료 후 재처리)", targetDate, chunkStart, e);
+            return 0;
+        }
+
+        // 5. 리스 소유 확인 후 해제 + 진행 상황 기록 + 실패 채팅방 재등록
+        List<String> args = new ArrayList<>(4 + failed.size());
+        args.add(lease.member());
+        args.add(lease.token());
+        args.add(String.valueOf(cleaned.size()));
+        args.add(String.valueOf(chatConfiguration.getCleanupMaxAttempts()));
+        args.addAll(failed);
+
+        Long requeued = redisTemplate.execute(COMPLETE_CHUNK_SCRIPT,
+                List.of(ChatRedisKey.getMatchCleanupJobKey(targetDate),
+                        ChatRedisKey.getMatchCleanupLeasesKey(targetDate),
+                        ChatRedisKey.getMatchCleanupLeaseOwnersKey(targetDate),
+                        ChatRedisKey.getMatchCleanupRoomsKey(targetDate),
+                        ChatRedisKey.getMatchCleanupAttemptsKey(targetDate)),
+                args.toArray());
+
+        if (requeued == null || requeued < 0) {
+            log.warn("정리 청크 리스 상실 - 날짜: {}, 청크 시작: {} (회수한 워커가 집계)", targetDate, chunkStart);
+            return 0;
+        }
+
+        log.info("정리 청크 완료 - 날짜: {}, 청크 시작: {}, 성공: {}, 실패: {}, 재시도 등록: {}, 소요: {}ms",
+                targetDate, chunkStart, cleaned.size(), failed.size(), requeued,
+                System.currentTimeMillis() - chunkStartTime);
+        return cleaned.size();
+    }
+
+    /**
+     * 모든 청크가 할당·처리되었으면 작업 완료 처리 및 실행 리포트 기록
+     */
+    private void completeJobIfFinished(String targetDate) {
+        String jobKey = ChatRedisKey.getMatchCleanupJobKey(targetDate);
+
+        try {
+            // 완료 판정과 상태 기록은 한 워커만, 재등록과 원자적으로 수행
+            Long durationMs = redisTemplate.execute(FINISH_JOB_SCRIPT,
+                    List.of(jobKey,
+                            ChatRedisKey.getMatchCleanupLeasesKey(targetDate),
+                            ChatRedisKey.getMatchCleanupCursorKey(targetDate)),
+                    String.valueOf(System.currentTimeMillis()));
+            if (durationMs == null || durationMs < 0) {
+                return;
+            }
+
+            // 날짜별 목록 키 삭제
+            redisTemplate.delete(ChatRedisKey.getMatchRoomListByDateKey(targetDate));
+            redisTemplate.delete(ChatRedisKey.getMatchCleanupRoomsKey(targetDate));
+
+            Map<String, String> report = getJobStatus(targetDate);
+            log.info("✅ 매칭 채팅방 정리 작업 완료 - 날짜: {}, 대상: {}, 성공: {}, 실패: {}, 소요: {}ms",
+                    targetDate, report.get("total"), report.get("processed"), report.get("failed"), durationMs);
+
+        } catch (Exception e) {
+            log.error("정리 작업 완료 처리 실패 - 날짜: {}", targetDate, e);
+        }
+    }
+
+    // ===========================================
+    // 리소스 정리
+    // ===========================================
+
+    /**
+     * Kafka 토픽 일괄 삭제 (AdminClient 1회 호출)
+     */
+    private void deleteKafkaTopics(List<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+
+        Set<String> topicNames = matchIds.stream()
+                .map(matchId -> TOPIC_PREFIX + matchId)
+                .collect(Collectors.toSet());
+
+        try (AdminClient adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties())) {
+            adminClient.deleteTopics(topicNames).topicNameValues().forEach((topic, future) -> {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    // 이미 삭제된 토픽 등 토픽 삭제 실패는 치명적이지 않으므로 경고만 출력
+                    log.warn("⚠Kafka 토픽 삭제 실패 (무시하고 계속 진행) - topic: {}", topic);
+                }
+            });
+            log.debug("🗑️ Kafka 토픽 일괄 삭제 완료 - 토픽 수: {}", topicNames.size());
+
+        } catch (Exception e) {
+            log.error("Kafka 토픽 일괄 삭제 실패 - 토픽 수: {}", topicNames.size(), e);
+        }
+    }
+
+    /**
+     * Redis 키 일괄 정리
+     */
+    private void cleanupRedisKeys(List<String> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> roomInfoKeys = matchIds.stream()
+                    .map(ChatRedisKey::getMatchRoomInfoKey)
+                    .collect(Collectors.toList());
+            Long roomsDeleted = redisTemplate.delete(roomInfoKeys);
+            Long removedFromList = redisTemplate.opsForZSet()
+                    .remove(ChatRedisKey.MATCH_ROOM_LIST, matchIds.toArray());
+
+            log.debug("🗑Redis 키 일괄 삭제 완료 - roomsDeleted: {}, removedFromList: {}", roomsDeleted, removedFromList);
+
+        } catch (Exception e) {
+            log.error("Redis 키 일괄 삭제 실패 - 채팅방 수: {}", matchIds.size(), e);
+            throw new ApiException(ErrorCode.CLEANUP_REDIS_FAILED);
+        }
+    }
+
+    /**
+     * 획득한 청크 리스 (시작 인덱스 + 청크 크기 + 소유자 토큰)
+     */
+    private record ChunkLease(long start, int size, String token) {
+
+        /** 리스 ZSet/소유자 Hash 멤버 */
+        String member() {
+            return start + ":" + size;
+        }
+    }
+}
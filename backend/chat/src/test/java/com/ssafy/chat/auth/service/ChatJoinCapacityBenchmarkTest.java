@@ -0,0 +1,196 @@
+package com.ssafy.chat.auth.service;
+
+import com.ssafy.chat.common.util.RedisUtil;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 입장 동시 처리 용량 벤치마크
+ * 입장 인증 경로(ChatAuthResultServiceImpl.waitForAuthResult의 폴링 대기)를 실제 내장 Tomcat 위에서 실행하고
+ * 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)의 성공률과 p50/p95/p99 지연 비교
+ * Redis는 첫 조회에서 결과가 없고 다음 폴링에서 결과가 도착하는 상황으로 대체 (입장당 폴링 간격 1회 블로킹)
+ * 실행: ./gradlew test -Pbenchmark --tests '*ChatJoinCapacityBenchmarkTest'
+ */
+@Tag("benchmark")
+class ChatJoinCapacityBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatJoinCapacityBenchmarkTest.class);
+
+    private static final int[] CONCURRENCY = {200, 500, 1000, 2000};
+    private static final Duration JOIN_TIMEOUT = Duration.ofSeconds(3);
+    private static final int AUTH_TIMEOUT_MS = 5000;
+
+    @Test
+    void compareJoinCapacity() throws Exception {
+        List<Result> platform = runMode(false);
+        List<Result> virtual = runMode(true);
+
+        platform.forEach(result -> log.info("{}", result));
+        virtual.forEach(result -> log.info("{}", result));
+
+        // 동시 입장 수가 Tomcat 최대 스레드(200)를 넘으면 가상 스레드 모드가 더 많은 입장을 제한 시간 안에 처리해야 함
+        for (int i = 1; i < CONCURRENCY.length; i++) {
+            assertThat(virtual.get(i).succeeded()).isGreaterThanOrEqualTo(platform.get(i).succeeded());
+        }
+    }
+
+    private List<Result> runMode(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        // application.properties보다 우선하도록 커맨드라인 인자로 전달
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JoinBenchmarkApplication.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.threads.virtual.enabled=" + virtualThreads)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/bench/join");
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                // 워밍업
+                runScenario(client, uri, mode, 100);
+
+                List<Result> results = new ArrayList<>();
+                for (int concurrency : CONCURRENCY) {
+                    results.add(runScenario(client, uri, mode, concurrency));
+                }
+                return results;
+            }
+        }
+    }
+
+    private Result runScenario(HttpClient client, URI uri, String mode, int concurrency) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(JOIN_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        List<CompletableFuture<Long>> joins = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long start = System.nanoTime();
+            joins.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> response.statusCode() == 200 ? System.nanoTime() - start : -1L)
+                    .exceptionally(e -> -1L));
+        }
+
+        List<Long> latencies = new ArrayList<>(concurrency);
+        int failed = 0;
+        for (CompletableFuture<Long> join : joins) {
+            long latency = join.join();
+            if (latency < 0) {
+                failed++;
+            } else {
+                latencies.add(latency);
+            }
+        }
+        Collections.sort(latencies);
+
+        return new Result(mode, concurrency, concurrency - failed, failed,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99));
+    }
+
+    private static double percentile(List<Long> sortedNanos, double p) {
+        if (sortedNanos.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(p * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record Result(String mode, int concurrency, int succeeded, int failed,
+                          double p50Ms, double p95Ms, double p99Ms) {
+        @Override
+        public String toString() {
+            return String.format("[%s] 동시 입장 %d명 - 성공 %d, 타임아웃 %d, p50 %.0fms, p95 %.0fms, p99 %.0fms",
+                    mode, concurrency, succeeded, failed, p50Ms, p95Ms, p99Ms);
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            RedisAutoConfiguration.class,
+            RedisReactiveAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class,
+            KafkaAutoConfiguration.class
+    })
+    static class JoinBenchmarkApplication {
+
+        @Bean
+        ChatAuthResultService chatAuthResultService() {
+            return new ChatAuthResultServiceImpl(new SecondPollRedisUtil());
+        }
+
+        @Bean
+        JoinController joinController(ChatAuthResultService chatAuthResultService) {
+            return new JoinController(chatAuthResultService);
+        }
+    }
+
+    @RestController
+    static class JoinController {
+
+        private final ChatAuthResultService chatAuthResultService;
+
+        JoinController(ChatAuthResultService chatAuthResultService) {
+            this.chatAuthResultService = chatAuthResultService;
+        }
+
+        @PostMapping("/bench/join")
+        Map<String, Object> join() {
+            return chatAuthResultService.waitForAuthResult(UUID.randomUUID().toString(), AUTH_TIMEOUT_MS);
+        }
+    }
+
+    /**
+     * 인증 결과가 두 번째 폴링에서 조회되는 Redis 대체
+     */
+    static class SecondPollRedisUtil extends RedisUtil {
+
+        private final Map<String, Boolean> polled = new ConcurrentHashMap<>();
+
+        SecondPollRedisUtil() {
+            super(null);
+        }
+
+        @Override
+        public Object getValue(String key) {
+            return polled.putIfAbsent(key, Boolean.TRUE) == null ? null : Map.of("success", true);
+        }
+
+        @Override
+        public void deleteKey(String key) {
+            polled.remove(key);
+        }
+    }
+}
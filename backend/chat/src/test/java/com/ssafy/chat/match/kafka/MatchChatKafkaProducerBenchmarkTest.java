@@ -0,0 +1,129 @@
+package com.ssafy.chat.match.kafka;
+
+import com.ssafy.chat.config.ChatConfiguration;
+import com.ssafy.chat.config.ChatKafkaProducerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매칭 채팅 Kafka Producer 벤치마크
+ * 기본 설정 Producer와 채팅 전용 프로파일(배치 + lz4 + 멱등성)의 처리량/p99 지연 비교
+ * 실행: ./gradlew test -Pbenchmark --tests '*MatchChatKafkaProducerBenchmarkTest'
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 1, topics = {MatchChatKafkaProducerBenchmarkTest.DEFAULT_TOPIC, MatchChatKafkaProducerBenchmarkTest.TUNED_TOPIC})
+class MatchChatKafkaProducerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchChatKafkaProducerBenchmarkTest.class);
+
+    static final String DEFAULT_TOPIC = "match-chat-bench-default";
+    static final String TUNED_TOPIC = "match-chat-bench-tuned";
+
+    private static final int WARMUP_MESSAGES = 2_000;
+    private static final int MESSAGES = 20_000;
+    private static final String MATCH_ID = "bench";
+    private static final String PAYLOAD = "{\"messageType\":\"CHAT\",\"roomId\":\"bench\",\"userId\":1,"
+            + "\"nickname\":\"벤치마크\",\"content\":\"오늘 선발 투수 컨디션 좋아 보이네요!\","
+            + "\"timestamp\":1700000000000,\"winFairy\":false,\"profileImgUrl\":null}";
+
+    @Test
+    void compareDefaultAndTunedProducer(EmbeddedKafkaBroker broker) throws Exception {
+        Map<String, Object> defaultProps = baseProducerProps(broker);
+
+        Map<String, Object> tunedProps = baseProducerProps(broker);
+        tunedProps.putAll(ChatKafkaProducerConfig.chatMessageProducerOverrides(new ChatConfiguration()));
+
+        Result defaultResult = run("default", defaultProps, DEFAULT_TOPIC);
+        Result tunedResult = run("chat-tuned", tunedProps, TUNED_TOPIC);
+
+        log.info("{}", defaultResult);
+        log.info("{}", tunedResult);
+
+        assertThat(defaultResult.failed()).isZero();
+        assertThat(tunedResult.failed()).isZero();
+    }
+
+    /**
+     * application.properties의 spring.kafka.producer.* 설정과 동일한 기본 Producer 설정
+     */
+    private Map<String, Object> baseProducerProps(EmbeddedKafkaBroker broker) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.RETRIES_CONFIG, 3);
+        props.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 1000);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        return props;
+    }
+
+    private Result run(String name, Map<String, Object> props, String topic) throws InterruptedException {
+        DefaultKafkaProducerFactory<String, String> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        try {
+            send(kafkaTemplate, topic, WARMUP_MESSAGES, new long[WARMUP_MESSAGES]);
+
+            long[] latencies = new long[MESSAGES];
+            long startNanos = System.nanoTime();
+            int failed = send(kafkaTemplate, topic, MESSAGES, latencies);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            Arrays.sort(latencies);
+            double messagesPerSecond = MESSAGES / (elapsedNanos / 1_000_000_000.0);
+            double p99Millis = latencies[(int) Math.ceil(MESSAGES * 0.99) - 1] / 1_000_000.0;
+            return new Result(name, messagesPerSecond, p99Millis, failed);
+
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    /**
+     * 운영 경로와 동일하게 send + whenComplete 콜백으로 발송하고 전체 ack까지 대기
+     */
+    private int send(KafkaTemplate<String, String> kafkaTemplate, String topic, int count, long[] latencies)
+            throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger failed = new AtomicInteger();
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            long sentAt = System.nanoTime();
+            kafkaTemplate.send(topic, MATCH_ID, PAYLOAD).whenComplete((result, ex) -> {
+                latencies[index] = System.nanoTime() - sentAt;
+                if (ex != null) {
+                    failed.incrementAndGet();
+                }
+                latch.countDown();
+            });
+        }
+
+        assertThat(latch.await(2, TimeUnit.MINUTES)).isTrue();
+        return failed.get();
+    }
+
+    private record Result(String name, double messagesPerSecond, double p99Millis, int failed) {
+        @Override
+        public String toString() {
+            return String.format("[%s] %,.0f msg/s, p99 %.2f ms, failed %d", name, messagesPerSecond, p99Millis, failed);
+        }
+    }
+}
@@ -29,13 +29,16 @@ public class FinishedGameService extends BaseCrawlerService {
 
     private final GameRepository gameRepository;
     private final TeamRankingService teamRankingService;
+    private final GameUpdateEventPublisher gameUpdateEventPublisher;
 
     public FinishedGameService(TeamRepository teamRepository,
                               GameRepository gameRepository,
-                              TeamRankingService teamRankingService) {
+                              TeamRankingService teamRankingService,
+                              GameUpdateEventPublisher gameUpdateEventPublisher) {
         super(teamRepository);
         this.gameRepository = gameRepository;
         this.teamRankingService = teamRankingService;
+        this.gameUpdateEventPublisher = gameUpdateEventPublisher;
     }
 
     /**
@@ -64,6 +67,7 @@ public class FinishedGameService extends BaseCrawlerService {
         
         // 경기 결과가 업데이트되었으면 순위 캐시 갱신
         if (updatedCount > 0) {
+            gameUpdateEventPublisher.publishGamesUpdated(date);
             try {
                 log.info("🏆 경기 결과 업데이트 완료 - 순위 캐시 갱신 시작");
                 teamRankingService.cacheCurrentRanking();
@@ -99,6 +103,10 @@ public class FinishedGameService extends BaseCrawlerService {
         }
         
         log.info("{}개의 진행된 경기 직접 저장 완료", savedCount);
+
+        if (savedCount > 0) {
+            gameUpdateEventPublisher.publishGamesUpdated(date);
+        }
         return savedCount;
     }
 
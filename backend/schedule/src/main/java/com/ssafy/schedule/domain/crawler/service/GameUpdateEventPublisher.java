@@ -0,0 +1,33 @@
+package com.ssafy.schedule.domain.crawler.service;
+
+import com.ssafy.schedule.global.constants.RedisKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경기 정보 변경 이벤트 발행
+ * - 크롤러가 경기 일정/결과를 저장하면 Redis Pub/Sub으로 알려
+ *   bbatty 서버의 당일 경기 캐시를 무효화
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GameUpdateEventPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * @param date 변경된 경기 날짜 (YYYY-MM-DD)
+     */
+    public void publishGamesUpdated(String date) {
+        try {
+            redisTemplate.convertAndSend(RedisKey.GAME_SCHEDULE_UPDATED_CHANNEL, date);
+            log.debug("경기 정보 변경 이벤트 발행: date={}", date);
+        } catch (Exception e) {
+            // 캐시는 주기적으로도 갱신되므로 발행 실패가 크롤링을 막지 않도록 함
+            log.warn("경기 정보 변경 이벤트 발행 실패: date={}, error={}", date, e.getMessage());
+        }
+    }
+}
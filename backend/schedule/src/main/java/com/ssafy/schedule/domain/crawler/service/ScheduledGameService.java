@@ -28,12 +28,15 @@ public class ScheduledGameService extends BaseCrawlerService {
 
     private final GameRepository gameRepository;
     private final ChatCreateScheduler gameEventScheduler;
+    private final GameUpdateEventPublisher gameUpdateEventPublisher;
 
     public ScheduledGameService(TeamRepository teamRepository,
-                               GameRepository gameRepository, ChatCreateScheduler gameEventScheduler) {
+                               GameRepository gameRepository, ChatCreateScheduler gameEventScheduler,
+                               GameUpdateEventPublisher gameUpdateEventPublisher) {
         super(teamRepository);
         this.gameRepository = gameRepository;
         this.gameEventScheduler = gameEventScheduler;
+        this.gameUpdateEventPublisher = gameUpdateEventPublisher;
     }
 
     /**
@@ -60,6 +63,10 @@ public class ScheduledGameService extends BaseCrawlerService {
         }
         
         log.info("{}개의 예정된 경기 일정 저장 완료", savedGames.size());
+
+        if (!savedGames.isEmpty()) {
+            gameUpdateEventPublisher.publishGamesUpdated(date);
+        }
         return savedGames;
     }
 
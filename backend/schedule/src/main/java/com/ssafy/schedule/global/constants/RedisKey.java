@@ -70,4 +70,11 @@ public class RedisKey {
 
     public static final String NEWS_SUMMARY = "news:summary:";
 
+    // ===========================================
+    // GAME 도메인 - 경기 정보 변경 알림
+    // ===========================================
+
+    /** 경기 일정/결과 변경 이벤트 채널 (Pub/Sub, 메시지는 날짜): game:schedule:updated */
+    public static final String GAME_SCHEDULE_UPDATED_CHANNEL = "game:schedule:updated";
+
 }
\ No newline at end of file
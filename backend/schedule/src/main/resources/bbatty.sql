@@ -37,5 +37,7 @@ CREATE TABLE `game` (
             PRIMARY KEY (`id`),
             FOREIGN KEY (`away_team_id`) REFERENCES `team`(`id`) ON DELETE RESTRICT,
             FOREIGN KEY (`home_team_id`) REFERENCES `team`(`id`) ON DELETE RESTRICT,
-            INDEX `idx_date_time` (`date_time` DESC) COMMENT '직관 기록 날짜순 정렬용'
+            INDEX `idx_date_time` (`date_time` DESC) COMMENT '직관 기록 날짜순 정렬용',
+            INDEX `idx_game_home_date_time` (`home_team_id`, `date_time`) COMMENT '홈팀 기간별 경기 조회용',
+            INDEX `idx_game_away_date_time` (`away_team_id`, `date_time`) COMMENT '원정팀 기간별 경기 조회용'
 ) COMMENT='KBO 경기 정보';
\ No newline at end of file